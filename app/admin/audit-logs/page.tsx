@@ -1,14 +1,15 @@
 ﻿"use client"
 
 import { useEffect, useState } from "react"
-import { adminApi, type AuditLog } from "@/lib/api/admin"
+import { adminApi, type AuditLog, type AuditLogFilters } from "@/lib/api/admin"
 import { Card, CardContent, CardDescription, CardHeader, CardTitle } from "@/components/ui/card"
 import { Badge } from "@/components/ui/badge"
 import { Button } from "@/components/ui/button"
+import { Input } from "@/components/ui/input"
 import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from "@/components/ui/select"
-import { ScrollText, Filter, Clock, User, Building2, Calendar, Ticket, Settings, RefreshCw, ChevronDown, ChevronUp } from "lucide-react"
+import { ScrollText, Filter, Clock, User, Building2, Calendar, Ticket, Settings, RefreshCw, ChevronDown, Download } from "lucide-react"
 
-const INITIAL_DISPLAY_COUNT = 10
+const PAGE_SIZES = [25, 50, 100, 200]
 
 const entityTypes = [
     { value: "all", label: "All Types" },
@@ -21,16 +22,24 @@ const entityTypes = [
     { value: "SETTINGS", label: "Settings" },
 ]
 
+// The backend matches the action exactly, so these are the names it logs
 const actionTypes = [
     { value: "all", label: "All Actions" },
-    { value: "CREATED", label: "Created" },
-    { value: "UPDATED", label: "Updated" },
-    { value: "DELETED", label: "Deleted" },
-    { value: "APPROVED", label: "Approved" },
-    { value: "REJECTED", label: "Rejected" },
-    { value: "REGISTERED", label: "Registered" },
-    { value: "CANCELLED", label: "Cancelled" },
-    { value: "BOOKED", label: "Booked" },
+    { value: "USER_REGISTERED", label: "User Registered" },
+    { value: "VENDOR_REGISTERED", label: "Vendor Registered" },
+    { value: "VENDOR_APPROVED", label: "Vendor Approved" },
+    { value: "VENDOR_REJECTED", label: "Vendor Rejected" },
+    { value: "VENUE_CREATED", label: "Venue Created" },
+    { value: "VENUE_UPDATED", label: "Venue Updated" },
+    { value: "VENUE_DELETED", label: "Venue Deleted" },
+    { value: "EVENT_CREATED", label: "Event Created" },
+    { value: "EVENT_UPDATED", label: "Event Updated" },
+    { value: "EVENT_RESCHEDULED", label: "Event Rescheduled" },
+    { value: "EVENT_CANCELLED", label: "Event Cancelled" },
+    { value: "EVENT_DELETED", label: "Event Deleted" },
+    { value: "BOOKING_CREATED", label: "Booking Created" },
+    { value: "BOOKING_CANCELLED", label: "Booking Cancelled" },
+    { value: "SETTINGS_UPDATED", label: "Settings Updated" },
 ]
 
 const getEntityIcon = (entityType: string) => {
@@ -67,52 +76,92 @@ const getActionBadgeVariant = (action: string): "default" | "secondary" | "destr
 
 export default function AdminAuditLogsPage() {
     const [logs, setLogs] = useState<AuditLog[]>([])
-    const [filteredLogs, setFilteredLogs] = useState<AuditLog[]>([])
+    const [nextCursor, setNextCursor] = useState<string | null>(null)
     const [isLoading, setIsLoading] = useState(true)
+    const [loadingMore, setLoadingMore] = useState(false)
+    const [isExporting, setIsExporting] = useState(false)
     const [filterEntityType, setFilterEntityType] = useState("all")
     const [filterAction, setFilterAction] = useState("all")
+    const [performedByInput, setPerformedByInput] = useState("")
+    const [filterPerformedBy, setFilterPerformedBy] = useState("")
+    const [startDate, setStartDate] = useState("")
+    const [endDate, setEndDate] = useState("")
+    const [pageSize, setPageSize] = useState(50)
     const [error, setError] = useState<string | null>(null)
-    const [showAll, setShowAll] = useState(false)
 
+    const filters = (): AuditLogFilters => ({
+        entityType: filterEntityType === "all" ? undefined : filterEntityType,
+        action: filterAction === "all" ? undefined : filterAction,
+        performedBy: filterPerformedBy || undefined,
+        startDate: startDate || undefined,
+        endDate: endDate || undefined,
+    })
+    const isFiltered = filterEntityType !== "all" || filterAction !== "all" || !!filterPerformedBy || !!startDate || !!endDate
+
+    const describeError = (err: any) => {
+        if (err?.statusCode === 401 || err?.message?.includes("401")) {
+            return "Authentication error. Please ensure you are logged in as an admin and the backend is running with the latest code."
+        }
+        if (err?.statusCode === 404 || err?.message?.includes("404")) {
+            return "Audit logs endpoint not found. Please restart the backend server to load new endpoints."
+        }
+        return err?.message || "Failed to load audit logs. Please ensure the backend is running."
+    }
+
+    // First page for the current filters; later pages are appended by loadMore
     const loadLogs = async () => {
         setIsLoading(true)
         setError(null)
         try {
-            let response
-            if (filterEntityType === "all") {
-                response = await adminApi.getAuditLogs()
-            } else {
-                response = await adminApi.getAuditLogsByEntityType(filterEntityType)
-            }
-            const data = Array.isArray(response) ? response : (response as any)?.data || []
-            setLogs(data)
+            const page = await adminApi.getAuditLogs(filters(), undefined, pageSize)
+            setLogs(page.data || [])
+            setNextCursor(page.nextCursor ?? null)
         } catch (err: any) {
             console.error("Failed to load audit logs:", err)
-            if (err?.statusCode === 401 || err?.message?.includes("401")) {
-                setError("Authentication error. Please ensure you are logged in as an admin and the backend is running with the latest code.")
-            } else if (err?.statusCode === 404 || err?.message?.includes("404")) {
-                setError("Audit logs endpoint not found. Please restart the backend server to load new endpoints.")
-            } else {
-                setError(err?.message || "Failed to load audit logs. Please ensure the backend is running.")
-            }
+            setError(describeError(err))
             setLogs([])
+            setNextCursor(null)
         } finally {
             setIsLoading(false)
         }
     }
 
-    useEffect(() => {
-        loadLogs()
-    }, [filterEntityType])
+    const loadMore = async () => {
+        if (!nextCursor) return
+        setLoadingMore(true)
+        try {
+            const page = await adminApi.getAuditLogs(filters(), nextCursor, pageSize)
+            setLogs(prev => [...prev, ...(page.data || [])])
+            setNextCursor(page.nextCursor ?? null)
+        } catch (err: any) {
+            console.error("Failed to load more audit logs:", err)
+            setError(describeError(err))
+        } finally {
+            setLoadingMore(false)
+        }
+    }
 
-    // Apply action filter on loaded logs
-    useEffect(() => {
-        if (filterAction === "all") {
-            setFilteredLogs(logs)
-        } else {
-            setFilteredLogs(logs.filter(log => log.action.includes(filterAction)))
+    const exportLogs = async (format: "csv" | "ndjson") => {
+        setIsExporting(true)
+        try {
+            const blob = await adminApi.exportAuditLogs(filters(), format)
+            const url = URL.createObjectURL(blob)
+            const link = document.createElement("a")
+            link.href = url
+            link.download = `audit-logs-${new Date().toISOString().slice(0, 10)}.${format}`
+            link.click()
+            URL.revokeObjectURL(url)
+        } catch (err: any) {
+            console.error("Failed to export audit logs:", err)
+            setError(describeError(err))
+        } finally {
+            setIsExporting(false)
         }
-    }, [logs, filterAction])
+    }
+
+    useEffect(() => {
+        loadLogs()
+    }, [filterEntityType, filterAction, filterPerformedBy, startDate, endDate, pageSize])
 
     const formatTimeAgo = (dateString: string) => {
         const date = new Date(dateString)
@@ -140,10 +189,20 @@ export default function AdminAuditLogsPage() {
                     </h1>
                     <p className="text-muted-foreground">Track all system activities and changes</p>
                 </div>
-                <Button onClick={loadLogs} variant="outline" className="flex items-center gap-2">
-                    <RefreshCw className={`h-4 w-4 ${isLoading ? "animate-spin" : ""}`} />
-                    Refresh
-                </Button>
+                <div className="flex flex-wrap gap-2">
+                    <Button onClick={() => exportLogs("csv")} variant="outline" className="flex items-center gap-2" disabled={isExporting}>
+                        <Download className="h-4 w-4" />
+                        Export CSV
+                    </Button>
+                    <Button onClick={() => exportLogs("ndjson")} variant="outline" className="flex items-center gap-2" disabled={isExporting}>
+                        <Download className="h-4 w-4" />
+                        Export NDJSON
+                    </Button>
+                    <Button onClick={loadLogs} variant="outline" className="flex items-center gap-2">
+                        <RefreshCw className={`h-4 w-4 ${isLoading ? "animate-spin" : ""}`} />
+                        Refresh
+                    </Button>
+                </div>
             </div>
 
             {/* Filters */}
@@ -186,6 +245,41 @@ export default function AdminAuditLogsPage() {
                                 </SelectContent>
                             </Select>
                         </div>
+                        <div className="w-56">
+                            <label className="text-sm font-medium mb-1 block">Performed By</label>
+                            <Input
+                                placeholder="Email, then press Enter"
+                                value={performedByInput}
+                                onChange={(e) => setPerformedByInput(e.target.value)}
+                                onBlur={() => setFilterPerformedBy(performedByInput.trim())}
+                                onKeyDown={(e) => {
+                                    if (e.key === "Enter") setFilterPerformedBy(performedByInput.trim())
+                                }}
+                            />
+                        </div>
+                        <div className="w-40">
+                            <label className="text-sm font-medium mb-1 block">From</label>
+                            <Input type="date" value={startDate} max={endDate || undefined} onChange={(e) => setStartDate(e.target.value)} />
+                        </div>
+                        <div className="w-40">
+                            <label className="text-sm font-medium mb-1 block">To</label>
+                            <Input type="date" value={endDate} min={startDate || undefined} onChange={(e) => setEndDate(e.target.value)} />
+                        </div>
+                        <div className="w-32">
+                            <label className="text-sm font-medium mb-1 block">Page Size</label>
+                            <Select value={String(pageSize)} onValueChange={(value) => setPageSize(Number(value))}>
+                                <SelectTrigger>
+                                    <SelectValue />
+                                </SelectTrigger>
+                                <SelectContent>
+                                    {PAGE_SIZES.map((size) => (
+                                        <SelectItem key={size} value={String(size)}>
+                                            {size}
+                                        </SelectItem>
+                                    ))}
+                                </SelectContent>
+                            </Select>
+                        </div>
                     </div>
                 </CardContent>
             </Card>
@@ -195,8 +289,8 @@ export default function AdminAuditLogsPage() {
                 <CardHeader>
                     <CardTitle>Activity Log</CardTitle>
                     <CardDescription>
-                        {filteredLogs.length} {filteredLogs.length === 1 ? "entry" : "entries"} found
-                        {(filterEntityType !== "all" || filterAction !== "all") && " (filtered)"}
+                        {logs.length}{nextCursor ? "+" : ""} {logs.length === 1 && !nextCursor ? "entry" : "entries"} found
+                        {isFiltered && " (filtered)"}
                     </CardDescription>
                 </CardHeader>
                 <CardContent>
@@ -221,7 +315,7 @@ export default function AdminAuditLogsPage() {
                                 Try Again
                             </Button>
                         </div>
-                    ) : filteredLogs.length === 0 ? (
+                    ) : logs.length === 0 ? (
                         <div className="text-center py-12 text-muted-foreground">
                             <ScrollText className="h-12 w-12 mx-auto mb-4 opacity-50" />
                             <p className="text-lg font-medium">No audit logs found</p>
@@ -229,7 +323,7 @@ export default function AdminAuditLogsPage() {
                         </div>
                     ) : (
                         <div className="space-y-3">
-                            {(showAll ? filteredLogs : filteredLogs.slice(0, INITIAL_DISPLAY_COUNT)).map((log) => (
+                            {logs.map((log) => (
                                 <div
                                     key={log.id}
                                     className="flex items-start gap-4 p-4 bg-muted/50 rounded-lg hover:bg-muted/70 transition-colors"
@@ -267,25 +361,12 @@ export default function AdminAuditLogsPage() {
                                 </div>
                             ))}
 
-                            {/* View All / Show Less Button */}
-                            {filteredLogs.length > INITIAL_DISPLAY_COUNT && (
+                            {/* Next page, newest first */}
+                            {nextCursor && (
                                 <div className="flex justify-center pt-4">
-                                    <Button
-                                        variant="outline"
-                                        onClick={() => setShowAll(!showAll)}
-                                        className="gap-2"
-                                    >
-                                        {showAll ? (
-                                            <>
-                                                <ChevronUp className="h-4 w-4" />
-                                                Show Less
-                                            </>
-                                        ) : (
-                                            <>
-                                                <ChevronDown className="h-4 w-4" />
-                                                View All ({filteredLogs.length - INITIAL_DISPLAY_COUNT} more)
-                                            </>
-                                        )}
+                                    <Button variant="outline" onClick={loadMore} disabled={loadingMore} className="gap-2">
+                                        <ChevronDown className="h-4 w-4" />
+                                        {loadingMore ? "Loading..." : "Load More"}
                                     </Button>
                                 </div>
                             )}
@@ -1,51 +1,72 @@
 ﻿"use client"
 
 import { useEffect, useState } from "react"
-import { adminApi } from "@/lib/api/admin"
+import { adminApi, type AdminPage, type SystemStats } from "@/lib/api/admin"
+import { AdminPager } from "@/components/admin/admin-pager"
 import { Card, CardContent } from "@/components/ui/card"
 import { Badge } from "@/components/ui/badge"
 import { Input } from "@/components/ui/input"
-import { Button } from "@/components/ui/button"
-import { Calendar, Users, IndianRupee, Search, ChevronDown, ChevronUp } from "lucide-react"
+import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from "@/components/ui/select"
+import { Calendar, Users, IndianRupee, Search } from "lucide-react"
 import type { Booking } from "@/lib/types/booking"
 
-const INITIAL_DISPLAY_COUNT = 10
+const PAGE_SIZE = 25
+
+const STATUSES = ["ALL", "PENDING", "CONFIRMED", "COMPLETED", "CANCELLED"]
+
+const SORTS = [
+  { value: "createdAt:desc", label: "Newest first" },
+  { value: "createdAt:asc", label: "Oldest first" },
+  { value: "bookingDate:desc", label: "Booking date" },
+  { value: "totalAmount:desc", label: "Highest amount" },
+]
 
 export default function AdminBookingsContent() {
-  const [bookings, setBookings] = useState<Booking[]>([])
+  const [result, setResult] = useState<AdminPage<Booking> | null>(null)
+  const [stats, setStats] = useState<SystemStats | null>(null)
+  const [searchInput, setSearchInput] = useState("")
   const [searchTerm, setSearchTerm] = useState("")
+  const [status, setStatus] = useState("ALL")
+  const [sort, setSort] = useState(SORTS[0].value)
+  const [page, setPage] = useState(0)
   const [isLoading, setIsLoading] = useState(true)
-  const [showAll, setShowAll] = useState(false)
+  const [isPaging, setIsPaging] = useState(false)
+
+  const bookings = result?.items ?? []
 
+  // Platform totals come from the stats counters rather than from the page being shown
   useEffect(() => {
-    adminApi
-      .getAllBookings()
-      .then((response) => {
-        // Extract data array from response
-        const data = Array.isArray(response) ? response : (response as any)?.data || []
-        // Sort by most recent first (using id as fallback if no createdAt)
-        const sorted = [...data].sort((a: Booking, b: Booking) => {
-          const dateA = a.createdAt ? new Date(a.createdAt).getTime() : a.id
-          const dateB = b.createdAt ? new Date(b.createdAt).getTime() : b.id
-          return dateB - dateA
-        })
-        setBookings(sorted)
-      })
-      .catch(console.error)
-      .finally(() => setIsLoading(false))
+    adminApi.getStats().then(setStats).catch(console.error)
   }, [])
 
-  const filteredBookings = bookings.filter(
-    (booking) =>
-      booking.id.toString().includes(searchTerm) || booking.status.toLowerCase().includes(searchTerm.toLowerCase()),
-  )
-
-  // Limit displayed bookings unless showAll is true or user is searching
-  const displayedBookings = searchTerm || showAll
-    ? filteredBookings
-    : filteredBookings.slice(0, INITIAL_DISPLAY_COUNT)
+  // Search runs on the server once typing pauses
+  useEffect(() => {
+    const timer = setTimeout(() => {
+      setSearchTerm(searchInput.trim())
+      setPage(0)
+    }, 300)
+    return () => clearTimeout(timer)
+  }, [searchInput])
 
-  const hasMoreBookings = filteredBookings.length > INITIAL_DISPLAY_COUNT
+  useEffect(() => {
+    const [sortField, direction] = sort.split(":")
+    setIsPaging(true)
+    adminApi
+      .listBookings({
+        status: status === "ALL" ? undefined : status,
+        q: searchTerm,
+        page,
+        size: PAGE_SIZE,
+        sort: sortField,
+        direction: direction as "asc" | "desc",
+      })
+      .then(setResult)
+      .catch(console.error)
+      .finally(() => {
+        setIsLoading(false)
+        setIsPaging(false)
+      })
+  }, [status, searchTerm, sort, page])
 
   const getStatusBadgeVariant = (status: string) => {
     switch (status) {
@@ -81,35 +102,55 @@ export default function AdminBookingsContent() {
           <p className="text-muted-foreground">View and manage all platform bookings</p>
         </div>
         <div className="text-right">
-          <p className="text-2xl font-bold">{bookings.length}</p>
-          <p className="text-sm text-muted-foreground">Total Bookings</p>
+          <p className="text-2xl font-bold">
+            {result ? `${result.total.toLocaleString()}${result.totalExact ? "" : "+"}` : 0}
+          </p>
+          <p className="text-sm text-muted-foreground">
+            {status === "ALL" && !searchTerm ? "Total Bookings" : "Matching Bookings"}
+          </p>
         </div>
       </div>
 
-      {/* Search */}
-      <div className="relative">
-        <Search className="absolute left-3 top-1/2 transform -translate-y-1/2 h-4 w-4 text-muted-foreground" />
-        <Input
-          placeholder="Search bookings by ID or status..."
-          value={searchTerm}
-          onChange={(e) => setSearchTerm(e.target.value)}
-          className="pl-10"
-        />
-      </div>
-
-      {/* Showing count info */}
-      {!searchTerm && hasMoreBookings && (
-        <div className="flex items-center justify-between text-sm text-muted-foreground">
-          <span>
-            Showing {showAll ? filteredBookings.length : Math.min(INITIAL_DISPLAY_COUNT, filteredBookings.length)} of {filteredBookings.length} bookings
-            {!showAll && " (most recent)"}
-          </span>
+      {/* Search and filters */}
+      <div className="flex flex-col sm:flex-row gap-3">
+        <div className="relative flex-1">
+          <Search className="absolute left-3 top-1/2 transform -translate-y-1/2 h-4 w-4 text-muted-foreground" />
+          <Input
+            placeholder="Search bookings by ID or customer name..."
+            value={searchInput}
+            onChange={(e) => setSearchInput(e.target.value)}
+            className="pl-10"
+          />
         </div>
-      )}
+        <Select value={status} onValueChange={(value) => { setStatus(value); setPage(0) }}>
+          <SelectTrigger className="sm:w-40">
+            <SelectValue />
+          </SelectTrigger>
+          <SelectContent>
+            {STATUSES.map((option) => (
+              <SelectItem key={option} value={option}>
+                {option === "ALL" ? "All statuses" : option}
+              </SelectItem>
+            ))}
+          </SelectContent>
+        </Select>
+        <Select value={sort} onValueChange={(value) => { setSort(value); setPage(0) }}>
+          <SelectTrigger className="sm:w-44">
+            <SelectValue />
+          </SelectTrigger>
+          <SelectContent>
+            {SORTS.map((option) => (
+              <SelectItem key={option.value} value={option.value}>
+                {option.label}
+              </SelectItem>
+            ))}
+          </SelectContent>
+        </Select>
+      </div>
 
       {/* Bookings Table */}
       <div className="space-y-4">
-        {displayedBookings.length === 0 ? (
+        {bookings.length === 0 ? (
           <Card>
             <CardContent className="flex flex-col items-center justify-center py-12">
               <Calendar className="h-12 w-12 text-muted-foreground/50 mb-4" />
@@ -131,7 +172,7 @@ export default function AdminBookingsContent() {
                 </tr>
               </thead>
               <tbody>
-                {displayedBookings.map((booking) => (
+                {bookings.map((booking) => (
                   <tr key={booking.id} className="border-b border-border hover:bg-muted/50 transition-colors">
                     <td className="py-3 px-4 text-sm font-medium">#{booking.id}</td>
                     <td className="py-3 px-4 text-sm">{booking.userId}</td>
@@ -158,28 +199,7 @@ export default function AdminBookingsContent() {
           </div>
         )}
 
-        {/* View All / Show Less Button */}
-        {!searchTerm && hasMoreBookings && (
-          <div className="flex justify-center pt-4">
-            <Button
-              variant="outline"
-              onClick={() => setShowAll(!showAll)}
-              className="gap-2"
-            >
-              {showAll ? (
-                <>
-                  <ChevronUp className="h-4 w-4" />
-                  Show Less
-                </>
-              ) : (
-                <>
-                  <ChevronDown className="h-4 w-4" />
-                  View All ({filteredBookings.length - INITIAL_DISPLAY_COUNT} more)
-                </>
-              )}
-            </Button>
-          </div>
-        )}
+        <AdminPager page={result} onPageChange={setPage} disabled={isPaging} />
       </div>
 
       {/* Summary Stats */}
@@ -189,7 +209,7 @@ export default function AdminBookingsContent() {
             <div className="flex items-center justify-between">
               <div>
                 <p className="text-sm text-muted-foreground mb-1">Total Bookings</p>
-                <p className="text-2xl font-bold">{bookings.length}</p>
+                <p className="text-2xl font-bold">{(stats?.totalBookings ?? 0).toLocaleString()}</p>
               </div>
               <Calendar className="h-8 w-8 text-primary/50" />
             </div>
@@ -201,7 +221,7 @@ export default function AdminBookingsContent() {
             <div className="flex items-center justify-between">
               <div>
                 <p className="text-sm text-muted-foreground mb-1">Total Revenue</p>
-                <p className="text-2xl font-bold">₹{bookings.reduce((sum, b) => sum + b.totalAmount, 0).toFixed(2)}</p>
+                <p className="text-2xl font-bold">₹{(stats?.totalRevenue ?? 0).toFixed(2)}</p>
               </div>
               <IndianRupee className="h-8 w-8 text-accent/50" />
             </div>
@@ -212,8 +232,8 @@ export default function AdminBookingsContent() {
           <CardContent className="p-6">
             <div className="flex items-center justify-between">
               <div>
-                <p className="text-sm text-muted-foreground mb-1">Confirmed</p>
-                <p className="text-2xl font-bold">{bookings.filter((b) => b.status === "CONFIRMED").length}</p>
+                <p className="text-sm text-muted-foreground mb-1">Active</p>
+                <p className="text-2xl font-bold">{(stats?.activeBookings ?? 0).toLocaleString()}</p>
               </div>
               <Users className="h-8 w-8 text-secondary-foreground/50" />
             </div>
@@ -10,21 +10,11 @@ import { Button } from "@/components/ui/button"
 import { Badge } from "@/components/ui/badge"
 import { Users, Building2, Calendar, DollarSign, TrendingUp, AlertCircle, Ticket, Clock } from "lucide-react"
 import type { SystemStats } from "@/lib/api/admin"
-import type { Venue, Event } from "@/lib/types/booking"
-
-interface BookingData {
-  id: number
-  userId: number
-  venueId?: number
-  eventId?: number
-  totalAmount: number
-  status: string
-  createdAt: string
-}
+import type { Venue, Event, Booking } from "@/lib/types/booking"
 
 export default function AdminDashboardPage() {
   const [stats, setStats] = useState<SystemStats | null>(null)
-  const [recentBookings, setRecentBookings] = useState<BookingData[]>([])
+  const [recentBookings, setRecentBookings] = useState<Booking[]>([])
   const [recentVenues, setRecentVenues] = useState<Venue[]>([])
   const [recentEvents, setRecentEvents] = useState<Event[]>([])
   const [isLoading, setIsLoading] = useState(true)
@@ -38,13 +28,9 @@ export default function AdminDashboardPage() {
 
         // Load recent bookings
         try {
-          const bookingsResponse = await adminApi.getAllBookings()
-          const bookings = Array.isArray(bookingsResponse) ? bookingsResponse : (bookingsResponse as any)?.data || []
-          // Sort by createdAt descending and take top 3 for display
-          const sortedBookings = bookings
-            .sort((a: BookingData, b: BookingData) => new Date(b.createdAt).getTime() - new Date(a.createdAt).getTime())
-            .slice(0, 3)
-          setRecentBookings(sortedBookings)
+          // Newest three, sorted and limited on the server
+          const bookings = await adminApi.listBookings({ size: 3, sort: "createdAt", direction: "desc" })
+          setRecentBookings(bookings.items)
         } catch (e) {
           console.error("Failed to load bookings:", e)
         }
@@ -260,7 +246,7 @@ export default function AdminDashboardPage() {
                       </p>
                       <p className="text-xs text-muted-foreground flex items-center gap-1">
                         <Clock className="h-3 w-3" />
-                        {formatTimeAgo(booking.createdAt)}
+                        {formatTimeAgo(booking.createdAt ?? booking.bookingDate)}
                       </p>
                     </div>
                     <div className="text-right">
@@ -65,17 +65,10 @@ interface Event {
     name: string
 }
 
-interface Vendor {
-    id: number
-    businessName: string
-    email: string
-}
-
 export default function AdminReviewsPage() {
     const [reviews, setReviews] = useState<Review[]>([])
     const [venues, setVenues] = useState<Venue[]>([])
     const [events, setEvents] = useState<Event[]>([])
-    const [vendors, setVendors] = useState<Vendor[]>([])
     const [searchTerm, setSearchTerm] = useState("")
     const [isLoading, setIsLoading] = useState(true)
     const [error, setError] = useState<string | null>(null)
@@ -112,19 +105,6 @@ export default function AdminReviewsPage() {
             setVenues(venuesData)
             setEvents(eventsData)
 
-            // Load vendors (need auth)
-            const token = localStorage.getItem("auth_token")
-            if (token) {
-                const vendorsRes = await fetch(`${API_BASE_URL}/api/admin/vendors`, {
-                    headers: {
-                        "Authorization": `Bearer ${token}`,
-                        "Content-Type": "application/json"
-                    }
-                }).then(r => r.json())
-                const vendorsData = Array.isArray(vendorsRes) ? vendorsRes : vendorsRes?.data || []
-                setVendors(vendorsData)
-            }
-
             setError(null)
         } catch (err: any) {
             console.error("[EventVenue] Failed to load data:", err)
@@ -135,21 +115,21 @@ export default function AdminReviewsPage() {
         }
     }
 
+    // The detailed review listing already carries the vendor; venues and events are the fallback
     const getVendorForReview = (review: Review) => {
-        let vendorId: number | null = null
+        let vendorId: number | null = review.vendorId || null
 
         // Find vendor ID from venue or event
-        if (review.venueId) {
+        if (!vendorId && review.venueId) {
             const venue = venues.find(v => v.id === review.venueId)
             vendorId = venue?.vendorId || null
-        } else if (review.eventId) {
+        } else if (!vendorId && review.eventId) {
             const event = events.find(e => e.id === review.eventId)
             vendorId = event?.vendorId || null
         }
 
         if (vendorId) {
-            const vendor = vendors.find(v => v.id === vendorId)
-            return { id: vendorId, name: vendor?.businessName || `Vendor #${vendorId}` }
+            return { id: vendorId, name: review.vendorName || `Vendor #${vendorId}` }
         }
         return null
     }
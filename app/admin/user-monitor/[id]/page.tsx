@@ -10,6 +10,9 @@ import {
     Ticket, Star, TrendingUp, Clock, MapPin, Coins, Mail, Phone, ChevronDown, ChevronUp
 } from "lucide-react"
 import type { User } from "@/lib/types/auth"
+import { adminApi, type AdminPage, type VendorDashboardSummary } from "@/lib/api/admin"
+import { AdminPager } from "@/components/admin/admin-pager"
+import type { Booking as BookingRow } from "@/lib/types/booking"
 
 interface Booking {
     id: number
@@ -67,6 +70,10 @@ export default function UserDetailPage() {
     const [events, setEvents] = useState<Event[]>([])
     const [allVenues, setAllVenues] = useState<Venue[]>([])
     const [allEvents, setAllEvents] = useState<Event[]>([])
+    const [vendorId, setVendorId] = useState<number | null>(null)
+    const [vendorSummary, setVendorSummary] = useState<VendorDashboardSummary | null>(null)
+    const [receivedBookings, setReceivedBookings] = useState<AdminPage<BookingRow> | null>(null)
+    const [receivedPage, setReceivedPage] = useState(0)
     const [isLoading, setIsLoading] = useState(true)
     const [error, setError] = useState<string | null>(null)
     const [showAllBookings, setShowAllBookings] = useState(false)
@@ -142,20 +149,12 @@ export default function UserDetailPage() {
                             setVenues(allVenuesData.filter((v: Venue) => v.vendorId === vendorId))
                             setEvents(allEventsData.filter((e: Event) => e.vendorId === vendorId))
 
-                            // Also get bookings for vendor's venues/events
                             const venueIds = allVenuesData.filter((v: Venue) => v.vendorId === vendorId).map((v: Venue) => v.id)
                             const eventIds = allEventsData.filter((e: Event) => e.vendorId === vendorId).map((e: Event) => e.id)
 
-                            // Re-fetch all bookings and filter for vendor
-                            const allBookingsRes = await fetch(`${API_BASE_URL}/api/admin/bookings`, { headers })
-                            if (allBookingsRes.ok) {
-                                const allBookingsData = await allBookingsRes.json()
-                                const allBookings = allBookingsData.data || allBookingsData || []
-                                const vendorBookings = allBookings.filter((b: Booking) =>
-                                    venueIds.includes(b.venueId) || eventIds.includes(b.eventId)
-                                )
-                                setBookings(vendorBookings)
-                            }
+                            // Booking and revenue totals are aggregated on the server for the vendor
+                            setVendorId(vendorId)
+                            setVendorSummary(await adminApi.getVendorDashboard(vendorId))
 
                             // Get reviews for vendor's venues and events
                             setReviews(reviews.filter((r: Review) =>
@@ -180,6 +179,15 @@ export default function UserDetailPage() {
         }
     }, [userId])
 
+    // Bookings of the vendor's venues and events, a page at a time
+    useEffect(() => {
+        if (vendorId === null) return
+        adminApi
+            .listBookings({ vendorId, page: receivedPage, size: BOOKINGS_DISPLAY_LIMIT })
+            .then(setReceivedBookings)
+            .catch((err) => console.error("Failed to load vendor bookings:", err))
+    }, [vendorId, receivedPage])
+
     const formatDate = (dateString: string) => {
         if (!dateString) return 'N/A'
         return new Date(dateString).toLocaleDateString('en-IN', {
@@ -197,13 +205,6 @@ export default function UserDetailPage() {
         return event?.name || `Event #${eventId}`
     }
 
-    // Calculate vendor earnings
-    const vendorVenueIds = venues.map(v => v.id)
-    const vendorEventIds = events.map(e => e.id)
-    const vendorBookings = bookings.length > 0 ? bookings :
-        // For vendors, get all bookings for their venues/events
-        []
-
     const totalPointsUsed = bookings.reduce((sum, b) => sum + (b.pointsUsed || 0), 0)
 
     if (isLoading) {
@@ -305,10 +306,13 @@ export default function UserDetailPage() {
                             <CardContent className="p-4 text-center">
                                 <TrendingUp className="h-8 w-8 mx-auto mb-2 text-green-600" />
                                 <div className="text-2xl font-bold text-green-600">
-                                    ₹{bookings.filter(b => b.status === "CONFIRMED" || b.status === "COMPLETED")
-                                        .reduce((sum, b) => sum + (b.totalAmount || 0), 0).toLocaleString()}
+                                    ₹{(vendorSummary?.netRevenue ?? 0).toLocaleString()}
                                 </div>
-                                <p className="text-sm text-muted-foreground">Total Earnings</p>
+                                <p className="text-sm text-muted-foreground">
+                                    {vendorSummary
+                                        ? `Net revenue since ${formatDate(vendorSummary.from)} (${vendorSummary.bookings} bookings)`
+                                        : "Net revenue"}
+                                </p>
                             </CardContent>
                         </Card>
                         <Card className="bg-amber-50 dark:bg-amber-950">
@@ -388,6 +392,53 @@ export default function UserDetailPage() {
                         </CardContent>
                     </Card>
 
+                    {/* Bookings Received */}
+                    <Card>
+                        <CardHeader>
+                            <CardTitle className="flex items-center gap-2">
+                                <Calendar className="h-5 w-5 text-green-600" />
+                                Bookings Received
+                                {receivedBookings && ` (${receivedBookings.total.toLocaleString()}${receivedBookings.totalExact ? "" : "+"})`}
+                            </CardTitle>
+                        </CardHeader>
+                        <CardContent>
+                            {!receivedBookings || receivedBookings.items.length === 0 ? (
+                                <p className="text-muted-foreground text-center py-4">No bookings received</p>
+                            ) : (
+                                <div className="space-y-2">
+                                    {receivedBookings.items.map(booking => (
+                                        <div key={booking.id} className="flex items-center justify-between p-3 bg-muted/50 rounded-lg">
+                                            <div>
+                                                <p className="font-medium flex items-center gap-1">
+                                                    {booking.venueId ? (
+                                                        <><Building2 className="h-4 w-4 text-blue-500" /> {getVenueName(booking.venueId)}</>
+                                                    ) : (
+                                                        <><Ticket className="h-4 w-4 text-purple-500" /> {getEventName(booking.eventId!)}</>
+                                                    )}
+                                                </p>
+                                                <p className="text-sm text-muted-foreground">
+                                                    {booking.userName || `User #${booking.userId}`} • {formatDate(booking.bookingDate)}
+                                                </p>
+                                            </div>
+                                            <div className="text-right">
+                                                <p className="font-medium">₹{booking.totalAmount || 0}</p>
+                                                <Badge
+                                                    variant={booking.status === "CONFIRMED" ? "default" :
+                                                        booking.status === "CANCELLED" ? "destructive" : "secondary"
+                                                    }
+                                                    className="text-xs"
+                                                >
+                                                    {booking.status}
+                                                </Badge>
+                                            </div>
+                                        </div>
+                                    ))}
+                                    <AdminPager page={receivedBookings} onPageChange={setReceivedPage} />
+                                </div>
+                            )}
+                        </CardContent>
+                    </Card>
+
                     {/* Reviews Received */}
                     <Card>
                         <CardHeader>
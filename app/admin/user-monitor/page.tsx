@@ -9,82 +9,80 @@ import { Badge } from "@/components/ui/badge"
 import { Tabs, TabsContent, TabsList, TabsTrigger } from "@/components/ui/tabs"
 import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from "@/components/ui/select"
 import { Users, Search, Eye, Briefcase, User as UserIcon, Coins, Filter, X } from "lucide-react"
-import type { User } from "@/lib/types/auth"
+import { adminApi, type AdminPage, type AdminUser } from "@/lib/api/admin"
+import { AdminPager } from "@/components/admin/admin-pager"
 
-interface Vendor {
-    id: number
-    email: string
-    businessName: string
+const PAGE_SIZE = 25
+
+// Tab -> role filter of the listing
+const TAB_ROLES: Record<string, string | undefined> = {
+    all: undefined,
+    vendors: "VENDOR",
+    users: "USER",
 }
 
+const SORTS = [
+    { value: "createdAt:desc", label: "Newest first" },
+    { value: "createdAt:asc", label: "Oldest first" },
+    { value: "points:desc", label: "Most points" },
+    { value: "points:asc", label: "Fewest points" },
+    { value: "email:asc", label: "Email A-Z" },
+]
+
 export default function AdminUserMonitorPage() {
     const router = useRouter()
-    const [users, setUsers] = useState<User[]>([])
-    const [vendors, setVendors] = useState<Vendor[]>([])
+    const [result, setResult] = useState<AdminPage<AdminUser> | null>(null)
+    const [searchInput, setSearchInput] = useState("")
     const [searchTerm, setSearchTerm] = useState("")
+    const [page, setPage] = useState(0)
     const [isLoading, setIsLoading] = useState(true)
+    const [isPaging, setIsPaging] = useState(false)
     const [activeTab, setActiveTab] = useState("all")
 
     // Advanced filters
     const [showFilters, setShowFilters] = useState(false)
-    const [filterRole, setFilterRole] = useState<string>("all")
-    const [filterMinPoints, setFilterMinPoints] = useState("")
-    const [filterMaxPoints, setFilterMaxPoints] = useState("")
+    const [sort, setSort] = useState(SORTS[0].value)
     const [filterId, setFilterId] = useState("")
-    const [filterVendorId, setFilterVendorId] = useState("")
-    const [filterEmail, setFilterEmail] = useState("")
 
-    const API_BASE_URL = "http://localhost:8080"
+    const users = result?.items ?? []
 
+    // Search runs on the server once typing pauses
     useEffect(() => {
-        const loadData = async () => {
-            try {
-                // Get auth token
-                const token = localStorage.getItem("auth_token")
-                const headers: Record<string, string> = {
-                    "Content-Type": "application/json"
-                }
-                if (token) {
-                    headers["Authorization"] = `Bearer ${token}`
-                }
+        const timer = setTimeout(() => {
+            setSearchTerm(searchInput.trim())
+            setPage(0)
+        }, 300)
+        return () => clearTimeout(timer)
+    }, [searchInput])
 
-                // Fetch all users from backend
-                const res = await fetch(`${API_BASE_URL}/api/admin/users`, { headers })
-                if (res.ok) {
-                    const data = await res.json()
-                    const usersData = data.data || data || []
-                    setUsers(Array.isArray(usersData) ? usersData : [])
-                } else {
-                    console.error("Failed to fetch users:", res.status)
-                    setUsers([])
-                }
-
-                // Fetch all vendors to get Vendor IDs
-                const vendorsRes = await fetch(`${API_BASE_URL}/api/admin/vendors`, { headers })
-                if (vendorsRes.ok) {
-                    const vendorsData = await vendorsRes.json()
-                    const vendorsList = vendorsData.data || vendorsData || []
-                    setVendors(Array.isArray(vendorsList) ? vendorsList : [])
-                }
-            } catch (err) {
+    useEffect(() => {
+        const [sortField, direction] = sort.split(":")
+        setIsPaging(true)
+        adminApi
+            .listUsers({
+                role: TAB_ROLES[activeTab],
+                q: searchTerm,
+                page,
+                size: PAGE_SIZE,
+                sort: sortField,
+                direction: direction as "asc" | "desc",
+            })
+            .then(setResult)
+            .catch((err) => {
                 console.error("Failed to load users:", err)
-                setUsers([])
-            } finally {
+                setResult(null)
+            })
+            .finally(() => {
                 setIsLoading(false)
-            }
-        }
-        loadData()
-    }, [])
-
-    // Create a map of email to vendor ID for quick lookup
-    const vendorMap = new Map<string, number>()
-    vendors.forEach(v => vendorMap.set(v.email.toLowerCase(), v.id))
+                setIsPaging(false)
+            })
+    }, [activeTab, searchTerm, sort, page])
 
     const handleViewDetails = (userId: number) => {
         router.push(`/admin/user-monitor/${userId}`)
     }
 
-    const getDisplayName = (user: User): string => {
+    const getDisplayName = (user: AdminUser): string => {
         if (user.name) return user.name
         if (user.firstName && user.lastName) return `${user.firstName} ${user.lastName}`
         if (user.firstName) return user.firstName
@@ -92,58 +90,23 @@ export default function AdminUserMonitorPage() {
         return user.email.split('@')[0]
     }
 
-    const getVendorId = (user: User): number | null => {
-        if (user.role !== "VENDOR") return null
-        return vendorMap.get(user.email.toLowerCase()) || null
-    }
-
-    const hasActiveFilters = filterRole !== "all" || filterMinPoints || filterMaxPoints || filterId || filterVendorId || filterEmail
+    const hasActiveFilters = sort !== SORTS[0].value || filterId
 
     const clearFilters = () => {
-        setFilterRole("all")
-        setFilterMinPoints("")
-        setFilterMaxPoints("")
+        setSort(SORTS[0].value)
         setFilterId("")
-        setFilterVendorId("")
-        setFilterEmail("")
-        setSearchTerm("")
+        setSearchInput("")
+        setPage(0)
     }
 
-    const filteredUsers = users.filter(user => {
-        // Text search (name or email)
-        const displayName = getDisplayName(user)
-        const matchesSearch = !searchTerm ||
-            displayName.toLowerCase().includes(searchTerm.toLowerCase()) ||
-            user.email.toLowerCase().includes(searchTerm.toLowerCase()) ||
-            user.id.toString().includes(searchTerm)
-
-        // Role filter
-        const matchesRole = filterRole === "all" || user.role === filterRole
-
-        // Points range filter
-        const points = user.points || 0
-        const matchesMinPoints = !filterMinPoints || points >= parseInt(filterMinPoints)
-        const matchesMaxPoints = !filterMaxPoints || points <= parseInt(filterMaxPoints)
-
-        // User ID filter (for USER role or all)
-        const matchesId = !filterId || user.id.toString().includes(filterId)
-
-        // Vendor ID filter (for VENDOR role)
-        const vendorId = getVendorId(user)
-        const matchesVendorId = !filterVendorId || (vendorId && vendorId.toString().includes(filterVendorId))
-
-        // Email filter
-        const matchesEmail = !filterEmail || user.email.toLowerCase().includes(filterEmail.toLowerCase())
-
-        return matchesSearch && matchesRole && matchesMinPoints && matchesMaxPoints && matchesId && matchesVendorId && matchesEmail
-    })
-
-    const allUsersFiltered = filteredUsers.filter(u => u.role !== "ADMIN")
-    const vendorUsers = filteredUsers.filter(u => u.role === "VENDOR")
-    const regularUsers = filteredUsers.filter(u => u.role === "USER")
+    // An exact user ID opens that user directly instead of filtering the list
+    const handleOpenId = () => {
+        const id = parseInt(filterId)
+        if (id > 0) handleViewDetails(id)
+    }
 
-    const renderUserCard = (user: User) => {
-        const vendorId = getVendorId(user)
+    const renderUserCard = (user: AdminUser) => {
+        const vendorId = user.vendorId
 
         return (
             <Card key={user.id} className="hover:shadow-md transition-shadow cursor-pointer" onClick={() => handleViewDetails(user.id)}>
@@ -227,9 +190,9 @@ export default function AdminUserMonitorPage() {
                         <div className="relative flex-1">
                             <Search className="absolute left-3 top-1/2 transform -translate-y-1/2 h-4 w-4 text-muted-foreground" />
                             <Input
-                                placeholder="Search by name, email, or ID..."
-                                value={searchTerm}
-                                onChange={(e) => setSearchTerm(e.target.value)}
+                                placeholder="Search by name, username or email..."
+                                value={searchInput}
+                                onChange={(e) => setSearchInput(e.target.value)}
                                 className="pl-10"
                             />
                         </div>
@@ -240,7 +203,7 @@ export default function AdminUserMonitorPage() {
                         >
                             <Filter className="h-4 w-4" />
                             Filters
-                            {hasActiveFilters && <Badge variant="secondary" className="ml-1 px-1.5 py-0.5 text-xs">{[filterRole !== "all", filterMinPoints, filterMaxPoints, filterId, filterVendorId, filterEmail].filter(Boolean).length}</Badge>}
+                            {hasActiveFilters && <Badge variant="secondary" className="ml-1 px-1.5 py-0.5 text-xs">{[sort !== SORTS[0].value, filterId].filter(Boolean).length}</Badge>}
                         </Button>
                         {hasActiveFilters && (
                             <Button variant="ghost" size="icon" onClick={clearFilters} title="Clear all filters">
@@ -251,126 +214,93 @@ export default function AdminUserMonitorPage() {
 
                     {/* Advanced Filters Panel */}
                     {showFilters && (
-                        <div className="grid grid-cols-2 md:grid-cols-5 gap-4 pt-4 border-t">
+                        <div className="grid grid-cols-2 md:grid-cols-4 gap-4 pt-4 border-t">
                             <div className="space-y-1.5">
-                                <label className="text-xs font-medium text-muted-foreground">Role</label>
-                                <Select value={filterRole} onValueChange={setFilterRole}>
+                                <label className="text-xs font-medium text-muted-foreground">Sort</label>
+                                <Select value={sort} onValueChange={(value) => { setSort(value); setPage(0) }}>
                                     <SelectTrigger>
-                                        <SelectValue placeholder="All Roles" />
+                                        <SelectValue />
                                     </SelectTrigger>
                                     <SelectContent>
-                                        <SelectItem value="all">All Roles</SelectItem>
-                                        <SelectItem value="USER">Users</SelectItem>
-                                        <SelectItem value="VENDOR">Vendors</SelectItem>
+                                        {SORTS.map((option) => (
+                                            <SelectItem key={option.value} value={option.value}>
+                                                {option.label}
+                                            </SelectItem>
+                                        ))}
                                     </SelectContent>
                                 </Select>
                             </div>
-                            {/* User ID - show for Users or All Roles */}
-                            {(filterRole === "all" || filterRole === "USER") && (
-                                <div className="space-y-1.5">
-                                    <label className="text-xs font-medium text-muted-foreground">User ID</label>
+                            <div className="space-y-1.5">
+                                <label className="text-xs font-medium text-muted-foreground">User ID</label>
+                                <div className="flex gap-2">
                                     <Input
-                                        placeholder="Filter by User ID..."
+                                        type="number"
+                                        placeholder="Open by User ID..."
                                         value={filterId}
                                         onChange={(e) => setFilterId(e.target.value)}
+                                        onKeyDown={(e) => { if (e.key === "Enter") handleOpenId() }}
                                         className="h-10"
                                     />
+                                    <Button variant="outline" onClick={handleOpenId} disabled={!filterId}>
+                                        Open
+                                    </Button>
                                 </div>
-                            )}
-                            {/* Vendor ID - show for Vendors or All Roles */}
-                            {(filterRole === "all" || filterRole === "VENDOR") && (
-                                <div className="space-y-1.5">
-                                    <label className="text-xs font-medium text-muted-foreground">Vendor ID</label>
-                                    <Input
-                                        placeholder="Filter by Vendor ID..."
-                                        value={filterVendorId}
-                                        onChange={(e) => setFilterVendorId(e.target.value)}
-                                        className="h-10"
-                                    />
-                                </div>
-                            )}
-                            <div className="space-y-1.5">
-                                <label className="text-xs font-medium text-muted-foreground">Email</label>
-                                <Input
-                                    placeholder="Filter by email..."
-                                    value={filterEmail}
-                                    onChange={(e) => setFilterEmail(e.target.value)}
-                                    className="h-10"
-                                />
-                            </div>
-                            <div className="space-y-1.5">
-                                <label className="text-xs font-medium text-muted-foreground">Min Points</label>
-                                <Input
-                                    type="number"
-                                    placeholder="0"
-                                    value={filterMinPoints}
-                                    onChange={(e) => setFilterMinPoints(e.target.value)}
-                                    className="h-10"
-                                />
-                            </div>
-                            <div className="space-y-1.5">
-                                <label className="text-xs font-medium text-muted-foreground">Max Points</label>
-                                <Input
-                                    type="number"
-                                    placeholder="∞"
-                                    value={filterMaxPoints}
-                                    onChange={(e) => setFilterMaxPoints(e.target.value)}
-                                    className="h-10"
-                                />
                             </div>
                         </div>
                     )}
 
                     {/* Filter Results Info */}
-                    {(searchTerm || hasActiveFilters) && (
+                    {searchTerm && result && (
                         <div className="text-sm text-muted-foreground">
-                            Found {allUsersFiltered.length} user{allUsersFiltered.length !== 1 ? 's' : ''} matching your criteria
+                            Found {result.total.toLocaleString()}{result.totalExact ? "" : "+"} user{result.total !== 1 ? 's' : ''} matching your search
                         </div>
                     )}
                 </CardContent>
             </Card>
 
             {/* Tabs */}
-            <Tabs value={activeTab} onValueChange={setActiveTab}>
+            <Tabs value={activeTab} onValueChange={(tab) => { setActiveTab(tab); setPage(0) }}>
                 <TabsList className="grid w-full grid-cols-3">
                     <TabsTrigger value="all" className="gap-2">
                         <Users className="h-4 w-4" />
-                        All ({allUsersFiltered.length})
+                        All
                     </TabsTrigger>
                     <TabsTrigger value="vendors" className="gap-2">
                         <Briefcase className="h-4 w-4" />
-                        Vendors ({vendorUsers.length})
+                        Vendors
                     </TabsTrigger>
                     <TabsTrigger value="users" className="gap-2">
                         <UserIcon className="h-4 w-4" />
-                        Users ({regularUsers.length})
+                        Users
                     </TabsTrigger>
                 </TabsList>
 
                 <TabsContent value="all" className="mt-6 space-y-3">
-                    {allUsersFiltered.length === 0 ? (
+                    {users.length === 0 ? (
                         <Card><CardContent className="text-center py-8 text-muted-foreground">No users found</CardContent></Card>
                     ) : (
-                        allUsersFiltered.map(renderUserCard)
+                        users.map(renderUserCard)
                     )}
                 </TabsContent>
 
                 <TabsContent value="vendors" className="mt-6 space-y-3">
-                    {vendorUsers.length === 0 ? (
+                    {users.length === 0 ? (
                         <Card><CardContent className="text-center py-8 text-muted-foreground">No vendors found</CardContent></Card>
                     ) : (
-                        vendorUsers.map(renderUserCard)
+                        users.map(renderUserCard)
                     )}
                 </TabsContent>
 
                 <TabsContent value="users" className="mt-6 space-y-3">
-                    {regularUsers.length === 0 ? (
+                    {users.length === 0 ? (
                         <Card><CardContent className="text-center py-8 text-muted-foreground">No users found</CardContent></Card>
                     ) : (
-                        regularUsers.map(renderUserCard)
+                        users.map(renderUserCard)
                     )}
                 </TabsContent>
             </Tabs>
+
+            <AdminPager page={result} onPageChange={setPage} disabled={isPaging} />
         </div>
     )
 }
@@ -1,12 +1,14 @@
 ﻿"use client"
 
 import { useEffect, useState } from "react"
-import { adminApi } from "@/lib/api/admin"
+import { adminApi, type AdminPage } from "@/lib/api/admin"
+import { AdminPager } from "@/components/admin/admin-pager"
 import { Card, CardContent } from "@/components/ui/card"
 import { Button } from "@/components/ui/button"
 import { Input } from "@/components/ui/input"
 import { Badge } from "@/components/ui/badge"
 import { Tabs, TabsContent, TabsList, TabsTrigger } from "@/components/ui/tabs"
+import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from "@/components/ui/select"
 import { Users, Coins, Search, Trash2, Shield, Briefcase, User as UserIcon, AlertTriangle } from "lucide-react"
 import type { User } from "@/lib/types/auth"
 import {
@@ -29,10 +31,32 @@ import {
 } from "@/components/ui/alert-dialog"
 import { Label } from "@/components/ui/label"
 
+const PAGE_SIZE = 25
+
+// Tab -> role filter of the listing
+const TAB_ROLES: Record<string, string | undefined> = {
+  all: undefined,
+  admins: "ADMIN",
+  vendors: "VENDOR",
+  users: "USER",
+}
+
+const SORTS = [
+  { value: "createdAt:desc", label: "Newest first" },
+  { value: "createdAt:asc", label: "Oldest first" },
+  { value: "email:asc", label: "Email A-Z" },
+  { value: "username:asc", label: "Username A-Z" },
+  { value: "points:desc", label: "Most points" },
+]
+
 export default function AdminUsersPage() {
-  const [users, setUsers] = useState<User[]>([])
+  const [result, setResult] = useState<AdminPage<User> | null>(null)
+  const [searchInput, setSearchInput] = useState("")
   const [searchTerm, setSearchTerm] = useState("")
+  const [sort, setSort] = useState(SORTS[0].value)
+  const [page, setPage] = useState(0)
   const [isLoading, setIsLoading] = useState(true)
+  const [isPaging, setIsPaging] = useState(false)
   const [selectedUser, setSelectedUser] = useState<User | null>(null)
   const [deleteUser, setDeleteUser] = useState<User | null>(null)
   const [pointsToAdjust, setPointsToAdjust] = useState(0)
@@ -40,15 +64,39 @@ export default function AdminUsersPage() {
   const [activeTab, setActiveTab] = useState("all")
   const [isDeleting, setIsDeleting] = useState(false)
 
+  const users = result?.items ?? []
+  const setUsers = (items: User[]) => setResult((current) => (current ? { ...current, items } : current))
+
+  // Search runs on the server once typing pauses
+  useEffect(() => {
+    const timer = setTimeout(() => {
+      setSearchTerm(searchInput.trim())
+      setPage(0)
+    }, 300)
+    return () => clearTimeout(timer)
+  }, [searchInput])
+
   useEffect(() => {
+    const [sortField, direction] = sort.split(":")
+    setIsPaging(true)
     adminApi
-      .getAllUsers()
-      .then(setUsers)
+      .listUsers({
+        role: TAB_ROLES[activeTab],
+        q: searchTerm,
+        page,
+        size: PAGE_SIZE,
+        sort: sortField,
+        direction: direction as "asc" | "desc",
+      })
+      .then(setResult)
       .catch((err) => {
         console.error("[EventVenue] Failed to load users:", err)
       })
-      .finally(() => setIsLoading(false))
-  }, [])
+      .finally(() => {
+        setIsLoading(false)
+        setIsPaging(false)
+      })
+  }, [activeTab, searchTerm, sort, page])
 
   const handleDeleteConfirm = async () => {
     if (!deleteUser) return
@@ -90,23 +138,10 @@ export default function AdminUsersPage() {
     return user.email.split('@')[0]
   }
 
-  // Filter users by search term
-  const filteredUsers = users.filter(
-    (user) => {
-      const displayName = getDisplayName(user)
-      return displayName.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        user.email.toLowerCase().includes(searchTerm.toLowerCase())
-    }
-  )
-
-  // Categorize users by role
-  const allUsers = filteredUsers
-  const adminUsers = filteredUsers.filter(u => u.role === "ADMIN")
-  // Show ALL vendors (verified and unverified) so admin can manage them
-  const vendorUsers = filteredUsers.filter(u => u.role === "VENDOR")
-  const verifiedVendors = vendorUsers.filter(u => u.isVerified)
-  const unverifiedVendors = vendorUsers.filter(u => !u.isVerified)
-  const regularUsers = filteredUsers.filter(u => u.role === "USER")
+  // The listing is already filtered by the tab's role on the server
+  const verifiedVendors = users.filter(u => u.isVerified)
+  const unverifiedVendors = users.filter(u => !u.isVerified)
+  const totalLabel = result ? `${result.total.toLocaleString()}${result.totalExact ? "" : "+"}` : "0"
 
   const renderUsersList = (usersList: User[], emptyMessage: string) => {
     if (usersList.length === 0) {
@@ -216,68 +251,84 @@ export default function AdminUsersPage() {
           <p className="text-muted-foreground">Manage user accounts, roles, and points</p>
         </div>
         <div className="text-right">
-          <div className="text-2xl font-bold">{users.length}</div>
-          <div className="text-sm text-muted-foreground">Total Users</div>
+          <div className="text-2xl font-bold">{totalLabel}</div>
+          <div className="text-sm text-muted-foreground">{activeTab === "all" && !searchTerm ? "Total Users" : "Matching Users"}</div>
         </div>
       </div>
 
-      {/* Search */}
-      <div className="relative">
-        <Search className="absolute left-3 top-1/2 transform -translate-y-1/2 h-4 w-4 text-muted-foreground" />
-        <Input
-          placeholder="Search users by name or email..."
-          value={searchTerm}
-          onChange={(e) => setSearchTerm(e.target.value)}
-          className="pl-10"
-        />
+      {/* Search and sort */}
+      <div className="flex flex-col sm:flex-row gap-3">
+        <div className="relative flex-1">
+          <Search className="absolute left-3 top-1/2 transform -translate-y-1/2 h-4 w-4 text-muted-foreground" />
+          <Input
+            placeholder="Search users by name, username or email..."
+            value={searchInput}
+            onChange={(e) => setSearchInput(e.target.value)}
+            className="pl-10"
+          />
+        </div>
+        <Select value={sort} onValueChange={(value) => { setSort(value); setPage(0) }}>
+          <SelectTrigger className="sm:w-48">
+            <SelectValue />
+          </SelectTrigger>
+          <SelectContent>
+            {SORTS.map((option) => (
+              <SelectItem key={option.value} value={option.value}>
+                {option.label}
+              </SelectItem>
+            ))}
+          </SelectContent>
+        </Select>
       </div>
 
       {/* User Categories Tabs */}
-      <Tabs value={activeTab} onValueChange={setActiveTab} className="w-full">
+      <Tabs value={activeTab} onValueChange={(tab) => { setActiveTab(tab); setPage(0) }} className="w-full">
         <TabsList className="grid w-full grid-cols-4">
           <TabsTrigger value="all" className="gap-2">
             <Users className="h-4 w-4" />
-            All ({allUsers.length})
+            All
           </TabsTrigger>
           <TabsTrigger value="admins" className="gap-2">
             <Shield className="h-4 w-4" />
-            Admins ({adminUsers.length})
+            Admins
           </TabsTrigger>
           <TabsTrigger value="vendors" className="gap-2">
             <Briefcase className="h-4 w-4" />
-            Vendors ({vendorUsers.length})
+            Vendors
           </TabsTrigger>
           <TabsTrigger value="users" className="gap-2">
             <UserIcon className="h-4 w-4" />
-            Users ({regularUsers.length})
+            Users
           </TabsTrigger>
         </TabsList>
 
         <TabsContent value="all" className="mt-6">
-          {renderUsersList(allUsers, "No users found")}
+          {renderUsersList(users, "No users found")}
         </TabsContent>
 
         <TabsContent value="admins" className="mt-6">
-          {renderUsersList(adminUsers, "No admin users found")}
+          {renderUsersList(users, "No admin users found")}
         </TabsContent>
 
         <TabsContent value="vendors" className="mt-6">
           <div className="mb-4 flex gap-2">
             <Badge variant="default" className="text-xs">
-              {verifiedVendors.length} Verified
+              {verifiedVendors.length} Verified on this page
             </Badge>
             <Badge variant="secondary" className="text-xs">
-              {unverifiedVendors.length} Unverified
+              {unverifiedVendors.length} Unverified on this page
             </Badge>
           </div>
-          {renderUsersList(vendorUsers, "No vendors found")}
+          {renderUsersList(users, "No vendors found")}
         </TabsContent>
 
         <TabsContent value="users" className="mt-6">
-          {renderUsersList(regularUsers, "No regular users found")}
+          {renderUsersList(users, "No regular users found")}
         </TabsContent>
       </Tabs>
 
+      <AdminPager page={result} onPageChange={setPage} disabled={isPaging} />
+
       {/* Points Adjustment Dialog */}
       <Dialog open={!!selectedUser} onOpenChange={() => setSelectedUser(null)}>
         <DialogContent>
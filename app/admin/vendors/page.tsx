@@ -1,30 +1,56 @@
 ﻿"use client"
 
 import { useEffect, useState } from "react"
-import { adminApi } from "@/lib/api/admin"
+import { adminApi, type AdminPage } from "@/lib/api/admin"
+import { AdminPager } from "@/components/admin/admin-pager"
 import { Card, CardContent } from "@/components/ui/card"
 import { Button } from "@/components/ui/button"
 import { Badge } from "@/components/ui/badge"
+import { Input } from "@/components/ui/input"
 import { Tabs, TabsContent, TabsList, TabsTrigger } from "@/components/ui/tabs"
-import { Building2, Check, X, Trash2 } from "lucide-react"
+import { Building2, Check, X, Trash2, Search } from "lucide-react"
 import type { Vendor } from "@/lib/types/auth"
 
+const PAGE_SIZE = 25
+
 export default function AdminVendorsPage() {
-  const [vendors, setVendors] = useState<Vendor[]>([])
+  const [result, setResult] = useState<AdminPage<Vendor> | null>(null)
+  const [status, setStatus] = useState("pending")
+  const [searchInput, setSearchInput] = useState("")
+  const [searchTerm, setSearchTerm] = useState("")
+  const [page, setPage] = useState(0)
   const [isLoading, setIsLoading] = useState(true)
+  const [isPaging, setIsPaging] = useState(false)
+
+  const vendors = result?.items ?? []
+  const setVendors = (items: Vendor[]) => setResult((current) => (current ? { ...current, items } : current))
 
+  // Search runs on the server once typing pauses
   useEffect(() => {
+    const timer = setTimeout(() => {
+      setSearchTerm(searchInput.trim())
+      setPage(0)
+    }, 300)
+    return () => clearTimeout(timer)
+  }, [searchInput])
+
+  useEffect(() => {
+    setIsPaging(true)
     adminApi
-      .getAllVendors()
-      .then(setVendors)
+      .listVendors({ status: status.toUpperCase(), q: searchTerm, page, size: PAGE_SIZE })
+      .then(setResult)
       .catch(() => {})
-      .finally(() => setIsLoading(false))
-  }, [])
+      .finally(() => {
+        setIsLoading(false)
+        setIsPaging(false)
+      })
+  }, [status, searchTerm, page])
 
+  // A vendor whose status changes leaves the tab it was listed under
   const handleApprove = async (id: number) => {
     try {
       await adminApi.approveVendor(id)
-      setVendors(vendors.map((v) => (v.id === id ? { ...v, status: "APPROVED" as const } : v)))
+      setVendors(vendors.filter((v) => v.id !== id))
     } catch (error) {
       alert("Failed to approve vendor")
     }
@@ -34,7 +60,7 @@ export default function AdminVendorsPage() {
     if (!confirm("Are you sure you want to reject this vendor?")) return
     try {
       await adminApi.rejectVendor(id)
-      setVendors(vendors.map((v) => (v.id === id ? { ...v, status: "REJECTED" as const } : v)))
+      setVendors(vendors.filter((v) => v.id !== id))
     } catch (error) {
       alert("Failed to reject vendor")
     }
@@ -50,10 +76,6 @@ export default function AdminVendorsPage() {
     }
   }
 
-  const pendingVendors = vendors.filter((v) => v.status === "PENDING")
-  const approvedVendors = vendors.filter((v) => v.status === "APPROVED")
-  const rejectedVendors = vendors.filter((v) => v.status === "REJECTED")
-
   const VendorCard = ({ vendor }: { vendor: Vendor }) => (
     <Card>
       <CardContent className="p-6">
@@ -139,15 +161,25 @@ export default function AdminVendorsPage() {
         <p className="text-muted-foreground">Review and manage vendor accounts</p>
       </div>
 
-      <Tabs defaultValue="pending" className="space-y-6">
+      <div className="relative mb-6">
+        <Search className="absolute left-3 top-1/2 transform -translate-y-1/2 h-4 w-4 text-muted-foreground" />
+        <Input
+          placeholder="Search vendors by business name or email..."
+          value={searchInput}
+          onChange={(e) => setSearchInput(e.target.value)}
+          className="pl-10"
+        />
+      </div>
+
+      <Tabs value={status} onValueChange={(tab) => { setStatus(tab); setPage(0) }} className="space-y-6">
         <TabsList>
-          <TabsTrigger value="pending">Pending ({pendingVendors.length})</TabsTrigger>
-          <TabsTrigger value="approved">Approved ({approvedVendors.length})</TabsTrigger>
-          <TabsTrigger value="rejected">Rejected ({rejectedVendors.length})</TabsTrigger>
+          <TabsTrigger value="pending">Pending</TabsTrigger>
+          <TabsTrigger value="approved">Approved</TabsTrigger>
+          <TabsTrigger value="rejected">Rejected</TabsTrigger>
         </TabsList>
 
         <TabsContent value="pending" className="space-y-4">
-          {pendingVendors.length === 0 ? (
+          {vendors.length === 0 ? (
             <Card>
               <CardContent className="flex flex-col items-center justify-center py-12">
                 <Building2 className="h-12 w-12 text-muted-foreground/50 mb-4" />
@@ -155,12 +187,12 @@ export default function AdminVendorsPage() {
               </CardContent>
             </Card>
           ) : (
-            pendingVendors.map((vendor) => <VendorCard key={vendor.id} vendor={vendor} />)
+            vendors.map((vendor) => <VendorCard key={vendor.id} vendor={vendor} />)
           )}
         </TabsContent>
 
         <TabsContent value="approved" className="space-y-4">
-          {approvedVendors.length === 0 ? (
+          {vendors.length === 0 ? (
             <Card>
               <CardContent className="flex flex-col items-center justify-center py-12">
                 <Building2 className="h-12 w-12 text-muted-foreground/50 mb-4" />
@@ -168,12 +200,12 @@ export default function AdminVendorsPage() {
               </CardContent>
             </Card>
           ) : (
-            approvedVendors.map((vendor) => <VendorCard key={vendor.id} vendor={vendor} />)
+            vendors.map((vendor) => <VendorCard key={vendor.id} vendor={vendor} />)
           )}
         </TabsContent>
 
         <TabsContent value="rejected" className="space-y-4">
-          {rejectedVendors.length === 0 ? (
+          {vendors.length === 0 ? (
             <Card>
               <CardContent className="flex flex-col items-center justify-center py-12">
                 <Building2 className="h-12 w-12 text-muted-foreground/50 mb-4" />
@@ -181,10 +213,12 @@ export default function AdminVendorsPage() {
               </CardContent>
             </Card>
           ) : (
-            rejectedVendors.map((vendor) => <VendorCard key={vendor.id} vendor={vendor} />)
+            vendors.map((vendor) => <VendorCard key={vendor.id} vendor={vendor} />)
           )}
         </TabsContent>
       </Tabs>
+
+      <AdminPager page={result} onPageChange={setPage} disabled={isPaging} />
     </div>
   )
 }
@@ -153,7 +153,7 @@ export default function EventDetailPage() {
           {/* Main Content */}
           <div className={isSeatSelection ? "" : "lg:col-span-2 space-y-6"}>
             {/* Image Gallery */}
-            <ImageGallery images={event.images} alt={event.name} />
+            <ImageGallery images={event.images} variants={event.imageVariants} alt={event.name} />
 
             {/* Details */}
             <div className="mt-6">
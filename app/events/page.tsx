@@ -22,6 +22,7 @@ import { DropdownMenu, DropdownMenuContent, DropdownMenuItem, DropdownMenuLabel,
 import { Avatar, AvatarFallback } from "@/components/ui/avatar"
 import type { Event } from "@/lib/types/booking"
 import ViewLocationMap from "@/components/view-location-map"
+import { imageVariant } from "@/lib/utils"
 
 const EVENT_CATEGORIES = [
   "All Categories",
@@ -426,7 +427,7 @@ export default function EventsPage() {
                 <div className="aspect-video bg-muted relative overflow-hidden">
                   <img
                     src={event.images && event.images.length > 0
-                      ? event.images[0]
+                      ? imageVariant(event.images[0], event.imageVariants, "card")
                       : `/placeholder.svg?height=300&width=500&text=${encodeURIComponent(event.name)}`}
                     alt={event.name}
                     className="w-full h-full object-cover group-hover:scale-105 transition duration-500"
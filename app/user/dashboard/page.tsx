@@ -14,6 +14,7 @@ import { Card, CardContent, CardDescription, CardHeader, CardTitle } from "@/com
 import { Button } from "@/components/ui/button"
 import { Badge } from "@/components/ui/badge"
 import { Coins, Calendar, MapPin, TrendingUp, ArrowRight, Ticket, Star, Sparkles } from "lucide-react"
+import { imageVariant } from "@/lib/utils"
 
 interface UserProfile {
   id?: number
@@ -339,7 +340,7 @@ export default function UserDashboardPage() {
               <Card key={venue.id} className="overflow-hidden hover:shadow-lg transition">
                 <div className="aspect-video bg-muted relative">
                   <img
-                    src={images[0] || `/placeholder.svg?height=200&width=400&query=venue`}
+                    src={images[0] ? imageVariant(images[0], venue.imageVariants, "card") : `/placeholder.svg?height=200&width=400&query=venue`}
                     alt={venue.name}
                     className="w-full h-full object-cover"
                   />
@@ -108,7 +108,7 @@ export default function VenueDetailPage() {
           {/* Main Content */}
           <div className="lg:col-span-2 space-y-6">
             {/* Image Gallery */}
-            <ImageGallery images={venueImages} alt={venue.name} />
+            <ImageGallery images={venueImages} variants={venue.imageVariants} alt={venue.name} />
 
             {/* Details */}
             <div>
@@ -28,6 +28,7 @@ import {
   DropdownMenuTrigger,
 } from "@/components/ui/dropdown-menu"
 import ViewLocationMap from "@/components/view-location-map"
+import { imageVariant } from "@/lib/utils"
 
 const VENUE_TYPES = [
   "All Types",
@@ -452,7 +453,7 @@ export default function VenuesPage() {
                 <Card key={venue.id} className="overflow-hidden hover:shadow-xl transition-all duration-300 group border-0 shadow-md">
                   <div className="aspect-video bg-muted relative overflow-hidden">
                     <img
-                      src={images[0] || `/placeholder.svg?height=300&width=500&text=Venue`}
+                      src={images[0] ? imageVariant(images[0], venue.imageVariants, "card") : `/placeholder.svg?height=300&width=500&text=Venue`}
                       alt={venue.name}
                       className="w-full h-full object-cover group-hover:scale-105 transition duration-500"
                     />
@@ -0,0 +1,18 @@
+-- Migration: Add transactional outbox for emails and other side effects
+-- Rows are written in the same transaction as the business change and drained by OutboxDispatcher
+
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id BIGSERIAL PRIMARY KEY,
+    idempotency_key VARCHAR(200) NOT NULL UNIQUE,
+    message_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP
+);
+
+-- Dispatcher polls by status and due time
+CREATE INDEX IF NOT EXISTS idx_outbox_status_next_attempt ON outbox_messages(status, next_attempt_at);
@@ -0,0 +1,6 @@
+-- Migration: Index OTP expiry for the scheduled purge, and drop rows that were never cleaned up
+-- Expired and used codes are deleted by OtpService.purgeExpired from now on
+
+CREATE INDEX IF NOT EXISTS idx_otp_expires_at ON otp_verifications(expires_at);
+
+DELETE FROM otp_verifications WHERE expires_at < CURRENT_TIMESTAMP OR is_used = TRUE;
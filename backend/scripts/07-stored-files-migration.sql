@@ -0,0 +1,14 @@
+-- Migration: Content-addressed upload storage
+-- New uploads are stored once per SHA-256 under uploads/{h0h1}/{h2h3}/; earlier UUID-named files are left in place
+
+CREATE TABLE IF NOT EXISTS stored_files (
+    sha256 VARCHAR(64) PRIMARY KEY,
+    relative_path VARCHAR(200) NOT NULL,
+    content_type VARCHAR(100),
+    size_bytes BIGINT NOT NULL,
+    ref_count INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_stored_files_orphans ON stored_files(ref_count, updated_at);
@@ -0,0 +1,25 @@
+-- Migration: Hourly/daily revenue rollups per venue and event
+-- Rows are rebuilt by RevenueRollupService; the first run after this migration backfills from the oldest booking
+
+CREATE TABLE IF NOT EXISTS revenue_rollups (
+    granularity VARCHAR(5) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    vendor_id BIGINT NOT NULL,
+    venue_id BIGINT NOT NULL DEFAULT 0,
+    event_id BIGINT NOT NULL DEFAULT 0,
+    bookings INT NOT NULL DEFAULT 0,
+    cancellations INT NOT NULL DEFAULT 0,
+    gross_revenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    cash_revenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    points_used BIGINT NOT NULL DEFAULT 0,
+    refunds DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (granularity, bucket_start, vendor_id, venue_id, event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_revenue_rollups_vendor ON revenue_rollups(vendor_id, granularity, bucket_start);
+
+-- Lets the rollup refresh find changed bookings and rebuild a day without scanning the table
+CREATE INDEX IF NOT EXISTS idx_bookings_created_at ON bookings(created_at);
+CREATE INDEX IF NOT EXISTS idx_bookings_updated_at ON bookings(updated_at);
+CREATE INDEX IF NOT EXISTS idx_bookings_cancelled_on ON bookings((COALESCE(cancelled_at, updated_at))) WHERE status = 'CANCELLED';
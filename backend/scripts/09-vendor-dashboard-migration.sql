@@ -0,0 +1,4 @@
+-- Migration: Vendor dashboard occupancy
+-- Lets the occupancy query read only a venue's bookings dated inside the dashboard window
+
+CREATE INDEX IF NOT EXISTS idx_bookings_venue_date ON bookings(venue_id, booking_date);
@@ -0,0 +1,10 @@
+-- Migration: Keyset-paginated audit log listings
+-- Each filter column is indexed together with created_at; the single-column indexes they replace are dropped
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_action_created ON audit_logs(action, created_at);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_entity_type_created ON audit_logs(entity_type, created_at);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_performed_by_created ON audit_logs(performed_by, created_at);
+
+DROP INDEX IF EXISTS idx_audit_logs_action;
+DROP INDEX IF EXISTS idx_audit_logs_entity_type;
+DROP INDEX IF EXISTS idx_audit_logs_performed_by;
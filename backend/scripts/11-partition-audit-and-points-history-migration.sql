@@ -0,0 +1,88 @@
+-- Migration: Monthly range partitions for audit_logs and points_history
+-- Each table is rebuilt as a partitioned table with one partition per month that has rows, up to three
+-- months ahead, plus a default partition. Ids keep their sequences. Run during a quiet period: the copy
+-- holds an exclusive lock on each table until COMMIT.
+-- PartitionMaintenanceService then creates future months and archives/drops expired ones.
+
+BEGIN;
+
+-- audit_logs
+ALTER TABLE audit_logs RENAME TO audit_logs_unpartitioned;
+ALTER INDEX IF EXISTS audit_logs_pkey RENAME TO audit_logs_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_audit_logs_action_created;
+DROP INDEX IF EXISTS idx_audit_logs_entity_type_created;
+DROP INDEX IF EXISTS idx_audit_logs_performed_by_created;
+DROP INDEX IF EXISTS idx_audit_logs_created_at;
+
+CREATE TABLE audit_logs (
+    id BIGINT NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    action VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id BIGINT,
+    description VARCHAR(1000),
+    performed_by VARCHAR(255),
+    user_role VARCHAR(50),
+    ip_address VARCHAR(50),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- points_history
+ALTER TABLE points_history RENAME TO points_history_unpartitioned;
+ALTER INDEX IF EXISTS points_history_pkey RENAME TO points_history_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_points_history_user_id;
+
+CREATE TABLE points_history (
+    id BIGINT NOT NULL DEFAULT nextval('points_history_id_seq'),
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    points_changed BIGINT NOT NULL,
+    reason VARCHAR(255),
+    previous_points BIGINT,
+    new_points BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE points_history_default PARTITION OF points_history DEFAULT;
+
+-- One partition per month from the oldest row to three months ahead
+DO $$
+DECLARE
+    parent TEXT;
+    oldest DATE;
+    month DATE;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['audit_logs', 'points_history'] LOOP
+        EXECUTE format('SELECT date_trunc(''month'', COALESCE(MIN(created_at), CURRENT_DATE))::DATE FROM %I',
+            parent || '_unpartitioned') INTO oldest;
+        FOR month IN SELECT generate_series(oldest, date_trunc('month', CURRENT_DATE) + INTERVAL '3 months', INTERVAL '1 month')::DATE LOOP
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                parent || '_p' || to_char(month, 'YYYY_MM'), parent, month, (month + INTERVAL '1 month')::DATE);
+        END LOOP;
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (id, action, entity_type, entity_id, description, performed_by, user_role, ip_address, created_at)
+SELECT id, action, entity_type, entity_id, description, performed_by, user_role, ip_address, COALESCE(created_at, CURRENT_TIMESTAMP)
+FROM audit_logs_unpartitioned;
+
+INSERT INTO points_history (id, user_id, points_changed, reason, previous_points, new_points, created_at)
+SELECT id, user_id, points_changed, reason, previous_points, new_points, COALESCE(created_at, CURRENT_TIMESTAMP)
+FROM points_history_unpartitioned;
+
+-- The sequences now belong to the new tables, so dropping the old ones keeps them
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+ALTER SEQUENCE points_history_id_seq OWNED BY points_history.id;
+DROP TABLE audit_logs_unpartitioned;
+DROP TABLE points_history_unpartitioned;
+
+-- Indexes on the parents are created on every partition
+CREATE INDEX idx_audit_logs_action_created ON audit_logs(action, created_at);
+CREATE INDEX idx_audit_logs_entity_type_created ON audit_logs(entity_type, created_at);
+CREATE INDEX idx_audit_logs_performed_by_created ON audit_logs(performed_by, created_at);
+CREATE INDEX idx_audit_logs_created_at ON audit_logs(created_at);
+CREATE INDEX idx_points_history_user_created ON points_history(user_id, created_at);
+
+COMMIT;
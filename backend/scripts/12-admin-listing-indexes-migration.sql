@@ -0,0 +1,17 @@
+-- Migration: Paged, searchable admin listings
+-- Sort indexes for the newest-first listings and trigram indexes for the substring searches
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users(created_at);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (LOWER(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING gin (LOWER(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_first_name_trgm ON users USING gin (LOWER(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_last_name_trgm ON users USING gin (LOWER(last_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_vendors_created_at ON vendors(created_at);
+CREATE INDEX IF NOT EXISTS idx_vendors_business_name_trgm ON vendors USING gin (LOWER(business_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vendors_email_trgm ON vendors USING gin (LOWER(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vendors_username_trgm ON vendors USING gin (LOWER(username) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_user_name_trgm ON bookings USING gin (LOWER(user_name) gin_trgm_ops);
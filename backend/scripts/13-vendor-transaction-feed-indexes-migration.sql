@@ -0,0 +1,5 @@
+-- Migration: Paged vendor transaction history
+-- Keyset indexes for the newest-first withdrawal and purchase pages merged into the feed
+
+CREATE INDEX IF NOT EXISTS idx_withdrawal_user_created ON withdrawal_requests(user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_credit_trans_user_type_created ON credit_transactions(user_id, transaction_type, created_at, id);
@@ -0,0 +1,139 @@
+package com.eventvenue.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Named, bounded executors for background work. Each pool has its own queue so a burst in one
+ * (e.g. a mass reschedule mailing) cannot exhaust memory or starve the others. When a queue is
+ * full the submitting thread runs the task itself, which throttles the producer instead of
+ * dropping work. The password hashing pool is the exception: it rejects when full, because running
+ * BCrypt on the request thread is exactly the load it exists to cap.
+ *
+ * notificationExecutor is also registered as "taskExecutor", the default for plain @Async.
+ */
+@Configuration
+@Slf4j
+public class AsyncConfig {
+
+    private final MeterRegistry meterRegistry;
+
+    public AsyncConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(name = "mailExecutor")
+    public ThreadPoolTaskExecutor mailExecutor(
+            @Value("${async.mail.core-size:4}") int coreSize,
+            @Value("${async.mail.max-size:8}") int maxSize,
+            @Value("${async.mail.queue-capacity:500}") int queueCapacity) {
+        return boundedExecutor("mail", coreSize, maxSize, queueCapacity);
+    }
+
+    @Bean(name = {"notificationExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor notificationExecutor(
+            @Value("${async.notification.core-size:2}") int coreSize,
+            @Value("${async.notification.max-size:4}") int maxSize,
+            @Value("${async.notification.queue-capacity:200}") int queueCapacity) {
+        return boundedExecutor("notification", coreSize, maxSize, queueCapacity);
+    }
+
+    @Bean(name = "imageExecutor")
+    public ThreadPoolTaskExecutor imageExecutor(
+            @Value("${async.image.core-size:1}") int coreSize,
+            @Value("${async.image.max-size:2}") int maxSize,
+            @Value("${async.image.queue-capacity:100}") int queueCapacity) {
+        return boundedExecutor("image", coreSize, maxSize, queueCapacity);
+    }
+
+    @Bean(name = "uploadExecutor")
+    public ThreadPoolTaskExecutor uploadExecutor(
+            @Value("${async.upload.core-size:4}") int coreSize,
+            @Value("${async.upload.max-size:8}") int maxSize,
+            @Value("${async.upload.queue-capacity:100}") int queueCapacity) {
+        return boundedExecutor("upload", coreSize, maxSize, queueCapacity);
+    }
+
+    @Bean(name = "hashingExecutor")
+    public ThreadPoolTaskExecutor hashingExecutor(
+            @Value("${async.hashing.size:2}") int size,
+            @Value("${async.hashing.queue-capacity:50}") int queueCapacity) {
+        return boundedExecutor("hashing", size, size, queueCapacity, false);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, int coreSize, int maxSize, int queueCapacity) {
+        return boundedExecutor(name, coreSize, maxSize, queueCapacity, true);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, int coreSize, int maxSize, int queueCapacity,
+                                                   boolean callerRunsWhenFull) {
+        Timer waitTimer = Timer.builder("async.task.wait")
+                .description("Time a task spent queued before running")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Timer runTimer = Timer.builder("async.task.duration")
+                .description("Task execution time")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("async.task.rejected")
+                .description("Tasks that found the queue full (run on the caller thread, or refused)")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            if (!callerRunsWhenFull) {
+                throw new RejectedExecutionException(name + " executor saturated (queue " + queueCapacity + ")");
+            }
+            log.warn("{} executor saturated (queue {}), running task on caller thread", name, queueCapacity);
+            new ThreadPoolExecutor.CallerRunsPolicy().rejectedExecution(task, pool);
+        });
+        executor.setTaskDecorator(task -> {
+            long queuedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+
+        // Gauges read the pool lazily; Spring initializes the executor after this bean method returns
+        Gauge.builder("async.executor.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.queue.remaining", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().remainingCapacity())
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        return executor;
+    }
+}
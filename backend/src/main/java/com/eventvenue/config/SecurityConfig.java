@@ -2,13 +2,18 @@ package com.eventvenue.config;
 
 import com.eventvenue.security.JwtAuthenticationFilter;
 import com.eventvenue.security.JwtAuthenticationEntryPoint;
+import com.eventvenue.security.RateLimitFilter;
+import com.eventvenue.security.RouteMatcher;
+import com.eventvenue.security.SecurityRoutes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,6 +35,12 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
+    @Autowired
+    private SecurityRoutes securityRoutes;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -48,32 +59,26 @@ public class SecurityConfig {
             .exceptionHandling(exception -> exception
                 .authenticationEntryPoint(jwtAuthenticationEntryPoint))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-            .authorizeHttpRequests(auth -> auth
+            .authorizeHttpRequests(auth -> {
                 // Allow CORS preflight requests
-                .requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
-                .requestMatchers("/api/auth/**", "/api/health/**").permitAll()
-                .requestMatchers("/api/admin/create-admin").permitAll()
-                .requestMatchers("/api/admin/settings/conversion-rate").permitAll() // Public read access
-                .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/admin/settings/platform-fees").permitAll() // Public read access
-                .requestMatchers("/uploads/**").permitAll() // Static image files
-                .requestMatchers("/api/upload/**").authenticated() // Upload requires auth
-                .requestMatchers("/api/venues/**").authenticated()
-                .requestMatchers("/api/bookings/**").authenticated()
-                .requestMatchers("/api/points/**").authenticated() // Points operations require auth
-                .requestMatchers("/api/withdrawals/**").permitAll() // Open for testing - userId in body
-                .requestMatchers("/api/credit-requests/**").permitAll() // Open for testing - userId in body
-                // Events: vendor-specific endpoints require vendor authentication
-                .requestMatchers("/api/events/vendor/**").hasRole("VENDOR")
-                // Events: allow public GET for viewing events, require auth for modifications
-                .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/events/**").permitAll()
-                .requestMatchers("/api/events/**").authenticated()
-                .requestMatchers("/api/user/**").hasRole("USER")
-                .requestMatchers("/api/vendor/**").hasRole("VENDOR")
-                .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                .anyRequest().authenticated()
-            );
+                auth.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();
+                // Most specific first, so Spring's first-match order agrees with the filter's lookup
+                for (RouteMatcher.Rule rule : securityRoutes.getMatcher().rulesBySpecificity()) {
+                    AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizedUrl route = rule.method() != null
+                        ? auth.requestMatchers(HttpMethod.valueOf(rule.method()), rule.pattern())
+                        : auth.requestMatchers(rule.pattern());
+                    switch (rule.access()) {
+                        case PUBLIC -> route.permitAll();
+                        case AUTHENTICATED -> route.authenticated();
+                        case ROLE -> route.hasRole(rule.role());
+                    }
+                }
+                auth.anyRequest().authenticated();
+            });
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // After the JWT filter so booking limits can be keyed by the authenticated user
+        http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
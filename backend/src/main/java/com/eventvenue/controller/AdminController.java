@@ -1,12 +1,22 @@
 package com.eventvenue.controller;
 
+import com.eventvenue.dto.AdminSummary;
 import com.eventvenue.dto.ApiResponse;
+import com.eventvenue.dto.BulkActionRequest;
+import com.eventvenue.dto.BulkResult;
+import com.eventvenue.dto.UserSummary;
 import com.eventvenue.entity.Vendor;
 import com.eventvenue.entity.User;
 import com.eventvenue.entity.Booking;
 import com.eventvenue.service.VendorService;
+import com.eventvenue.service.AdminBulkService;
+import com.eventvenue.service.AdminListingService;
 import com.eventvenue.service.AdminService;
 import com.eventvenue.service.BookingService;
+import com.eventvenue.service.PlatformStatsService;
+import com.eventvenue.service.PrincipalCache;
+import com.eventvenue.service.RevenueRollupService;
+import com.eventvenue.service.VendorDashboardService;
 import com.eventvenue.repository.UserRepository;
 import com.eventvenue.repository.VendorRepository;
 import com.eventvenue.repository.BookingRepository;
@@ -43,19 +53,60 @@ public class AdminController {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private PlatformStatsService platformStatsService;
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
+    @Autowired
+    private AdminListingService adminListingService;
+
+    @Autowired
+    private AdminBulkService adminBulkService;
+
+    @Autowired
+    private VendorDashboardService vendorDashboardService;
+
+    @GetMapping("/profile")
+    public ResponseEntity<ApiResponse> getAdminProfile(Authentication authentication) {
+        try {
+            Long adminId = Long.parseLong(authentication.getPrincipal().toString());
+            Optional<AdminSummary> adminOptional = principalCache.findAdmin(adminId);
+
+            if (adminOptional.isEmpty()) {
+                return ResponseEntity.badRequest().body(ApiResponse.builder()
+                        .success(false)
+                        .message("Admin not found")
+                        .build());
+            }
+
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(true)
+                    .message("Admin profile retrieved successfully")
+                    .data(adminOptional.get())
+                    .build());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build());
+        }
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<ApiResponse> getStats() {
         try {
-            long totalUsers = userRepository.count();
-            long totalVendors = vendorRepository.count();
-            long totalBookings = bookingRepository.count();
-            long pendingVendors = vendorRepository.countByStatus("PENDING");
-            long activeBookings = bookingRepository.countByStatus("CONFIRMED");
-            
-            List<Booking> allBookings = bookingRepository.findAll();
-            double totalRevenue = allBookings.stream()
-                    .mapToDouble(booking -> booking.getTotalAmount() != null ? booking.getTotalAmount().doubleValue() : 0.0)
-                    .sum();
+            Map<String, Long> counts = platformStatsService.snapshot();
+            long totalUsers = counts.get("totalUsers");
+            long totalVendors = counts.get("totalVendors");
+            long totalBookings = counts.get("totalBookings");
+            long pendingVendors = counts.get("pendingVendors");
+            long activeBookings = counts.get("confirmedBookings");
+            double totalRevenue = revenueRollupService.getTotalNetRevenue().doubleValue();
 
             Map<String, Object> stats = new HashMap<>();
             stats.put("totalUsers", totalUsers);
@@ -78,14 +129,20 @@ public class AdminController {
         }
     }
 
+    // Listings are paged (page from 0, newest first by default); q searches names and emails
     @GetMapping("/users")
-    public ResponseEntity<ApiResponse> getAllUsers() {
+    public ResponseEntity<ApiResponse> getAllUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction) {
         try {
-            List<User> users = adminService.getAllUsers();
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
                     .message("Users retrieved successfully")
-                    .data(users)
+                    .data(adminListingService.listUsers(role, q, page, size, sort, direction))
                     .build());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.builder()
@@ -98,7 +155,7 @@ public class AdminController {
     @GetMapping("/users/{id}")
     public ResponseEntity<ApiResponse> getUserById(@PathVariable Long id) {
         try {
-            Optional<User> userOpt = userRepository.findById(id);
+            Optional<UserSummary> userOpt = principalCache.findUser(id);
             if (userOpt.isEmpty()) {
                 return ResponseEntity.badRequest().body(ApiResponse.builder()
                         .success(false)
@@ -207,13 +264,18 @@ public class AdminController {
     }
 
     @GetMapping("/vendors")
-    public ResponseEntity<ApiResponse> getAllVendors() {
+    public ResponseEntity<ApiResponse> getAllVendors(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction) {
         try {
-            List<Vendor> vendors = vendorService.getAllVendors();
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
                     .message("Vendors retrieved successfully")
-                    .data(vendors)
+                    .data(adminListingService.listVendors(status, q, page, size, sort, direction))
                     .build());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.builder()
@@ -263,6 +325,23 @@ public class AdminController {
         }
     }
 
+    // The vendor's own dashboard (bookings, revenue and ratings over the trailing window)
+    @GetMapping("/vendors/{vendorId}/dashboard")
+    public ResponseEntity<ApiResponse> getVendorDashboard(@PathVariable Long vendorId) {
+        try {
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(true)
+                    .message("Vendor dashboard retrieved successfully")
+                    .data(vendorDashboardService.getDashboard(vendorId))
+                    .build());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message("Failed to retrieve vendor dashboard: " + e.getMessage())
+                    .build());
+        }
+    }
+
     @PutMapping("/vendors/{vendorId}/approve")
     public ResponseEntity<ApiResponse> approveVendor(@PathVariable Long vendorId) {
         try {
@@ -299,6 +378,71 @@ public class AdminController {
         }
     }
 
+    @PostMapping("/bulk/vendors/approve")
+    public ResponseEntity<ApiResponse> bulkApproveVendors(@RequestBody BulkActionRequest request) {
+        try {
+            return bulkResponse(adminBulkService.approveVendors(request.getIds()), "approved");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message("Failed to approve vendors: " + e.getMessage())
+                    .build());
+        }
+    }
+
+    @PostMapping("/bulk/vendors/reject")
+    public ResponseEntity<ApiResponse> bulkRejectVendors(@RequestBody BulkActionRequest request) {
+        try {
+            if (request.getReason() == null || request.getReason().isBlank()) {
+                throw new RuntimeException("A rejection reason is required");
+            }
+            return bulkResponse(adminBulkService.rejectVendors(request.getIds(), request.getReason()), "rejected");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message("Failed to reject vendors: " + e.getMessage())
+                    .build());
+        }
+    }
+
+    @PostMapping("/bulk/users/points")
+    public ResponseEntity<ApiResponse> bulkAdjustUserPoints(@RequestBody BulkActionRequest request) {
+        try {
+            return bulkResponse(adminBulkService.adjustUserPoints(
+                    request.getIds(), request.getPointsChange(), request.getReason()), "adjusted");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message("Failed to adjust user points: " + e.getMessage())
+                    .build());
+        }
+    }
+
+    @PostMapping("/bulk/credit-requests/approve")
+    public ResponseEntity<ApiResponse> bulkApproveCreditRequests(
+            @RequestBody BulkActionRequest request,
+            Authentication authentication) {
+        try {
+            Long adminId = Long.parseLong(authentication.getPrincipal().toString());
+            return bulkResponse(adminBulkService.approveCreditRequests(
+                    request.getIds(), adminId, request.getNotes()), "approved");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message("Failed to approve credit requests: " + e.getMessage())
+                    .build());
+        }
+    }
+
+    // Partial success is still a 200; the per-id results say which ids failed and why
+    private ResponseEntity<ApiResponse> bulkResponse(BulkResult result, String verb) {
+        return ResponseEntity.ok(ApiResponse.builder()
+                .success(true)
+                .message(result.succeeded() + " of " + result.requested() + " " + verb)
+                .data(result)
+                .build());
+    }
+
     @DeleteMapping("/vendors/{id}")
     public ResponseEntity<ApiResponse> deleteVendor(@PathVariable Long id) {
         try {
@@ -315,14 +459,21 @@ public class AdminController {
         }
     }
 
+    // q matches a booking id or the booking's user name; vendorId keeps bookings of the vendor's venues and events
     @GetMapping("/bookings")
-    public ResponseEntity<ApiResponse> getAllBookings() {
+    public ResponseEntity<ApiResponse> getAllBookings(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long vendorId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction) {
         try {
-            List<Booking> bookings = bookingRepository.findAll();
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
                     .message("Bookings retrieved successfully")
-                    .data(bookings)
+                    .data(adminListingService.listBookings(status, q, vendorId, page, size, sort, direction))
                     .build());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.builder()
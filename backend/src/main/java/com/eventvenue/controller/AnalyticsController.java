@@ -1,12 +1,19 @@
 package com.eventvenue.controller;
 
 import com.eventvenue.dto.ApiResponse;
+import com.eventvenue.dto.PointsStats;
+import com.eventvenue.dto.RevenuePoint;
 import com.eventvenue.service.AnalyticsService;
+import com.eventvenue.service.RevenueRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -17,6 +24,9 @@ public class AnalyticsController {
     @Autowired
     private AnalyticsService analyticsService;
 
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
     @GetMapping("/platform-stats")
     public ResponseEntity<ApiResponse> getPlatformStats(Authentication authentication) {
         try {
@@ -93,4 +103,98 @@ public class AnalyticsController {
                     .build());
         }
     }
+
+    @GetMapping("/points-stats")
+    public ResponseEntity<ApiResponse> getPointsStats(Authentication authentication) {
+        try {
+            String role = (String) authentication.getCredentials();
+            if (!"ADMIN".equals(role)) {
+                return ResponseEntity.status(403).body(ApiResponse.builder()
+                        .success(false)
+                        .message("Only admins can view points statistics")
+                        .build());
+            }
+
+            PointsStats stats = analyticsService.getPointsStats();
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(true)
+                    .message("Points statistics retrieved successfully")
+                    .data(stats)
+                    .build());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build());
+        }
+    }
+
+    /**
+     * Revenue time series from the rollups. Admins can filter by vendor, venue or event; vendors
+     * always get their own listings only.
+     */
+    @GetMapping("/revenue")
+    public ResponseEntity<ApiResponse> getRevenueSeries(
+            Authentication authentication,
+            @RequestParam(defaultValue = "DAY") String granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long vendorId,
+            @RequestParam(required = false) Long venueId,
+            @RequestParam(required = false) Long eventId) {
+        try {
+            String role = (String) authentication.getCredentials();
+            if ("VENDOR".equals(role)) {
+                vendorId = Long.parseLong(authentication.getPrincipal().toString());
+            } else if (!"ADMIN".equals(role)) {
+                return ResponseEntity.status(403).body(ApiResponse.builder()
+                        .success(false)
+                        .message("Only admins and vendors can view revenue")
+                        .build());
+            }
+
+            List<RevenuePoint> series = revenueRollupService.getSeries(
+                    granularity.toUpperCase(), from, to, vendorId, venueId, eventId);
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(true)
+                    .message("Revenue series retrieved successfully")
+                    .data(series)
+                    .build());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build());
+        }
+    }
+
+    // Rebuilds the rollups of a date range (up to 92 days) from bookings (e.g. after fixing data by hand)
+    @PostMapping("/revenue/backfill")
+    public ResponseEntity<ApiResponse> backfillRevenue(
+            Authentication authentication,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            String role = (String) authentication.getCredentials();
+            if (!"ADMIN".equals(role)) {
+                return ResponseEntity.status(403).body(ApiResponse.builder()
+                        .success(false)
+                        .message("Only admins can rebuild revenue rollups")
+                        .build());
+            }
+            int days = revenueRollupService.rebuild(from, to);
+            Map<String, Object> data = new HashMap<>();
+            data.put("days", days);
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(true)
+                    .message("Revenue rollups rebuilt")
+                    .data(data)
+                    .build());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build());
+        }
+    }
 }
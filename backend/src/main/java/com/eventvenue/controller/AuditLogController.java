@@ -1,16 +1,18 @@
 package com.eventvenue.controller;
 
-import com.eventvenue.entity.AuditLog;
+import com.eventvenue.dto.AuditLogFilter;
+import com.eventvenue.dto.AuditLogPage;
 import com.eventvenue.service.AuditLogService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -20,52 +22,104 @@ public class AuditLogController {
     
     private final AuditLogService auditLogService;
     
+    // Every listing is newest first and paginated: pass the returned nextCursor to get the next page
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllLogs() {
-        List<AuditLog> logs = auditLogService.getAllLogs();
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("data", logs);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Map<String, Object>> getAllLogs(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String performedBy,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return page(entityType, action, performedBy, startDate, endDate, cursor, limit);
     }
     
     @GetMapping("/entity/{entityType}")
-    public ResponseEntity<Map<String, Object>> getLogsByEntityType(@PathVariable String entityType) {
-        List<AuditLog> logs = auditLogService.getLogsByEntityType(entityType.toUpperCase());
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("data", logs);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Map<String, Object>> getLogsByEntityType(
+            @PathVariable String entityType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return page(entityType, null, null, null, null, cursor, limit);
     }
     
     @GetMapping("/action/{action}")
-    public ResponseEntity<Map<String, Object>> getLogsByAction(@PathVariable String action) {
-        List<AuditLog> logs = auditLogService.getLogsByAction(action.toUpperCase());
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("data", logs);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Map<String, Object>> getLogsByAction(
+            @PathVariable String action,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return page(null, action, null, null, null, cursor, limit);
     }
     
     @GetMapping("/performer/{email}")
-    public ResponseEntity<Map<String, Object>> getLogsByPerformer(@PathVariable String email) {
-        List<AuditLog> logs = auditLogService.getLogsByPerformer(email);
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("data", logs);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<Map<String, Object>> getLogsByPerformer(
+            @PathVariable String email,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return page(null, null, email, null, null, cursor, limit);
     }
     
     @GetMapping("/date-range")
     public ResponseEntity<Map<String, Object>> getLogsByDateRange(
             @RequestParam String startDate,
-            @RequestParam String endDate) {
-        LocalDateTime start = LocalDate.parse(startDate).atStartOfDay();
-        LocalDateTime end = LocalDate.parse(endDate).atTime(LocalTime.MAX);
-        List<AuditLog> logs = auditLogService.getLogsByDateRange(start, end);
+            @RequestParam String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return page(null, null, null, startDate, endDate, cursor, limit);
+    }
+    
+    // Whole result set as CSV or NDJSON (format=csv|ndjson), written while it is read
+    @GetMapping("/export")
+    public void exportLogs(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String performedBy,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            HttpServletResponse response) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Format must be csv or ndjson");
+            return;
+        }
+        AuditLogFilter filter;
+        try {
+            filter = filter(entityType, action, performedBy, startDate, endDate);
+        } catch (RuntimeException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        
+        String fileName = "audit-logs-" + LocalDate.now() + (csv ? ".csv" : ".ndjson");
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        auditLogService.export(filter, format, response.getOutputStream());
+    }
+    
+    private ResponseEntity<Map<String, Object>> page(String entityType, String action, String performedBy,
+                                                     String startDate, String endDate, String cursor, int limit) {
         Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("data", logs);
-        return ResponseEntity.ok(response);
+        try {
+            AuditLogFilter filter = filter(entityType, action, performedBy, startDate, endDate);
+            AuditLogPage page = auditLogService.getLogs(filter, cursor, limit);
+            response.put("success", true);
+            response.put("data", page.logs());
+            response.put("nextCursor", page.nextCursor());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+    
+    // Dates are inclusive days: endDate covers the whole day
+    private static AuditLogFilter filter(String entityType, String action, String performedBy,
+                                         String startDate, String endDate) {
+        LocalDateTime from = startDate != null && !startDate.isBlank() ? LocalDate.parse(startDate).atStartOfDay() : null;
+        LocalDateTime to = endDate != null && !endDate.isBlank() ? LocalDate.parse(endDate).plusDays(1).atStartOfDay() : null;
+        return AuditLogFilter.of(entityType, action, performedBy, from, to);
     }
 }
@@ -15,10 +15,10 @@ import com.eventvenue.service.VendorService;
 import com.eventvenue.service.AdminUserService;
 import com.eventvenue.service.OtpService;
 import com.eventvenue.service.EmailService;
+import com.eventvenue.service.PasswordHashingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
@@ -41,7 +41,7 @@ public class AuthController {
     private JwtTokenProvider jwtTokenProvider;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private OtpService otpService;
@@ -83,7 +83,7 @@ public class AuthController {
             // Find user by email AND role to support same email with different roles
             Optional<User> userOptional = userService.findByEmailAndRole(request.getEmail(), "USER");
             
-            if (userOptional.isEmpty() || !passwordEncoder.matches(request.getPassword(), userOptional.get().getPassword())) {
+            if (userOptional.isEmpty() || !passwordHashingService.matches(request.getPassword(), userOptional.get().getPassword())) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.builder()
                         .success(false)
                         .message("Invalid email or password")
@@ -91,6 +91,8 @@ public class AuthController {
             }
 
             User user = userOptional.get();
+            passwordHashingService.rehashIfNeeded(request.getPassword(), user.getPassword(),
+                    newHash -> userService.updatePasswordHash(user, newHash));
             
             if (!user.getIsVerified()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.builder()
@@ -152,7 +154,7 @@ public class AuthController {
         try {
             Optional<Vendor> vendorOptional = vendorService.findByEmail(request.getEmail());
             
-            if (vendorOptional.isEmpty() || !passwordEncoder.matches(request.getPassword(), vendorOptional.get().getPassword())) {
+            if (vendorOptional.isEmpty() || !passwordHashingService.matches(request.getPassword(), vendorOptional.get().getPassword())) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.builder()
                         .success(false)
                         .message("Invalid email or password")
@@ -160,6 +162,8 @@ public class AuthController {
             }
 
             Vendor vendor = vendorOptional.get();
+            passwordHashingService.rehashIfNeeded(request.getPassword(), vendor.getPassword(),
+                    newHash -> vendorService.updatePasswordHash(vendor, newHash));
             
             if (!vendor.getIsVerified()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ApiResponse.builder()
@@ -310,7 +314,7 @@ public class AuthController {
         try {
             Optional<AdminUser> adminOptional = adminUserService.findByEmail(request.getEmail());
             
-            if (adminOptional.isEmpty() || !passwordEncoder.matches(request.getPassword(), adminOptional.get().getPassword())) {
+            if (adminOptional.isEmpty() || !passwordHashingService.matches(request.getPassword(), adminOptional.get().getPassword())) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiResponse.builder()
                         .success(false)
                         .message("Invalid email or password")
@@ -318,6 +322,8 @@ public class AuthController {
             }
 
             AdminUser admin = adminOptional.get();
+            passwordHashingService.rehashIfNeeded(request.getPassword(), admin.getPassword(),
+                    newHash -> adminUserService.updatePasswordHash(admin, newHash));
             String token = jwtTokenProvider.generateToken(admin.getId(), admin.getEmail(), "ADMIN");
             
             AuthResponse authResponse = AuthResponse.builder()
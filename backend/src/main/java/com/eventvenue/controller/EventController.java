@@ -2,7 +2,9 @@ package com.eventvenue.controller;
 
 import com.eventvenue.dto.ApiResponse;
 import com.eventvenue.entity.Event;
+import com.eventvenue.entity.NotificationJob;
 import com.eventvenue.service.EventService;
+import com.eventvenue.service.NotificationJobService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -22,6 +24,9 @@ public class EventController {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private NotificationJobService notificationJobService;
+
     @PostMapping
     public ResponseEntity<ApiResponse> createEvent(@RequestBody Event event, Authentication authentication) {
         try {
@@ -127,6 +132,31 @@ public class EventController {
         }
     }
 
+    /**
+     * Progress of a background notification job (e.g. reschedule emails)
+     */
+    @GetMapping("/vendor/notification-jobs/{jobId}")
+    public ResponseEntity<ApiResponse> getNotificationJob(@PathVariable Long jobId, Authentication authentication) {
+        try {
+            Long vendorId = Long.parseLong(authentication.getPrincipal().toString());
+            NotificationJob job = notificationJobService.getJob(jobId);
+            if (!vendorId.equals(job.getVendorId())) {
+                throw new RuntimeException("You are not authorized to view this notification job");
+            }
+            
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(true)
+                    .message("Notification job retrieved successfully")
+                    .data(job)
+                    .build());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse> updateEvent(@PathVariable Long id, @RequestBody Event eventDetails) {
         System.out.println("[pranai] EventController.updateEvent called for event ID: " + id);
@@ -216,7 +246,7 @@ public class EventController {
     
     /**
      * Reschedule an event - max 2 times allowed
-     * Notifies all booked users via email
+     * Booked users are notified by a background job (see notificationJobId in the response)
      */
     @PutMapping("/{id}/reschedule")
     public ResponseEntity<ApiResponse> rescheduleEvent(
@@ -245,7 +275,7 @@ public class EventController {
             
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
-                    .message("Event rescheduled successfully. All booked users have been notified.")
+                    .message("Event rescheduled successfully. Booked users are being notified.")
                     .data(rescheduledEvent)
                     .build());
         } catch (Exception e) {
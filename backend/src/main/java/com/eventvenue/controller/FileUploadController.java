@@ -1,8 +1,10 @@
 package com.eventvenue.controller;
 
 import com.eventvenue.dto.ApiResponse;
+import com.eventvenue.dto.UploadResult;
 import com.eventvenue.service.FileUploadService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,12 +21,14 @@ public class FileUploadController {
     @Autowired
     private FileUploadService fileUploadService;
 
+    @Value("${file.upload.max-files:20}")
+    private int maxFiles;
+
     @PostMapping("/image")
     public ResponseEntity<ApiResponse> uploadImage(
-            @RequestParam("file") MultipartFile file,
-            @RequestParam(value = "type", defaultValue = "general") String type) {
+            @RequestParam("file") MultipartFile file) {
         try {
-            String url = fileUploadService.uploadImage(file, type);
+            String url = fileUploadService.uploadImage(file);
             
             Map<String, Object> data = new HashMap<>();
             data.put("url", url);
@@ -44,24 +48,39 @@ public class FileUploadController {
 
     @PostMapping("/images")
     public ResponseEntity<ApiResponse> uploadImages(
-            @RequestParam("files") MultipartFile[] files,
-            @RequestParam(value = "type", defaultValue = "general") String type) {
+            @RequestParam("files") MultipartFile[] files) {
         try {
-            if (files.length > 10) {
+            if (files.length > maxFiles) {
                 return ResponseEntity.badRequest().body(ApiResponse.builder()
                         .success(false)
-                        .message("Maximum 10 images allowed")
+                        .message("Maximum " + maxFiles + " images allowed")
                         .build());
             }
             
-            List<String> urls = fileUploadService.uploadImages(files, type);
+            List<UploadResult> results = fileUploadService.uploadImages(files);
+            List<String> urls = results.stream()
+                    .filter(UploadResult::success)
+                    .map(UploadResult::url)
+                    .toList();
             
             Map<String, Object> data = new HashMap<>();
             data.put("urls", urls);
+            data.put("results", results);
+            
+            if (urls.isEmpty() && !results.isEmpty()) {
+                return ResponseEntity.badRequest().body(ApiResponse.builder()
+                        .success(false)
+                        .message("No images could be uploaded")
+                        .data(data)
+                        .build());
+            }
             
+            String message = urls.size() == results.size()
+                    ? "Images uploaded successfully"
+                    : urls.size() + " of " + results.size() + " images uploaded";
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
-                    .message("Images uploaded successfully")
+                    .message(message)
                     .data(data)
                     .build());
         } catch (Exception e) {
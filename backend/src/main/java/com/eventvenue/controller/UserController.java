@@ -1,8 +1,10 @@
 package com.eventvenue.controller;
 
 import com.eventvenue.dto.ApiResponse;
+import com.eventvenue.dto.UserSummary;
 import com.eventvenue.entity.User;
 import com.eventvenue.entity.PointHistory;
+import com.eventvenue.service.PrincipalCache;
 import com.eventvenue.service.UserService;
 import com.eventvenue.service.PointsService;
 import com.eventvenue.repository.PointHistoryRepository;
@@ -30,12 +32,15 @@ public class UserController {
     @Autowired
     private PointsService pointsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @GetMapping("/profile")
     public ResponseEntity<ApiResponse> getUserProfile(Authentication authentication) {
         try {
             Long userId = Long.parseLong(authentication.getPrincipal().toString());
             
-            Optional<User> userOptional = userService.findById(userId);
+            Optional<UserSummary> userOptional = principalCache.findUser(userId);
             
             if (userOptional.isEmpty()) {
                 return ResponseEntity.badRequest().body(ApiResponse.builder()
@@ -44,7 +49,7 @@ public class UserController {
                         .build());
             }
 
-            User user = userOptional.get();
+            UserSummary user = userOptional.get();
 
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
@@ -100,7 +105,7 @@ public class UserController {
     @GetMapping("/points/{userId}")
     public ResponseEntity<ApiResponse> getUserPoints(@PathVariable Long userId) {
         try {
-            Optional<User> userOptional = userService.findById(userId);
+            Optional<UserSummary> userOptional = principalCache.findUser(userId);
             
             if (userOptional.isEmpty()) {
                 return ResponseEntity.badRequest().body(ApiResponse.builder()
@@ -112,7 +117,7 @@ public class UserController {
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
                     .message("User points retrieved")
-                    .data(userOptional.get().getPoints())
+                    .data(userOptional.get().points())
                     .build());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.builder()
@@ -1,8 +1,13 @@
 package com.eventvenue.controller;
 
 import com.eventvenue.dto.ApiResponse;
+import com.eventvenue.dto.VendorSummary;
+import com.eventvenue.dto.VendorTransactionPage;
 import com.eventvenue.entity.Vendor;
+import com.eventvenue.service.PrincipalCache;
+import com.eventvenue.service.VendorDashboardService;
 import com.eventvenue.service.VendorService;
+import com.eventvenue.service.VendorTransactionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -18,11 +23,20 @@ public class VendorController {
     @Autowired
     private VendorService vendorService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private VendorDashboardService vendorDashboardService;
+
+    @Autowired
+    private VendorTransactionService vendorTransactionService;
+
     @GetMapping("/profile")
     public ResponseEntity<ApiResponse> getVendorProfile(Authentication authentication) {
         try {
             Long vendorId = Long.parseLong(authentication.getPrincipal().toString());
-            Optional<Vendor> vendorOptional = vendorService.findById(vendorId);
+            Optional<VendorSummary> vendorOptional = principalCache.findVendor(vendorId);
             
             if (vendorOptional.isEmpty()) {
                 return ResponseEntity.badRequest().body(ApiResponse.builder()
@@ -63,6 +77,24 @@ public class VendorController {
         }
     }
 
+    @GetMapping("/dashboard")
+    public ResponseEntity<ApiResponse> getDashboard(Authentication authentication) {
+        try {
+            Long vendorId = Long.parseLong(authentication.getPrincipal().toString());
+
+            return ResponseEntity.ok(ApiResponse.builder()
+                    .success(true)
+                    .message("Vendor dashboard retrieved successfully")
+                    .data(vendorDashboardService.getDashboard(vendorId))
+                    .build());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.builder()
+                    .success(false)
+                    .message(e.getMessage())
+                    .build());
+        }
+    }
+
     @PostMapping("/points/purchase")
     public ResponseEntity<ApiResponse> purchaseVendorPoints(
             @RequestBody java.util.Map<String, Object> request,
@@ -95,6 +127,8 @@ public class VendorController {
     @GetMapping("/transactions/{vendorId}")
     public ResponseEntity<ApiResponse> getVendorTransactions(
             @PathVariable Long vendorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
             Authentication authentication) {
         try {
             Long authVendorId = Long.parseLong(authentication.getPrincipal().toString());
@@ -107,7 +141,8 @@ public class VendorController {
                         .build());
             }
             
-            java.util.List<java.util.Map<String, Object>> transactions = vendorService.getVendorTransactions(vendorId);
+            // Newest first; pass the returned nextCursor to get the next page
+            VendorTransactionPage transactions = vendorTransactionService.getTransactions(vendorId, cursor, limit);
             
             return ResponseEntity.ok(ApiResponse.builder()
                     .success(true)
@@ -0,0 +1,20 @@
+package com.eventvenue.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The columns the admin booking listing shows
+ */
+public record AdminBookingRow(Long id,
+                              Long userId,
+                              String userName,
+                              Long venueId,
+                              Long eventId,
+                              LocalDate bookingDate,
+                              LocalDate startDate,
+                              BigDecimal totalAmount,
+                              String status,
+                              String paymentStatus,
+                              LocalDateTime createdAt) {}
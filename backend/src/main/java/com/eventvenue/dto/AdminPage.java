@@ -0,0 +1,9 @@
+package com.eventvenue.dto;
+
+import java.util.List;
+
+/**
+ * One page of an admin listing. total is exact when totalExact is set; for searches it is counted
+ * only up to a cap, and is then a lower bound.
+ */
+public record AdminPage<T>(List<T> items, int page, int size, boolean hasNext, long total, boolean totalExact) {}
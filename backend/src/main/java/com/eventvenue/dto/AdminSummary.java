@@ -0,0 +1,29 @@
+package com.eventvenue.dto;
+
+import com.eventvenue.entity.AdminUser;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable view of an admin account; never carries the password hash.
+ */
+public record AdminSummary(Long id,
+                           String email,
+                           String name,
+                           String role,
+                           Boolean isActive,
+                           LocalDateTime createdAt,
+                           LocalDateTime updatedAt) {
+
+    public static AdminSummary from(AdminUser admin) {
+        return new AdminSummary(
+                admin.getId(),
+                admin.getEmail(),
+                admin.getName(),
+                admin.getRole(),
+                admin.getIsActive(),
+                admin.getCreatedAt(),
+                admin.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventvenue.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns the admin user listing shows; vendorId is set for vendor accounts that have a vendor record
+ */
+public record AdminUserRow(Long id,
+                           String username,
+                           String email,
+                           String firstName,
+                           String lastName,
+                           Long points,
+                           Boolean isVerified,
+                           String role,
+                           LocalDateTime createdAt,
+                           Long vendorId) {}
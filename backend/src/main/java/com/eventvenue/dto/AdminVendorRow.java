@@ -0,0 +1,16 @@
+package com.eventvenue.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns the admin vendor listing shows
+ */
+public record AdminVendorRow(Long id,
+                             String username,
+                             String businessName,
+                             String email,
+                             String status,
+                             Boolean isVerified,
+                             Boolean isActive,
+                             Long points,
+                             LocalDateTime createdAt) {}
@@ -0,0 +1,30 @@
+package com.eventvenue.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One audit row as exported; not an entity, so streaming millions of them keeps nothing in the
+ * persistence context
+ */
+public record AuditLogEntry(Long id, LocalDateTime createdAt, String action, String entityType, Long entityId,
+                            String description, String performedBy, String userRole, String ipAddress) {
+
+    public static final String CSV_HEADER =
+            "id,created_at,action,entity_type,entity_id,description,performed_by,user_role,ip_address";
+
+    public String toCsv() {
+        return String.join(",", String.valueOf(id), csv(createdAt), csv(action), csv(entityType), csv(entityId),
+                csv(description), csv(performedBy), csv(userRole), csv(ipAddress));
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,23 @@
+package com.eventvenue.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit log query filters; null fields match everything, the date range is [from, to)
+ */
+public record AuditLogFilter(String entityType, String action, String performedBy,
+                             LocalDateTime from, LocalDateTime to) {
+
+    public static AuditLogFilter of(String entityType, String action, String performedBy,
+                                    LocalDateTime from, LocalDateTime to) {
+        return new AuditLogFilter(blankToNull(entityType, true), blankToNull(action, true),
+                blankToNull(performedBy, false), from, to);
+    }
+
+    private static String blankToNull(String value, boolean upperCase) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return upperCase ? value.trim().toUpperCase() : value.trim();
+    }
+}
@@ -0,0 +1,10 @@
+package com.eventvenue.dto;
+
+import com.eventvenue.entity.AuditLog;
+
+import java.util.List;
+
+/**
+ * One page of audit logs, newest first; nextCursor is null on the last page
+ */
+public record AuditLogPage(List<AuditLog> logs, String nextCursor) {}
@@ -0,0 +1,20 @@
+package com.eventvenue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Body of the admin bulk endpoints; which of reason, notes and pointsChange apply depends on the action
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkActionRequest {
+    private List<Long> ids;
+    private String reason;
+    private String notes;
+    private Long pointsChange;
+}
@@ -0,0 +1,15 @@
+package com.eventvenue.dto;
+
+/**
+ * Outcome of one id in a bulk admin operation; error is set only when it failed
+ */
+public record BulkItemResult(Long id, boolean success, String error) {
+
+    public static BulkItemResult ok(Long id) {
+        return new BulkItemResult(id, true, null);
+    }
+
+    public static BulkItemResult failed(Long id, String error) {
+        return new BulkItemResult(id, false, error);
+    }
+}
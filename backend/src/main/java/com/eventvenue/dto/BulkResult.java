@@ -0,0 +1,14 @@
+package com.eventvenue.dto;
+
+import java.util.List;
+
+/**
+ * Per-id outcomes of a bulk admin operation, in request order
+ */
+public record BulkResult(int requested, int succeeded, int failed, List<BulkItemResult> results) {
+
+    public static BulkResult of(List<BulkItemResult> results) {
+        int succeeded = (int) results.stream().filter(BulkItemResult::success).count();
+        return new BulkResult(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.time.LocalTime;
 
 /**
@@ -33,6 +34,7 @@ public class EventDTO {
     private String bookingType;
     private Boolean isActive;
     private String images;
+    private List<ImageVariants> imageVariants;
     private Integer rescheduleCount;
     private Boolean wasRescheduled;
     private LocalDateTime lastRescheduledAt;
@@ -75,6 +77,7 @@ public class EventDTO {
             .bookingType(event.getBookingType())
             .isActive(event.getIsActive())
             .images(event.getImages())
+            .imageVariants(event.getImageVariants())
             .rescheduleCount(event.getRescheduleCount())
             .wasRescheduled(event.getWasRescheduled())
             .lastRescheduledAt(event.getLastRescheduledAt())
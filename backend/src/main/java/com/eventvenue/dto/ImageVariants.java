@@ -0,0 +1,76 @@
+package com.eventvenue.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * URLs of the resized copies of one uploaded image. Variants are named after the original
+ * ("{name}_thumb.jpg", "{name}_card.jpg", "{name}_full.jpg" next to "{name}.png"), so they can be
+ * derived from the stored image URLs without a lookup. Until the background resize has finished, a
+ * variant URL serves the original.
+ *
+ * Images that were not uploaded here (external URLs) get the original URL for every variant.
+ */
+public record ImageVariants(String original, String thumb, String card, String full) {
+
+    public static final String UPLOADS_PREFIX = "/uploads/";
+
+    public enum Variant {
+        THUMB("thumb", 320),
+        CARD("card", 800),
+        FULL("full", 1600);
+
+        private final String suffix;
+        private final int maxWidth;
+
+        Variant(String suffix, int maxWidth) {
+            this.suffix = suffix;
+            this.maxWidth = maxWidth;
+        }
+
+        public String getSuffix() {
+            return suffix;
+        }
+
+        public int getMaxWidth() {
+            return maxWidth;
+        }
+    }
+
+    public static ImageVariants of(String original) {
+        if (!original.contains(UPLOADS_PREFIX)) {
+            return new ImageVariants(original, original, original, original);
+        }
+        return new ImageVariants(original,
+                variantName(original, Variant.THUMB),
+                variantName(original, Variant.CARD),
+                variantName(original, Variant.FULL));
+    }
+
+    /**
+     * Variants for a comma-separated images column, in the same order
+     */
+    public static List<ImageVariants> fromImages(String images) {
+        List<ImageVariants> variants = new ArrayList<>();
+        if (images == null || images.isBlank()) {
+            return variants;
+        }
+        for (String image : images.split(",")) {
+            String trimmed = image.trim();
+            if (!trimmed.isEmpty()) {
+                variants.add(of(trimmed));
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * "a/b/photo.png" -> "a/b/photo_thumb.jpg". Works on URLs, relative paths and bare file names.
+     */
+    public static String variantName(String original, Variant variant) {
+        int slash = original.lastIndexOf('/');
+        int dot = original.lastIndexOf('.');
+        String stem = dot > slash ? original.substring(0, dot) : original;
+        return stem + "_" + variant.getSuffix() + ".jpg";
+    }
+}
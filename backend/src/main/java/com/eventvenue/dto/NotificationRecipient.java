@@ -0,0 +1,15 @@
+package com.eventvenue.dto;
+
+import lombok.*;
+
+/**
+ * Distinct recipient of a bulk notification, loaded with one join query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationRecipient {
+    private Long userId;
+    private String email;
+    private String displayName;
+}
@@ -0,0 +1,13 @@
+package com.eventvenue.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Distribution of user point balances. Histogram buckets are [from, to); the last one has no upper bound.
+ */
+public record PointsStats(long users, long total, BigDecimal average, long minimum, long maximum,
+                          long p50, long p90, long p99, List<Bucket> histogram) {
+
+    public record Bucket(long from, Long to, long users) {}
+}
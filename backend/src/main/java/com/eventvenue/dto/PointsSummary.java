@@ -0,0 +1,17 @@
+package com.eventvenue.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Point balance aggregates computed by the database (native query projection on users).
+ */
+public interface PointsSummary {
+    Long getUsers();
+    Long getTotal();
+    BigDecimal getAverage();
+    Long getMinimum();
+    Long getMaximum();
+    Long getP50();
+    Long getP90();
+    Long getP99();
+}
@@ -0,0 +1,30 @@
+package com.eventvenue.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One bucket of a revenue time series, summed over the rollup rows that match the filter.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenuePoint {
+    private LocalDateTime bucketStart;
+    private Long bookings;
+    private Long cancellations;
+    private BigDecimal grossRevenue;
+    private BigDecimal cashRevenue;
+    private Long pointsUsed;
+    private BigDecimal refunds;
+
+    public static RevenuePoint empty(LocalDateTime bucketStart) {
+        return new RevenuePoint(bucketStart, 0L, 0L, BigDecimal.ZERO, BigDecimal.ZERO, 0L, BigDecimal.ZERO);
+    }
+
+    public BigDecimal getNetRevenue() {
+        return grossRevenue.subtract(refunds);
+    }
+}
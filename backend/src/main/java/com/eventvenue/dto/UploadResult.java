@@ -0,0 +1,15 @@
+package com.eventvenue.dto;
+
+/**
+ * Outcome of one file in a multi-file upload; exactly one of url and error is set
+ */
+public record UploadResult(String fileName, boolean success, String url, String error) {
+
+    public static UploadResult stored(String fileName, String url) {
+        return new UploadResult(fileName, true, url, null);
+    }
+
+    public static UploadResult failed(String fileName, String error) {
+        return new UploadResult(fileName, false, null, error);
+    }
+}
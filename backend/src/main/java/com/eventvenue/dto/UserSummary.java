@@ -0,0 +1,37 @@
+package com.eventvenue.dto;
+
+import com.eventvenue.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable view of a user for profile and points reads; never carries the password hash.
+ */
+public record UserSummary(Long id,
+                          String username,
+                          String email,
+                          String firstName,
+                          String lastName,
+                          String phone,
+                          Long points,
+                          Boolean isVerified,
+                          String role,
+                          LocalDateTime createdAt,
+                          LocalDateTime updatedAt) {
+
+    public static UserSummary from(User user) {
+        return new UserSummary(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getPhone(),
+                user.getPoints(),
+                user.getIsVerified(),
+                user.getRole(),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.eventvenue.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Per-vendor metrics over a trailing window [from, to): totals, revenue by day and one row per venue
+ * and event the vendor owns
+ */
+public record VendorDashboard(LocalDate from,
+                              LocalDate to,
+                              long bookings,
+                              long cancellations,
+                              double cancellationRate,
+                              BigDecimal netRevenue,
+                              Double averageRating,
+                              long reviewCount,
+                              List<RevenuePoint> revenueByDay,
+                              List<VenueMetrics> venues,
+                              List<EventMetrics> events) {
+
+    /**
+     * occupancyRate is the share of days in the window with at least one active booking
+     */
+    public record VenueMetrics(Long venueId, String name, long bookings, long cancellations,
+                               BigDecimal netRevenue, long bookedDays, double occupancyRate, Double rating) {}
+
+    /**
+     * sellThrough is ticketsSold / totalTickets over the event's lifetime, not just the window
+     */
+    public record EventMetrics(Long eventId, String name, long bookings, long cancellations,
+                               BigDecimal netRevenue, int totalTickets, int ticketsSold, double sellThrough,
+                               Double rating) {}
+}
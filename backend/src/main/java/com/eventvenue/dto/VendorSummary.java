@@ -0,0 +1,51 @@
+package com.eventvenue.dto;
+
+import com.eventvenue.entity.Vendor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable view of a vendor for profile reads; never carries the password hash or verification token.
+ */
+public record VendorSummary(Long id,
+                            String username,
+                            String email,
+                            String businessName,
+                            String businessPhone,
+                            String businessAddress,
+                            String city,
+                            String state,
+                            String pincode,
+                            String description,
+                            String status,
+                            Boolean isVerified,
+                            Double rating,
+                            Integer totalVenues,
+                            Long points,
+                            Boolean isActive,
+                            LocalDateTime createdAt,
+                            LocalDateTime updatedAt) {
+
+    public static VendorSummary from(Vendor vendor) {
+        return new VendorSummary(
+                vendor.getId(),
+                vendor.getUsername(),
+                vendor.getEmail(),
+                vendor.getBusinessName(),
+                vendor.getBusinessPhone(),
+                vendor.getBusinessAddress(),
+                vendor.getCity(),
+                vendor.getState(),
+                vendor.getPincode(),
+                vendor.getDescription(),
+                vendor.getStatus(),
+                vendor.getIsVerified(),
+                vendor.getRating(),
+                vendor.getTotalVenues(),
+                vendor.getPoints(),
+                vendor.getIsActive(),
+                vendor.getCreatedAt(),
+                vendor.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.eventvenue.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of a vendor's points history: a withdrawal (negative points), a purchase or the welcome
+ * bonus. The id is prefixed with its source, since withdrawals and purchases are numbered separately.
+ */
+public record VendorTransaction(String id,
+                                String type,
+                                long points,
+                                BigDecimal amount,
+                                String description,
+                                String status,
+                                LocalDateTime createdAt) {}
@@ -0,0 +1,8 @@
+package com.eventvenue.dto;
+
+import java.util.List;
+
+/**
+ * One page of a vendor's transactions, newest first; nextCursor is null on the last page
+ */
+public record VendorTransactionPage(List<VendorTransaction> transactions, String nextCursor) {}
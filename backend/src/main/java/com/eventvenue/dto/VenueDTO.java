@@ -6,6 +6,7 @@ import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DTO for Venue with vendor contact information
@@ -28,6 +29,7 @@ public class VenueDTO {
     private BigDecimal pricePerHour;
     private String amenities;
     private String images;
+    private List<ImageVariants> imageVariants;
     private Boolean isAvailable;
     private Double rating;
     private Integer totalBookings;
@@ -58,6 +60,7 @@ public class VenueDTO {
             .pricePerHour(venue.getPricePerHour())
             .amenities(venue.getAmenities())
             .images(venue.getImages())
+            .imageVariants(venue.getImageVariants())
             .isAvailable(venue.getIsAvailable())
             .rating(venue.getRating())
             .totalBookings(venue.getTotalBookings())
@@ -1,14 +1,18 @@
 package com.eventvenue.entity;
 
+import com.eventvenue.dto.ImageVariants;
+import com.eventvenue.service.VendorDashboardListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
+@EntityListeners(VendorDashboardListener.class)
 @Table(name = "events")
 @Data
 @NoArgsConstructor
@@ -58,6 +62,12 @@ public class Event {
     @Column(columnDefinition = "TEXT")
     private String images;
 
+    // Resized thumb/card/full URLs for each entry in images; derived, not stored
+    @Transient
+    public List<ImageVariants> getImageVariants() {
+        return ImageVariants.fromImages(images);
+    }
+
     // Reschedule tracking fields
     @Column(columnDefinition = "INT DEFAULT 0")
     private Integer rescheduleCount = 0;
@@ -106,6 +116,10 @@ public class Event {
     @Column(columnDefinition = "BOOLEAN DEFAULT FALSE")
     private Boolean isEditLocked;
 
+    // Set on reschedule responses so the vendor can poll the notification progress
+    @Transient
+    private Long notificationJobId;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,74 @@
+package com.eventvenue.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background fan-out of one notification to many users (e.g. everyone booked on a rescheduled event).
+ * Recipients are processed in user id order; lastUserId is the resume point after a restart.
+ */
+@Entity
+@Table(name = "notification_jobs", indexes = {
+    @Index(name = "idx_notification_job_status", columnList = "status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_type", nullable = false, length = 50)
+    private String jobType; // EVENT_RESCHEDULE
+
+    @Column(name = "reference_id", nullable = false)
+    private Long referenceId; // eventId for EVENT_RESCHEDULE
+
+    @Column(name = "vendor_id")
+    private Long vendorId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // JSON template values shared by all recipients
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = "PENDING"; // PENDING, RUNNING, COMPLETED, FAILED
+
+    @Column(name = "total_recipients")
+    private Integer totalRecipients;
+
+    @Column(name = "processed_recipients", nullable = false)
+    private Integer processedRecipients = 0;
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId = 0L;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+        if (status == null) status = "PENDING";
+        if (processedRecipients == null) processedRecipients = 0;
+        if (lastUserId == null) lastUserId = 0L;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
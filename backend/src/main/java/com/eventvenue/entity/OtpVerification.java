@@ -40,6 +40,8 @@ public class OtpVerification {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
-        expiresAt = LocalDateTime.now().plusMinutes(10); // OTP valid for 10 minutes
+        if (expiresAt == null) {
+            expiresAt = createdAt.plusMinutes(10); // OTP valid for 10 minutes
+        }
     }
 }
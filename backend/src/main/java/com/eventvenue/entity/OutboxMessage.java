@@ -0,0 +1,82 @@
+package com.eventvenue.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Side effect (email, etc.) recorded in the same transaction as the business change
+ * that caused it. Rows are drained by OutboxDispatcher after commit.
+ */
+@Entity
+@Table(name = "outbox_messages", indexes = {
+    @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Unique per side effect so the same business action never queues it twice
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 200)
+    private String idempotencyKey;
+
+    @Column(name = "message_type", nullable = false, length = 50)
+    private String messageType; // EMAIL
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload; // JSON, shape depends on messageType
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = "PENDING"; // PENDING, PROCESSING, SENT, FAILED
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (status == null) status = "PENDING";
+        if (attempts == null) attempts = 0;
+        if (nextAttemptAt == null) nextAttemptAt = createdAt;
+    }
+
+    public void markSent() {
+        this.status = "SENT";
+        this.sentAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void markRetry(String error, LocalDateTime nextAttemptAt) {
+        this.status = "PENDING";
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void markFailed(String error) {
+        this.status = "FAILED";
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) return null;
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
@@ -0,0 +1,78 @@
+package com.eventvenue.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Booking totals for one hour or day of one venue or event. Rows are rebuilt from bookings by
+ * RevenueRollupService and never written through JPA; venueId/eventId are 0 when not applicable.
+ * Bookings, revenue and points are bucketed by booking time, cancellations and refunds by
+ * cancellation time.
+ */
+@Entity
+@Table(name = "revenue_rollups", indexes = {
+    @Index(name = "idx_revenue_rollups_vendor", columnList = "vendor_id, granularity, bucket_start")
+})
+@IdClass(RevenueRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueRollup {
+    @Id
+    @Column(name = "granularity", length = 5)
+    private String granularity; // HOUR, DAY
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Column(name = "vendor_id")
+    private Long vendorId;
+
+    @Id
+    @Column(name = "venue_id")
+    private Long venueId;
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "bookings", nullable = false)
+    private Integer bookings;
+
+    @Column(name = "cancellations", nullable = false)
+    private Integer cancellations;
+
+    // Sum of totalAmount of the bookings made in the bucket
+    @Column(name = "gross_revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal grossRevenue;
+
+    // Part paid with money (remainingAmount) rather than points
+    @Column(name = "cash_revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal cashRevenue;
+
+    @Column(name = "points_used", nullable = false)
+    private Long pointsUsed;
+
+    @Column(name = "refunds", nullable = false, precision = 14, scale = 2)
+    private BigDecimal refunds;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String granularity;
+        private LocalDateTime bucketStart;
+        private Long vendorId;
+        private Long venueId;
+        private Long eventId;
+    }
+}
@@ -0,0 +1,45 @@
+package com.eventvenue.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One uploaded file, stored once under its SHA-256 however many times it is uploaded.
+ * refCount is the number of venues/events whose images column points at it; rows that stay
+ * unreferenced past the grace period are removed together with their file by StoredFileService.
+ */
+@Entity
+@Table(name = "stored_files", indexes = {
+    @Index(name = "idx_stored_files_orphans", columnList = "ref_count, updated_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredFile {
+    @Id
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+
+    // Relative to file.upload.directory, e.g. "3f/a2/3fa2...c9.jpg"
+    @Column(name = "relative_path", nullable = false, length = 200)
+    private String relativePath;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount = 0;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Last upload or reference change; the orphan sweep only looks at rows idle for a while
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,11 +1,13 @@
 package com.eventvenue.entity;
 
+import com.eventvenue.service.PrincipalCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(PrincipalCacheListener.class)
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"email", "role"}, name = "uk_users_email_role"),
     @UniqueConstraint(columnNames = {"username", "role"}, name = "uk_users_username_role")
@@ -1,11 +1,13 @@
 package com.eventvenue.entity;
 
+import com.eventvenue.service.PrincipalCacheListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(PrincipalCacheListener.class)
 @Table(name = "vendors")
 @Data
 @NoArgsConstructor
@@ -1,12 +1,16 @@
 package com.eventvenue.entity;
 
+import com.eventvenue.dto.ImageVariants;
+import com.eventvenue.service.VendorDashboardListener;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
+@EntityListeners(VendorDashboardListener.class)
 @Table(name = "venues")
 @Data
 @NoArgsConstructor
@@ -46,6 +50,12 @@ public class Venue {
     @Column(columnDefinition = "TEXT")
     private String images;
 
+    // Resized thumb/card/full URLs for each entry in images; derived, not stored
+    @Transient
+    public List<ImageVariants> getImageVariants() {
+        return ImageVariants.fromImages(images);
+    }
+
     @Column(columnDefinition = "BOOLEAN DEFAULT TRUE")
     private Boolean isAvailable;
 
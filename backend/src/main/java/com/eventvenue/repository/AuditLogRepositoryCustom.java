@@ -0,0 +1,21 @@
+package com.eventvenue.repository;
+
+import com.eventvenue.dto.AuditLogEntry;
+import com.eventvenue.dto.AuditLogFilter;
+import com.eventvenue.entity.AuditLog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Filtered audit log reads, built from only the filters actually given
+ */
+public interface AuditLogRepositoryCustom {
+
+    // Newest first, keyset-paginated on (createdAt, id): up to limit rows after (beforeTime, beforeId)
+    List<AuditLog> findPage(AuditLogFilter filter, LocalDateTime beforeTime, Long beforeId, int limit);
+
+    // Same filters and order for exports, read through a cursor as unmanaged rows
+    Stream<AuditLogEntry> streamAll(AuditLogFilter filter);
+}
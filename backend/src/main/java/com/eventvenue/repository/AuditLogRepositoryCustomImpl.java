@@ -0,0 +1,87 @@
+package com.eventvenue.repository;
+
+import com.eventvenue.dto.AuditLogEntry;
+import com.eventvenue.dto.AuditLogFilter;
+import com.eventvenue.entity.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Only the filters that are set become predicates. A catch-all "(:x IS NULL OR col = :x)" query
+ * can be given a generic plan once the driver prepares it server side, and such a plan cannot use
+ * the (entity_type, created_at), (action, created_at) or (performed_by, created_at) indexes;
+ * a query per filter combination always can.
+ */
+public class AuditLogRepositoryCustomImpl implements AuditLogRepositoryCustom {
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AuditLog> findPage(AuditLogFilter filter, LocalDateTime beforeTime, Long beforeId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuditLog> query = cb.createQuery(AuditLog.class);
+        Root<AuditLog> log = query.from(AuditLog.class);
+        Path<LocalDateTime> createdAt = log.get("createdAt");
+        Path<Long> id = log.get("id");
+
+        List<Predicate> where = filters(cb, log, filter);
+        where.add(cb.or(cb.lessThan(createdAt, beforeTime),
+                cb.and(cb.equal(createdAt, beforeTime), cb.lessThan(id, beforeId))));
+        query.select(log).where(where.toArray(new Predicate[0])).orderBy(newestFirst(cb, log));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<AuditLogEntry> streamAll(AuditLogFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AuditLogEntry> query = cb.createQuery(AuditLogEntry.class);
+        Root<AuditLog> log = query.from(AuditLog.class);
+        query.select(cb.construct(AuditLogEntry.class, log.get("id"), log.get("createdAt"), log.get("action"),
+                        log.get("entityType"), log.get("entityId"), log.get("description"), log.get("performedBy"),
+                        log.get("userRole"), log.get("ipAddress")))
+                .where(filters(cb, log, filter).toArray(new Predicate[0]))
+                .orderBy(newestFirst(cb, log));
+        return entityManager.createQuery(query)
+                .setHint("org.hibernate.fetchSize", EXPORT_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    private static List<Predicate> filters(CriteriaBuilder cb, Root<AuditLog> log, AuditLogFilter filter) {
+        List<Predicate> where = new ArrayList<>();
+        if (filter.entityType() != null) {
+            where.add(cb.equal(log.get("entityType"), filter.entityType()));
+        }
+        if (filter.action() != null) {
+            where.add(cb.equal(log.get("action"), filter.action()));
+        }
+        if (filter.performedBy() != null) {
+            where.add(cb.equal(log.get("performedBy"), filter.performedBy()));
+        }
+        Path<LocalDateTime> createdAt = log.get("createdAt");
+        if (filter.from() != null) {
+            where.add(cb.greaterThanOrEqualTo(createdAt, filter.from()));
+        }
+        if (filter.to() != null) {
+            where.add(cb.lessThan(createdAt, filter.to()));
+        }
+        return where;
+    }
+
+    private static List<Order> newestFirst(CriteriaBuilder cb, Root<AuditLog> log) {
+        return List.of(cb.desc(log.get("createdAt")), cb.desc(log.get("id")));
+    }
+}
@@ -1,12 +1,17 @@
 package com.eventvenue.repository;
 
+import com.eventvenue.dto.AdminBookingRow;
+import com.eventvenue.dto.NotificationRecipient;
 import com.eventvenue.entity.Booking;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 
@@ -33,5 +38,78 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         @Param("checkInTime") LocalTime checkInTime,
         @Param("checkOutTime") LocalTime checkOutTime
     );
+    
+    // Distinct users with an active booking on an event, in user id order for keyset paging
+    @Query("SELECT DISTINCT new com.eventvenue.dto.NotificationRecipient(u.id, u.email, COALESCE(u.firstName, u.username)) " +
+           "FROM Booking b JOIN User u ON u.id = b.userId " +
+           "WHERE b.eventId = :eventId AND b.status <> 'CANCELLED' AND u.id > :afterUserId " +
+           "ORDER BY u.id")
+    List<NotificationRecipient> findEventRecipientsAfter(
+        @Param("eventId") Long eventId,
+        @Param("afterUserId") Long afterUserId,
+        Pageable pageable
+    );
+    
+    @Query("SELECT COUNT(DISTINCT u.id) FROM Booking b JOIN User u ON u.id = b.userId " +
+           "WHERE b.eventId = :eventId AND b.status <> 'CANCELLED'")
+    long countEventRecipients(@Param("eventId") Long eventId);
+    
+    // Booking times of rows changed since a point; their hours need rebuilding in revenue_rollups
+    @Query("SELECT DISTINCT b.createdAt FROM Booking b WHERE b.updatedAt > :since")
+    List<LocalDateTime> findCreatedTimesChangedSince(@Param("since") LocalDateTime since);
+    
+    @Query("SELECT DISTINCT COALESCE(b.cancelledAt, b.updatedAt) FROM Booking b " +
+           "WHERE b.updatedAt > :since AND b.status = 'CANCELLED'")
+    List<LocalDateTime> findCancellationTimesChangedSince(@Param("since") LocalDateTime since);
+    
+    @Query("SELECT MIN(b.createdAt) FROM Booking b")
+    LocalDateTime findOldestCreatedAt();
+    
+    // Days in [from, to) covered by an active booking, per venue of a vendor: [venueId, bookedDays].
+    // Multi-day bookings count every day from start to end; scanFrom bounds how far back they may start.
+    @Query(value = "SELECT b.venue_id, COUNT(DISTINCT d.day) FROM bookings b " +
+           "JOIN venues v ON v.id = b.venue_id AND v.vendor_id = :vendorId " +
+           "CROSS JOIN LATERAL generate_series(" +
+           "  GREATEST(COALESCE(b.start_date, b.booking_date), CAST(:from AS DATE)), " +
+           "  LEAST(COALESCE(b.end_date, b.start_date, b.booking_date), CAST(:to AS DATE) - 1), " +
+           "  INTERVAL '1 day') AS d(day) " +
+           "WHERE b.status <> 'CANCELLED' AND b.booking_date >= :scanFrom AND b.booking_date < :to " +
+           "GROUP BY b.venue_id", nativeQuery = true)
+    List<Object[]> countBookedDaysByVenue(
+        @Param("vendorId") Long vendorId,
+        @Param("scanFrom") LocalDate scanFrom,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+    
+    // Admin listing; null filters match everything. A search matches the booking id or the user name;
+    // vendorId matches bookings of the vendor's venues and events.
+    @Query("SELECT new com.eventvenue.dto.AdminBookingRow(b.id, b.userId, b.userName, b.venueId, b.eventId, " +
+           "b.bookingDate, b.startDate, b.totalAmount, b.status, b.paymentStatus, b.createdAt) FROM Booking b " +
+           "WHERE (:status IS NULL OR b.status = :status) " +
+           "AND (:pattern IS NULL OR b.id = :bookingId OR LOWER(b.userName) LIKE :pattern) " +
+           "AND (:vendorId IS NULL OR b.venueId IN (SELECT v.id FROM Venue v WHERE v.vendorId = :vendorId) " +
+           "OR b.eventId IN (SELECT e.id FROM Event e WHERE e.vendorId = :vendorId))")
+    Slice<AdminBookingRow> findAdminRows(
+        @Param("status") String status,
+        @Param("pattern") String pattern,
+        @Param("bookingId") Long bookingId,
+        @Param("vendorId") Long vendorId,
+        Pageable pageable
+    );
+    
+    // Matches of the admin listing, counted up to cap
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM bookings " +
+           "WHERE (CAST(:status AS VARCHAR) IS NULL OR status = :status) " +
+           "AND (CAST(:pattern AS VARCHAR) IS NULL OR id = CAST(:bookingId AS BIGINT) OR LOWER(user_name) LIKE :pattern) " +
+           "AND (CAST(:vendorId AS BIGINT) IS NULL OR venue_id IN (SELECT id FROM venues WHERE vendor_id = :vendorId) " +
+           "OR event_id IN (SELECT id FROM events WHERE vendor_id = :vendorId)) " +
+           "LIMIT :cap) matches", nativeQuery = true)
+    long countAdminRows(
+        @Param("status") String status,
+        @Param("pattern") String pattern,
+        @Param("bookingId") Long bookingId,
+        @Param("vendorId") Long vendorId,
+        @Param("cap") int cap
+    );
 }
-
@@ -1,9 +1,13 @@
 package com.eventvenue.repository;
 
 import com.eventvenue.entity.CreditTransaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +25,18 @@ public interface CreditTransactionRepository extends JpaRepository<CreditTransac
     Optional<CreditTransaction> findByStripePaymentIntentId(String paymentIntentId);
     
     List<CreditTransaction> findByUserIdAndTransactionType(Long userId, String transactionType);
+
+    // Keyset page of the transactions of one type made by the vendor account with this email, newest first;
+    // the account is resolved in the same query (credit_transactions references users, not vendors)
+    @Query("SELECT c FROM CreditTransaction c WHERE c.transactionType = :type " +
+           "AND c.userId IN (SELECT u.id FROM User u WHERE u.email = :email AND u.role = 'VENDOR') " +
+           "AND (c.createdAt < :beforeTime OR (c.createdAt = :beforeTime AND c.id < :beforeId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CreditTransaction> findVendorPageByType(@Param("email") String email,
+                                                 @Param("type") String type,
+                                                 @Param("beforeTime") LocalDateTime beforeTime,
+                                                 @Param("beforeId") Long beforeId,
+                                                 Pageable pageable);
     
     List<CreditTransaction> findByUserIdAndStatus(Long userId, String status);
 }
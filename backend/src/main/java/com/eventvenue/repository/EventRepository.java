@@ -16,6 +16,8 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     List<Event> findByIsActive(Boolean isActive);
 
+    long countByIsActive(Boolean isActive);
+
     @Query("SELECT e FROM Event e WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :query, '%')) " +
             "OR LOWER(e.description) LIKE LOWER(CONCAT('%', :query, '%'))")
     List<Event> search(@Param("query") String query);
@@ -0,0 +1,26 @@
+package com.eventvenue.repository;
+
+import com.eventvenue.entity.NotificationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationJobRepository extends JpaRepository<NotificationJob, Long> {
+
+    // Jobs never started, or whose runner stopped heartbeating (e.g. the instance restarted)
+    @Query("SELECT j.id FROM NotificationJob j WHERE j.updatedAt < :staleBefore " +
+           "AND j.status IN ('PENDING', 'RUNNING') ORDER BY j.id")
+    List<Long> findStaleJobIds(@Param("staleBefore") LocalDateTime staleBefore);
+
+    // Atomic claim so a job is run by one worker at a time, across instances
+    @Modifying
+    @Query("UPDATE NotificationJob j SET j.status = 'RUNNING', j.updatedAt = :now WHERE j.id = :id " +
+           "AND (j.status = 'PENDING' OR (j.status = 'RUNNING' AND j.updatedAt < :staleBefore))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+}
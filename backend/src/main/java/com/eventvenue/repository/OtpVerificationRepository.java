@@ -2,6 +2,9 @@ package com.eventvenue.repository;
 
 import com.eventvenue.entity.OtpVerification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,4 +17,12 @@ public interface OtpVerificationRepository extends JpaRepository<OtpVerification
     );
     
     void deleteByEmailAndRole(String email, String role);
+
+    @Modifying
+    @Query("UPDATE OtpVerification o SET o.isUsed = true WHERE o.email = :email AND o.role = :role AND o.isUsed = false")
+    int markUsed(@Param("email") String email, @Param("role") String role);
+
+    @Modifying
+    @Query("DELETE FROM OtpVerification o WHERE o.expiresAt < :now OR o.isUsed = true")
+    int deleteExpiredOrUsed(@Param("now") LocalDateTime now);
 }
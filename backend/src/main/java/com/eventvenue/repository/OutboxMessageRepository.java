@@ -0,0 +1,28 @@
+package com.eventvenue.repository;
+
+import com.eventvenue.entity.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    long countByStatus(String status);
+
+    // Locks due rows so concurrent dispatchers (several app instances) never claim the same message.
+    // PROCESSING rows are included so messages from a crashed dispatcher are retried once their lease expires.
+    @Query(value = "SELECT * FROM outbox_messages WHERE status IN ('PENDING', 'PROCESSING') " +
+                   "AND next_attempt_at <= :now ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxMessage> lockDueMessages(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.status = 'SENT' AND m.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
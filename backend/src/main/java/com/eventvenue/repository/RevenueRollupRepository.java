@@ -0,0 +1,90 @@
+package com.eventvenue.repository;
+
+import com.eventvenue.dto.RevenuePoint;
+import com.eventvenue.entity.RevenueRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, RevenueRollup.Key> {
+
+    @Modifying
+    @Query(value = "DELETE FROM revenue_rollups WHERE granularity = :granularity " +
+            "AND bucket_start >= :from AND bucket_start < :to", nativeQuery = true)
+    int deleteBuckets(@Param("granularity") String granularity, @Param("from") LocalDateTime from,
+                      @Param("to") LocalDateTime to);
+
+    // Hourly rows for [from, to) straight from bookings: bookings made and cancellations in each hour
+    @Modifying
+    @Query(value = "INSERT INTO revenue_rollups (granularity, bucket_start, vendor_id, venue_id, event_id, " +
+            "bookings, cancellations, gross_revenue, cash_revenue, points_used, refunds, updated_at) " +
+            "SELECT 'HOUR', s.bucket, s.vendor_id, s.venue_id, s.event_id, SUM(s.bookings), SUM(s.cancellations), " +
+            "SUM(s.gross), SUM(s.cash), SUM(s.points), SUM(s.refunds), CURRENT_TIMESTAMP FROM (" +
+            "  SELECT date_trunc('hour', b.created_at) AS bucket, COALESCE(v.vendor_id, e.vendor_id, 0) AS vendor_id, " +
+            "    COALESCE(b.venue_id, 0) AS venue_id, COALESCE(b.event_id, 0) AS event_id, " +
+            "    1 AS bookings, 0 AS cancellations, b.total_amount AS gross, COALESCE(b.remaining_amount, 0) AS cash, " +
+            "    COALESCE(b.points_used, 0) AS points, 0 AS refunds " +
+            "  FROM bookings b LEFT JOIN venues v ON v.id = b.venue_id LEFT JOIN events e ON e.id = b.event_id " +
+            "  WHERE b.created_at >= :from AND b.created_at < :to " +
+            "  UNION ALL " +
+            "  SELECT date_trunc('hour', COALESCE(b.cancelled_at, b.updated_at)), COALESCE(v.vendor_id, e.vendor_id, 0), " +
+            "    COALESCE(b.venue_id, 0), COALESCE(b.event_id, 0), " +
+            "    0, 1, 0, 0, 0, COALESCE(b.refund_amount, 0) " +
+            "  FROM bookings b LEFT JOIN venues v ON v.id = b.venue_id LEFT JOIN events e ON e.id = b.event_id " +
+            "  WHERE b.status = 'CANCELLED' " +
+            "    AND COALESCE(b.cancelled_at, b.updated_at) >= :from AND COALESCE(b.cancelled_at, b.updated_at) < :to" +
+            ") s GROUP BY s.bucket, s.vendor_id, s.venue_id, s.event_id", nativeQuery = true)
+    int insertHourly(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Daily rows for [from, to) (whole days) summed from the hourly rows
+    @Modifying
+    @Query(value = "INSERT INTO revenue_rollups (granularity, bucket_start, vendor_id, venue_id, event_id, " +
+            "bookings, cancellations, gross_revenue, cash_revenue, points_used, refunds, updated_at) " +
+            "SELECT 'DAY', date_trunc('day', r.bucket_start), r.vendor_id, r.venue_id, r.event_id, " +
+            "SUM(r.bookings), SUM(r.cancellations), SUM(r.gross_revenue), SUM(r.cash_revenue), SUM(r.points_used), " +
+            "SUM(r.refunds), CURRENT_TIMESTAMP FROM revenue_rollups r " +
+            "WHERE r.granularity = 'HOUR' AND r.bucket_start >= :from AND r.bucket_start < :to " +
+            "GROUP BY date_trunc('day', r.bucket_start), r.vendor_id, r.venue_id, r.event_id", nativeQuery = true)
+    int insertDaily(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.eventvenue.dto.RevenuePoint(r.bucketStart, SUM(r.bookings), SUM(r.cancellations), " +
+           "SUM(r.grossRevenue), SUM(r.cashRevenue), SUM(r.pointsUsed), SUM(r.refunds)) " +
+           "FROM RevenueRollup r WHERE r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "AND (:vendorId IS NULL OR r.vendorId = :vendorId) " +
+           "AND (:venueId IS NULL OR r.venueId = :venueId) " +
+           "AND (:eventId IS NULL OR r.eventId = :eventId) " +
+           "GROUP BY r.bucketStart ORDER BY r.bucketStart")
+    List<RevenuePoint> findSeries(@Param("granularity") String granularity,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  @Param("vendorId") Long vendorId,
+                                  @Param("venueId") Long venueId,
+                                  @Param("eventId") Long eventId);
+
+    // Per venue/event totals for one vendor since a day: [venueId, eventId, bookings, cancellations, net revenue]
+    @Query("SELECT r.venueId, r.eventId, SUM(r.bookings), SUM(r.cancellations), SUM(r.grossRevenue - r.refunds) " +
+           "FROM RevenueRollup r WHERE r.granularity = 'DAY' AND r.vendorId = :vendorId " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.venueId, r.eventId")
+    List<Object[]> sumByListing(@Param("vendorId") Long vendorId, @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to);
+
+    // Net revenue (gross minus refunds) from the daily rows
+    @Query("SELECT COALESCE(SUM(r.grossRevenue - r.refunds), 0) FROM RevenueRollup r WHERE r.granularity = 'DAY'")
+    BigDecimal sumNetRevenue();
+
+    @Query("SELECT COALESCE(SUM(r.grossRevenue - r.refunds), 0) FROM RevenueRollup r " +
+           "WHERE r.granularity = 'DAY' AND r.bucketStart >= :from")
+    BigDecimal sumNetRevenueSince(@Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query("DELETE FROM RevenueRollup r WHERE r.granularity = 'HOUR' AND r.bucketStart < :before")
+    int deleteHourlyBefore(@Param("before") LocalDateTime before);
+}
@@ -28,4 +28,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     // Get reviews for vendor's events
     @Query("SELECT r FROM Review r JOIN Event e ON r.eventId = e.id WHERE e.vendorId = :vendorId ORDER BY r.createdAt DESC")
     List<Review> findEventReviewsByVendorId(@Param("vendorId") Long vendorId);
+    
+    // Rating over all reviews of a vendor's venues and events: [count, average]
+    @Query("SELECT COUNT(r), AVG(r.rating) FROM Review r " +
+           "WHERE r.venueId IN (SELECT v.id FROM Venue v WHERE v.vendorId = :vendorId) " +
+           "OR r.eventId IN (SELECT e.id FROM Event e WHERE e.vendorId = :vendorId)")
+    List<Object[]> summarizeByVendorId(@Param("vendorId") Long vendorId);
 }
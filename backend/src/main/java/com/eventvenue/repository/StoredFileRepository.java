@@ -0,0 +1,47 @@
+package com.eventvenue.repository;
+
+import com.eventvenue.entity.StoredFile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    // Records an upload and returns the path the content lives at (the first upload's, on a repeat)
+    @Transactional
+    @Query(value = "INSERT INTO stored_files (sha256, relative_path, content_type, size_bytes, ref_count, created_at, updated_at) " +
+            "VALUES (:sha256, :relativePath, :contentType, :sizeBytes, 0, :now, :now) " +
+            "ON CONFLICT (sha256) DO UPDATE SET updated_at = EXCLUDED.updated_at " +
+            "RETURNING relative_path", nativeQuery = true)
+    String recordUpload(@Param("sha256") String sha256, @Param("relativePath") String relativePath,
+                        @Param("contentType") String contentType, @Param("sizeBytes") long sizeBytes,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount + 1, f.updatedAt = :now WHERE f.sha256 IN :hashes")
+    int acquire(@Param("hashes") Collection<String> hashes, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount - 1, f.updatedAt = :now WHERE f.sha256 IN :hashes AND f.refCount > 0")
+    int release(@Param("hashes") Collection<String> hashes, @Param("now") LocalDateTime now);
+
+    @Query("SELECT f FROM StoredFile f WHERE f.refCount = 0 AND f.updatedAt < :cutoff ORDER BY f.updatedAt")
+    List<StoredFile> findOrphans(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // Re-checks the orphan condition so a file uploaded or attached since findOrphans is kept
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM StoredFile f WHERE f.sha256 = :sha256 AND f.refCount = 0 AND f.updatedAt < :cutoff")
+    int deleteOrphan(@Param("sha256") String sha256, @Param("cutoff") LocalDateTime cutoff);
+}
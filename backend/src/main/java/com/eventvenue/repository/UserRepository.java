@@ -1,9 +1,19 @@
 package com.eventvenue.repository;
 
+import com.eventvenue.dto.AdminUserRow;
+import com.eventvenue.dto.PointsSummary;
 import com.eventvenue.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +24,43 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Role-specific queries for allowing same email across different roles
     Optional<User> findByEmailAndRole(String email, String role);
     boolean existsByEmailAndRole(String email, String role);
+    List<User> findByRoleAndEmailIn(String role, Collection<String> emails);
+
+    // Compare-and-set on the old hash, so a concurrent password change is never overwritten
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    // Aggregated in the database so no user rows are loaded; a missing balance counts as 0
+    @Query(value = "SELECT COUNT(*) AS users, COALESCE(SUM(COALESCE(points, 0)), 0) AS total, " +
+            "COALESCE(ROUND(AVG(COALESCE(points, 0)), 2), 0) AS average, " +
+            "COALESCE(MIN(COALESCE(points, 0)), 0) AS minimum, COALESCE(MAX(COALESCE(points, 0)), 0) AS maximum, " +
+            "COALESCE(percentile_disc(0.5) WITHIN GROUP (ORDER BY COALESCE(points, 0)), 0) AS p50, " +
+            "COALESCE(percentile_disc(0.9) WITHIN GROUP (ORDER BY COALESCE(points, 0)), 0) AS p90, " +
+            "COALESCE(percentile_disc(0.99) WITHIN GROUP (ORDER BY COALESCE(points, 0)), 0) AS p99 " +
+            "FROM users", nativeQuery = true)
+    PointsSummary summarizePoints();
+
+    // [bucket index, users]; index i counts balances in [edges[i-1], edges[i]), 0 is below the first edge
+    @Query(value = "SELECT width_bucket(COALESCE(points, 0), CAST(:edges AS BIGINT[])) AS bucket, COUNT(*) AS users " +
+            "FROM users GROUP BY 1 ORDER BY 1", nativeQuery = true)
+    List<Object[]> countByPointsBucket(@Param("edges") String edges);
+
+    // Admin listing; null filters match everything, pattern is a lower-case LIKE pattern.
+    // Vendor accounts are joined to their vendor record by its unique email.
+    @Query("SELECT new com.eventvenue.dto.AdminUserRow(u.id, u.username, u.email, u.firstName, u.lastName, " +
+            "u.points, u.isVerified, u.role, u.createdAt, v.id) FROM User u " +
+            "LEFT JOIN Vendor v ON u.role = 'VENDOR' AND v.email = u.email " +
+            "WHERE (:role IS NULL OR u.role = :role) " +
+            "AND (:pattern IS NULL OR LOWER(u.email) LIKE :pattern OR LOWER(u.username) LIKE :pattern " +
+            "OR LOWER(u.firstName) LIKE :pattern OR LOWER(u.lastName) LIKE :pattern)")
+    Slice<AdminUserRow> findAdminRows(@Param("role") String role, @Param("pattern") String pattern, Pageable pageable);
+
+    // Matches of the admin listing, counted up to cap
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM users " +
+            "WHERE (CAST(:role AS VARCHAR) IS NULL OR role = :role) " +
+            "AND (CAST(:pattern AS VARCHAR) IS NULL OR LOWER(email) LIKE :pattern OR LOWER(username) LIKE :pattern " +
+            "OR LOWER(first_name) LIKE :pattern OR LOWER(last_name) LIKE :pattern) LIMIT :cap) matches", nativeQuery = true)
+    long countAdminRows(@Param("role") String role, @Param("pattern") String pattern, @Param("cap") int cap);
 }
@@ -1,8 +1,15 @@
 package com.eventvenue.repository;
 
+import com.eventvenue.dto.AdminVendorRow;
 import com.eventvenue.entity.Vendor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.List;
@@ -16,4 +23,25 @@ public interface VendorRepository extends JpaRepository<Vendor, Long> {
     List<Vendor> findByIsActive(Boolean isActive);
     
     long countByStatus(String status);
+    long countByIsActive(Boolean isActive);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Vendor v SET v.password = :newHash WHERE v.id = :id AND v.password = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    // Admin listing; null filters match everything, pattern is a lower-case LIKE pattern
+    @Query("SELECT new com.eventvenue.dto.AdminVendorRow(v.id, v.username, v.businessName, v.email, v.status, " +
+            "v.isVerified, v.isActive, v.points, v.createdAt) FROM Vendor v " +
+            "WHERE (:status IS NULL OR v.status = :status) " +
+            "AND (:pattern IS NULL OR LOWER(v.businessName) LIKE :pattern OR LOWER(v.email) LIKE :pattern " +
+            "OR LOWER(v.username) LIKE :pattern)")
+    Slice<AdminVendorRow> findAdminRows(@Param("status") String status, @Param("pattern") String pattern, Pageable pageable);
+
+    // Matches of the admin listing, counted up to cap
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM vendors " +
+            "WHERE (CAST(:status AS VARCHAR) IS NULL OR status = :status) " +
+            "AND (CAST(:pattern AS VARCHAR) IS NULL OR LOWER(business_name) LIKE :pattern OR LOWER(email) LIKE :pattern " +
+            "OR LOWER(username) LIKE :pattern) LIMIT :cap) matches", nativeQuery = true)
+    long countAdminRows(@Param("status") String status, @Param("pattern") String pattern, @Param("cap") int cap);
 }
@@ -17,6 +17,8 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
 
     List<Venue> findByIsAvailable(Boolean isAvailable);
 
+    long countByIsAvailable(Boolean isAvailable);
+
     List<Venue> findByCityAndIsAvailable(String city, Boolean isAvailable);
 
     @Query("SELECT v FROM Venue v WHERE LOWER(v.name) LIKE LOWER(CONCAT('%', :query, '%')) " +
@@ -1,9 +1,13 @@
 package com.eventvenue.repository;
 
 import com.eventvenue.entity.WithdrawalRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -12,6 +16,15 @@ public interface WithdrawalRequestRepository extends JpaRepository<WithdrawalReq
     List<WithdrawalRequest> findByUserId(Long userId);
     
     List<WithdrawalRequest> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // Keyset page of one user's withdrawals, newest first, strictly after (beforeTime, beforeId)
+    @Query("SELECT w FROM WithdrawalRequest w WHERE w.userId = :userId " +
+           "AND (w.createdAt < :beforeTime OR (w.createdAt = :beforeTime AND w.id < :beforeId)) " +
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    List<WithdrawalRequest> findPageByUserId(@Param("userId") Long userId,
+                                             @Param("beforeTime") LocalDateTime beforeTime,
+                                             @Param("beforeId") Long beforeId,
+                                             Pageable pageable);
     
     List<WithdrawalRequest> findByStatus(String status);
     
@@ -1,7 +1,6 @@
 package com.eventvenue.security;
 
-import com.eventvenue.entity.User;
-import com.eventvenue.repository.UserRepository;
+import com.eventvenue.service.PrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -11,12 +10,11 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
     
     @Autowired
-    private UserRepository userRepository;
+    private PrincipalCache principalCache;
     
     @Override
     public UserPrincipal loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        return principalCache.findPrincipalByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-        return UserPrincipal.create(user);
     }
 }
@@ -1,15 +1,25 @@
 package com.eventvenue.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
+@Slf4j
 public class JwtTokenProvider {
 
     @Value("${jwt.secret}")
@@ -18,16 +28,57 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Verified tokens keyed by SHA-256 of the token; each entry expires together with its token
+    private Cache<ByteBuffer, TokenClaims> verifiedTokens;
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    /**
+     * Everything the filter needs from a verified token
+     */
+    public record TokenClaims(Long userId, String email, String role, long expiresAtMillis) {}
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<ByteBuffer, TokenClaims>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, TokenClaims claims, long currentTime) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, TokenClaims claims, long currentTime, long currentDuration) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, TokenClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String generateToken(Long userId, String email, String role) {
-        SecretKey key = getSigningKey();
-        
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
-        
+
         String token = Jwts.builder()
                 .subject(email)
                 .claim("userId", userId)
@@ -35,98 +86,91 @@ public class JwtTokenProvider {
                 .claim("role", role)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
-        
-        System.out.println("[JWT Provider] ===== TOKEN GENERATION =====");
-        System.out.println("[JWT Provider] User: " + email + ", Role: " + role + ", ID: " + userId);
-        System.out.println("[JWT Provider] Issued: " + now);
-        System.out.println("[JWT Provider] Expires: " + expiryDate);
-        System.out.println("[JWT Provider] Token: " + token.substring(0, Math.min(50, token.length())) + "...");
-        System.out.println("[JWT Provider] Token length: " + token.length());
-        System.out.println("[JWT Provider] ===============================");
-        
+
+        log.debug("Issued token for {} (role {}, id {}), expires {}", email, role, userId, expiryDate);
         return token;
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        Object userIdObj = claims.get("userId");
-        if (userIdObj instanceof Integer) {
-            return ((Integer) userIdObj).longValue();
+    /**
+     * Verify a token once and return all of its claims. Repeat calls with the same token are
+     * served from the cache without re-verifying the signature.
+     */
+    public Optional<TokenClaims> parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        ByteBuffer key = ByteBuffer.wrap(SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+        TokenClaims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > System.currentTimeMillis()) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(key);
+            return Optional.empty();
+        }
+
+        TokenClaims claims = verify(token);
+        if (claims != null) {
+            verifiedTokens.put(key, claims);
         }
-        return Long.parseLong(userIdObj.toString());
+        return Optional.ofNullable(claims);
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Long getUserIdFromToken(String token) {
+        return requireClaims(token).userId();
+    }
 
-        return claims.getSubject();
+    public String getEmailFromToken(String token) {
+        return requireClaims(token).email();
     }
 
     public String getRoleFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return (String) claims.get("role");
+        return requireClaims(token).role();
     }
 
     public boolean validateToken(String token) {
-        System.out.println("[JWT Provider] ===== TOKEN VALIDATION =====");
-        System.out.println("[JWT Provider] Token to validate: " + token.substring(0, Math.min(50, token.length())) + "...");
-        System.out.println("[JWT Provider] Token length: " + token.length());
-        
+        return parseToken(token).isPresent();
+    }
+
+    private TokenClaims requireClaims(String token) {
+        return parseToken(token).orElseThrow(() -> new JwtException("Invalid or expired token"));
+    }
+
+    private TokenClaims verify(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            
-            System.out.println("[JWT Provider] ✓✓✓ TOKEN VALID ✓✓✓");
-            System.out.println("[JWT Provider] Subject: " + claims.getSubject());
-            System.out.println("[JWT Provider] User ID: " + claims.get("userId"));
-            System.out.println("[JWT Provider] Role: " + claims.get("role"));
-            System.out.println("[JWT Provider] Issued: " + claims.getIssuedAt());
-            System.out.println("[JWT Provider] Expires: " + claims.getExpiration());
-            System.out.println("[JWT Provider] ===============================");
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            return new TokenClaims(
+                toLong(claims.get("userId")),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+            );
         } catch (ExpiredJwtException e) {
-            System.out.println("[JWT Provider] ✗✗✗ Token EXPIRED ✗✗✗");
-            System.out.println("[JWT Provider] Expiration date: " + e.getClaims().getExpiration());
-            System.out.println("[JWT Provider] Current time: " + new Date());
-        } catch (MalformedJwtException e) {
-            System.out.println("[JWT Provider] ✗✗✗ Token MALFORMED ✗✗✗");
-            System.out.println("[JWT Provider] Error: " + e.getMessage());
+            log.debug("Token expired at {}", e.getClaims().getExpiration());
         } catch (io.jsonwebtoken.security.SignatureException e) {
-            System.out.println("[JWT Provider] ✗✗✗ SIGNATURE VERIFICATION FAILED ✗✗✗");
-            System.out.println("[JWT Provider] This means the token was signed with a different key!");
-            System.out.println("[JWT Provider] Error: " + e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            System.out.println("[JWT Provider] ✗✗✗ Token UNSUPPORTED ✗✗✗");
-            System.out.println("[JWT Provider] Error: " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            System.out.println("[JWT Provider] ✗✗✗ Token claims EMPTY or NULL ✗✗✗");
-            System.out.println("[JWT Provider] Error: " + e.getMessage());
-        } catch (Exception e) {
-            System.out.println("[JWT Provider] ✗✗✗ UNEXPECTED ERROR ✗✗✗");
-            System.out.println("[JWT Provider] Error type: " + e.getClass().getName());
-            System.out.println("[JWT Provider] Error message: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Token signature verification failed: {}", e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid token: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static Long toLong(Object value) {
+        if (value == null) {
+            return null;
         }
-        System.out.println("[JWT Provider] ===============================");
-        return false;
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(value.toString());
+    }
+
+    private static long remainingNanos(TokenClaims claims) {
+        long remainingMillis = claims.expiresAtMillis() - System.currentTimeMillis();
+        return Math.max(0, Math.min(remainingMillis, Long.MAX_VALUE / 1_000_000L)) * 1_000_000L;
     }
 }
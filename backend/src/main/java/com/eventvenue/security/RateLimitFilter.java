@@ -0,0 +1,146 @@
+package com.eventvenue.security;
+
+import com.eventvenue.service.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client token buckets on the routes an abusive client can use to tie up the connection pool:
+ * login and signup, OTP send/verify, and point-paid bookings. Rejected requests get a 429 before
+ * they reach a controller, so they never borrow a database connection.
+ *
+ * Auth and OTP routes are keyed by client IP; bookings by the authenticated user (IP when there is
+ * none), which is why this filter runs after JwtAuthenticationFilter. Buckets live in a bounded
+ * Caffeine cache and are dropped once idle. Limits are set per group with
+ * rate-limit.{group}.burst and rate-limit.{group}.per-minute.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private record Group(String name, String method, boolean perUser, int burst, double perSecond,
+                         Counter allowed, Counter rejected) {}
+
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final Map<String, Group> groupsByPath = new HashMap<>();
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(Environment environment,
+                           MeterRegistry meterRegistry,
+                           @Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor,
+                           @Value("${rate-limit.max-buckets:100000}") long maxBuckets) {
+        this.enabled = enabled;
+        this.trustForwardedFor = trustForwardedFor;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        register(environment, meterRegistry, "auth", "POST", false, List.of(
+                "/api/auth/user/login", "/api/auth/vendor/login", "/api/auth/admin/login",
+                "/api/auth/user/signup", "/api/auth/vendor/signup", "/api/auth/admin/create-admin"));
+        register(environment, meterRegistry, "otp", "POST", false, List.of(
+                "/api/auth/verify-otp", "/api/auth/resend-otp"));
+        register(environment, meterRegistry, "booking", "POST", true, List.of(
+                "/api/bookings/with-points"));
+
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    private void register(Environment environment, MeterRegistry meterRegistry, String name, String method,
+                          boolean perUser, List<String> paths) {
+        int burst = environment.getProperty("rate-limit." + name + ".burst", Integer.class, 10);
+        double perMinute = environment.getProperty("rate-limit." + name + ".per-minute", Double.class, 10.0);
+        Group group = new Group(name, method, perUser, burst, perMinute / 60.0,
+                meterRegistry.counter("rate.limit.requests", "group", name, "outcome", "allowed"),
+                meterRegistry.counter("rate.limit.requests", "group", name, "outcome", "rejected"));
+        for (String path : paths) {
+            groupsByPath.put(path, group);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Group group = groupsByPath.get(request.getRequestURI());
+        if (group == null || !group.method().equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String client = group.perUser() ? userOrIp(request) : clientIp(request);
+        TokenBucket bucket = buckets.get(group.name() + '|' + client,
+                key -> new TokenBucket(group.burst(), group.perSecond()));
+
+        if (bucket.tryAcquire()) {
+            group.allowed().increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        group.rejected().increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilAvailable()) + 1);
+        log.debug("Rate limited {} {} for {} (group {})", request.getMethod(), request.getRequestURI(), client, group.name());
+
+        response.setStatus(429);
+        response.setContentType("application/json");
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+
+        Map<String, Object> errorDetails = new HashMap<>();
+        errorDetails.put("success", false);
+        errorDetails.put("message", "Too many requests - please retry in " + retryAfterSeconds + " seconds");
+        errorDetails.put("status", 429);
+        response.getWriter().write(MAPPER.writeValueAsString(errorDetails));
+    }
+
+    private String userOrIp(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && authentication.getPrincipal() != null) {
+            return "user:" + authentication.getPrincipal();
+        }
+        return clientIp(request);
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return "ip:" + (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,161 @@
+package com.eventvenue.security;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Access rules compiled into a trie of path segments. A lookup walks the request path once,
+ * without allocating, and returns the most specific rule: the deepest matching pattern, an exact
+ * pattern before a "/**" pattern at the same depth, and a method-specific rule before an
+ * any-method one.
+ *
+ * Patterns are literal segments, optionally ending in "/**" (matches the path itself and
+ * everything below it).
+ */
+public final class RouteMatcher {
+
+    public enum Access { PUBLIC, AUTHENTICATED, ROLE }
+
+    /**
+     * One access rule. A null method applies to every HTTP method.
+     */
+    public record Rule(String method, String pattern, Access access, String role) {
+
+        public boolean isPrefix() {
+            return pattern.endsWith("/**");
+        }
+
+        int depth() {
+            String path = isPrefix() ? pattern.substring(0, pattern.length() - 3) : pattern;
+            return (int) Arrays.stream(path.split("/")).filter(s -> !s.isEmpty()).count();
+        }
+    }
+
+    private static final String ANY_METHOD = "*";
+
+    private final Node root = new Node("");
+    private final List<Rule> rules;
+
+    public RouteMatcher(List<Rule> rules) {
+        for (Rule rule : rules) {
+            insert(rule);
+        }
+        List<Rule> ordered = new ArrayList<>(rules);
+        ordered.sort(Comparator.comparingInt(Rule::depth).reversed()
+                .thenComparing(Rule::isPrefix)
+                .thenComparing(rule -> rule.method() == null));
+        this.rules = List.copyOf(ordered);
+    }
+
+    /**
+     * Rules ordered most specific first. Registering them in this order with a first-match
+     * matcher (Spring Security) gives the same decisions as {@link #match}.
+     */
+    public List<Rule> rulesBySpecificity() {
+        return rules;
+    }
+
+    /**
+     * Most specific rule for the request, or null if no rule matches.
+     */
+    public Rule match(String method, String path) {
+        Node node = root;
+        Rule best = node.prefixRule(method);
+        int length = path.length();
+        int start = 0;
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                Node child = node.child(path, start, end);
+                if (child == null) {
+                    return best;
+                }
+                node = child;
+                Rule prefix = node.prefixRule(method);
+                if (prefix != null) {
+                    best = prefix;
+                }
+            }
+            start = end + 1;
+        }
+        Rule exact = node.exactRule(method);
+        return exact != null ? exact : best;
+    }
+
+    public boolean isPublic(String method, String path) {
+        Rule rule = match(method, path);
+        return rule != null && rule.access() == Access.PUBLIC;
+    }
+
+    private void insert(Rule rule) {
+        String path = rule.isPrefix() ? rule.pattern().substring(0, rule.pattern().length() - 3) : rule.pattern();
+        Node node = root;
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                node = node.childOrCreate(segment);
+            }
+        }
+        String method = rule.method() != null ? rule.method() : ANY_METHOD;
+        Map<String, Rule> target = rule.isPrefix() ? node.prefixRules : node.exactRules;
+        Rule existing = target.putIfAbsent(method, rule);
+        if (existing != null) {
+            throw new IllegalArgumentException("Duplicate route rule for " + method + " " + rule.pattern());
+        }
+    }
+
+    private static final class Node {
+        private final String segment;
+        private Node[] children = new Node[0];
+        private final Map<String, Rule> exactRules = new HashMap<>(4);
+        private final Map<String, Rule> prefixRules = new HashMap<>(4);
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        // Children per node are few, so a scan with regionMatches beats hashing a substring
+        private Node child(String path, int start, int end) {
+            int length = end - start;
+            for (Node child : children) {
+                if (child.segment.length() == length && path.regionMatches(start, child.segment, 0, length)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(String segment) {
+            Node existing = child(segment, 0, segment.length());
+            if (existing != null) {
+                return existing;
+            }
+            Node created = new Node(segment);
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = created;
+            return created;
+        }
+
+        private Rule exactRule(String method) {
+            if (exactRules.isEmpty()) {
+                return null;
+            }
+            Rule rule = exactRules.get(method);
+            return rule != null ? rule : exactRules.get(ANY_METHOD);
+        }
+
+        private Rule prefixRule(String method) {
+            if (prefixRules.isEmpty()) {
+                return null;
+            }
+            Rule rule = prefixRules.get(method);
+            return rule != null ? rule : prefixRules.get(ANY_METHOD);
+        }
+    }
+}
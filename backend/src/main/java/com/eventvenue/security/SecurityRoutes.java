@@ -0,0 +1,58 @@
+package com.eventvenue.security;
+
+import com.eventvenue.security.RouteMatcher.Access;
+import com.eventvenue.security.RouteMatcher.Rule;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The one place route access is declared. SecurityConfig registers these rules with Spring
+ * Security and JwtAuthenticationFilter uses the compiled matcher to skip token handling on
+ * public routes, so the two can no longer disagree. Requests matching no rule need authentication.
+ */
+@Component
+public class SecurityRoutes {
+
+    public static final List<Rule> RULES = List.of(
+        permit(null, "/api/auth/**"),
+        permit(null, "/api/health/**"),
+        permit(null, "/api/admin/create-admin"),
+        permit(null, "/api/admin/settings/conversion-rate"), // Public read access
+        permit("GET", "/api/admin/settings/platform-fees"), // Public read access; updates are admin-only
+        permit(null, "/uploads/**"), // Static image files
+        authenticated(null, "/api/upload/**"),
+        authenticated(null, "/api/venues/**"),
+        authenticated(null, "/api/bookings/**"),
+        authenticated(null, "/api/points/**"),
+        permit(null, "/api/withdrawals/**"), // Open for testing - userId in body
+        permit(null, "/api/credit-requests/**"), // Open for testing - userId in body
+        // Events: public GET for viewing, auth for modifications, vendor endpoints need VENDOR
+        role(null, "/api/events/vendor/**", "VENDOR"),
+        permit("GET", "/api/events/**"),
+        authenticated(null, "/api/events/**"),
+        role(null, "/api/user/**", "USER"),
+        role(null, "/api/vendor/**", "VENDOR"),
+        role(null, "/api/admin/**", "ADMIN"),
+        permit(null, "/actuator/health"),
+        role(null, "/actuator/**", "ADMIN")
+    );
+
+    private final RouteMatcher matcher = new RouteMatcher(RULES);
+
+    public RouteMatcher getMatcher() {
+        return matcher;
+    }
+
+    private static Rule permit(String method, String pattern) {
+        return new Rule(method, pattern, Access.PUBLIC, null);
+    }
+
+    private static Rule authenticated(String method, String pattern) {
+        return new Rule(method, pattern, Access.AUTHENTICATED, null);
+    }
+
+    private static Rule role(String method, String pattern, String role) {
+        return new Rule(method, pattern, Access.ROLE, role);
+    }
+}
@@ -0,0 +1,266 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.BulkItemResult;
+import com.eventvenue.dto.BulkResult;
+import com.eventvenue.entity.CreditRequest;
+import com.eventvenue.entity.User;
+import com.eventvenue.entity.Vendor;
+import com.eventvenue.repository.CreditRequestRepository;
+import com.eventvenue.repository.UserRepository;
+import com.eventvenue.repository.VendorRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Admin actions applied to many ids in one call: vendor approval and rejection, points adjustment
+ * and credit request approval. Ids are processed in chunks of admin.bulk.chunk-size, each chunk in
+ * one transaction that loads its rows with a single query and writes them back in JDBC batches.
+ *
+ * An id that fails validation (not found, wrong status, balance would go negative) is reported and
+ * left untouched without affecting the rest of its chunk; a chunk whose transaction fails is
+ * reported as failed as a whole and the other chunks still run. Emails are queued in the outbox
+ * inside the chunk transaction, so they are sent by the dispatcher's next run only for committed
+ * changes; audit entries are written once the chunk has committed.
+ */
+@Service
+@Slf4j
+public class AdminBulkService {
+
+    private static final String INSERT_POINT_HISTORY = "INSERT INTO points_history " +
+            "(user_id, points_changed, reason, previous_points, new_points, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final VendorRepository vendorRepository;
+    private final UserRepository userRepository;
+    private final CreditRequestRepository creditRequestRepository;
+    private final AuditLogService auditLogService;
+    private final EmailService emailService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public AdminBulkService(VendorRepository vendorRepository,
+                            UserRepository userRepository,
+                            CreditRequestRepository creditRequestRepository,
+                            AuditLogService auditLogService,
+                            EmailService emailService,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${admin.bulk.chunk-size:100}") int chunkSize,
+                            @Value("${admin.bulk.max-items:1000}") int maxItems) {
+        this.vendorRepository = vendorRepository;
+        this.userRepository = userRepository;
+        this.creditRequestRepository = creditRequestRepository;
+        this.auditLogService = auditLogService;
+        this.emailService = emailService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * What one chunk did: ids rejected with a reason, and work to run once the chunk has committed
+     */
+    private static final class ChunkOutcome {
+        private final Map<Long, String> rejected = new HashMap<>();
+        private final List<Runnable> afterCommit = new ArrayList<>();
+
+        void reject(Long id, String error) {
+            rejected.put(id, error);
+        }
+
+        void afterCommit(Runnable action) {
+            afterCommit.add(action);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkAction {
+        void apply(List<Long> chunk, ChunkOutcome outcome);
+    }
+
+    public BulkResult approveVendors(List<Long> vendorIds) {
+        return run("approve vendors", vendorIds, (chunk, outcome) -> {
+            List<Vendor> vendors = pending(vendorRepository.findAllById(chunk), chunk, outcome);
+            for (Vendor vendor : vendors) {
+                vendor.setStatus("APPROVED");
+                vendor.setIsVerified(true);
+            }
+            vendorRepository.saveAll(vendors);
+
+            // The User Management page reads isVerified from the vendor's user row
+            Set<String> emails = vendors.stream().map(Vendor::getEmail).collect(Collectors.toSet());
+            if (!emails.isEmpty()) {
+                List<User> users = userRepository.findByRoleAndEmailIn("VENDOR", emails);
+                users.forEach(user -> user.setIsVerified(true));
+                userRepository.saveAll(users);
+            }
+
+            for (Vendor vendor : vendors) {
+                emailService.sendVendorApprovalEmail(vendor.getEmail(), vendor.getBusinessName());
+                outcome.afterCommit(() -> auditLogService.log("VENDOR_APPROVED", "VENDOR", vendor.getId(),
+                        "Vendor approved: " + vendor.getBusinessName(), "ADMIN", "ADMIN", null));
+            }
+        });
+    }
+
+    public BulkResult rejectVendors(List<Long> vendorIds, String reason) {
+        return run("reject vendors", vendorIds, (chunk, outcome) -> {
+            List<Vendor> vendors = pending(vendorRepository.findAllById(chunk), chunk, outcome);
+            vendors.forEach(vendor -> vendor.setStatus("REJECTED"));
+            vendorRepository.saveAll(vendors);
+
+            for (Vendor vendor : vendors) {
+                emailService.sendVendorRejectionEmail(vendor.getEmail(), vendor.getBusinessName(), reason);
+                outcome.afterCommit(() -> auditLogService.log("VENDOR_REJECTED", "VENDOR", vendor.getId(),
+                        "Vendor rejected: " + vendor.getBusinessName() + ". Reason: " + reason, "ADMIN", "ADMIN", null));
+            }
+        });
+    }
+
+    public BulkResult adjustUserPoints(List<Long> userIds, Long pointsChange, String reason) {
+        if (pointsChange == null || pointsChange == 0) {
+            throw new RuntimeException("pointsChange must be a non-zero number");
+        }
+        return run("adjust user points", userIds, (chunk, outcome) -> {
+            Map<Long, User> found = byId(userRepository.findAllById(chunk), User::getId);
+            List<User> changed = new ArrayList<>();
+            List<Object[]> history = new ArrayList<>();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (Long id : chunk) {
+                User user = found.get(id);
+                if (user == null) {
+                    outcome.reject(id, "User not found");
+                    continue;
+                }
+                long previousPoints = user.getPoints() != null ? user.getPoints() : 0L;
+                long newPoints = previousPoints + pointsChange;
+                if (newPoints < 0) {
+                    outcome.reject(id, "Cannot reduce points below zero");
+                    continue;
+                }
+                user.setPoints(newPoints);
+                changed.add(user);
+                history.add(new Object[]{id, pointsChange, reason, previousPoints, newPoints, now});
+            }
+            userRepository.saveAll(changed);
+            // IDENTITY keys keep Hibernate from batching these inserts, so they go through JDBC
+            if (!history.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_POINT_HISTORY, history);
+            }
+        });
+    }
+
+    public BulkResult approveCreditRequests(List<Long> requestIds, Long adminId, String notes) {
+        return run("approve credit requests", requestIds, (chunk, outcome) -> {
+            Map<Long, CreditRequest> found = byId(creditRequestRepository.findAllById(chunk), CreditRequest::getId);
+            List<CreditRequest> approved = new ArrayList<>();
+            for (Long id : chunk) {
+                CreditRequest request = found.get(id);
+                if (request == null) {
+                    outcome.reject(id, "Request not found: " + id);
+                } else if (!request.isPending()) {
+                    outcome.reject(id, "Request is not pending. Current status: " + request.getStatus());
+                } else {
+                    approved.add(request);
+                }
+            }
+
+            Map<Long, User> users = byId(userRepository.findAllById(
+                    approved.stream().map(CreditRequest::getUserId).collect(Collectors.toSet())), User::getId);
+            List<CreditRequest> credited = new ArrayList<>();
+            for (CreditRequest request : approved) {
+                User user = users.get(request.getUserId());
+                if (user == null) {
+                    outcome.reject(request.getId(), "User not found: " + request.getUserId());
+                    continue;
+                }
+                // The same user can have several requests in one chunk; each adds to the loaded entity
+                long currentPoints = user.getPoints() != null ? user.getPoints() : 0L;
+                user.setPoints(currentPoints + request.getPointsRequested());
+                request.approve(adminId, notes);
+                credited.add(request);
+            }
+            creditRequestRepository.saveAll(credited);
+            userRepository.saveAll(users.values());
+        });
+    }
+
+    private BulkResult run(String action, List<Long> ids, ChunkAction chunkAction) {
+        List<Long> unique = unique(ids);
+        Map<Long, BulkItemResult> results = new HashMap<>();
+        for (int from = 0; from < unique.size(); from += chunkSize) {
+            List<Long> chunk = unique.subList(from, Math.min(from + chunkSize, unique.size()));
+            ChunkOutcome outcome = new ChunkOutcome();
+            try {
+                transactionTemplate.executeWithoutResult(status -> chunkAction.apply(chunk, outcome));
+            } catch (RuntimeException e) {
+                log.warn("Bulk {} failed for a chunk of {} ids: {}", action, chunk.size(), e.getMessage());
+                chunk.forEach(id -> results.put(id, BulkItemResult.failed(id, "Batch failed: " + e.getMessage())));
+                continue;
+            }
+            for (Long id : chunk) {
+                String error = outcome.rejected.get(id);
+                results.put(id, error == null ? BulkItemResult.ok(id) : BulkItemResult.failed(id, error));
+            }
+            outcome.afterCommit.forEach(Runnable::run);
+        }
+
+        BulkResult result = BulkResult.of(unique.stream().map(results::get).toList());
+        log.info("Bulk {}: {} of {} succeeded", action, result.succeeded(), result.requested());
+        return result;
+    }
+
+    private List<Long> unique(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new RuntimeException("No ids given");
+        }
+        Set<Long> unique = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                unique.add(id);
+            }
+        }
+        if (unique.size() > maxItems) {
+            throw new RuntimeException("Too many ids (max " + maxItems + " per request)");
+        }
+        return new ArrayList<>(unique);
+    }
+
+    // Vendors of the chunk still awaiting a decision; the rest are rejected with the reason
+    private static List<Vendor> pending(List<Vendor> loaded, List<Long> chunk, ChunkOutcome outcome) {
+        Map<Long, Vendor> found = byId(loaded, Vendor::getId);
+        List<Vendor> pending = new ArrayList<>();
+        for (Long id : chunk) {
+            Vendor vendor = found.get(id);
+            if (vendor == null) {
+                outcome.reject(id, "Vendor not found");
+            } else if (!"PENDING".equals(vendor.getStatus())) {
+                outcome.reject(id, "Vendor is not pending. Current status: " + vendor.getStatus());
+            } else {
+                pending.add(vendor);
+            }
+        }
+        return pending;
+    }
+
+    private static <T> Map<Long, T> byId(List<T> rows, Function<T, Long> id) {
+        return rows.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+}
@@ -0,0 +1,148 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.AdminBookingRow;
+import com.eventvenue.dto.AdminPage;
+import com.eventvenue.dto.AdminUserRow;
+import com.eventvenue.dto.AdminVendorRow;
+import com.eventvenue.repository.BookingRepository;
+import com.eventvenue.repository.UserRepository;
+import com.eventvenue.repository.VendorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Paged, sortable and searchable admin listings of users, vendors and bookings. Pages are read as
+ * slices of projection rows (one extra row tells whether there is a next page), so no entity or
+ * full-table count is ever loaded.
+ *
+ * Totals for the plain and status-filtered listings come from the in-memory
+ * {@link PlatformStatsService} counters. Searches are counted in the database, but only up to
+ * admin.listing.count-cap matches, so a broad search costs at most that many index entries.
+ */
+@Service
+public class AdminListingService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private static final Set<String> USER_SORTS = Set.of("createdAt", "email", "username", "points");
+    private static final Set<String> VENDOR_SORTS = Set.of("createdAt", "businessName", "email", "status", "points");
+    private static final Set<String> BOOKING_SORTS = Set.of("createdAt", "bookingDate", "totalAmount", "status");
+
+    // Status filters that have a live counter
+    private static final Map<String, String> VENDOR_STATUS_STATS = Map.of(
+            "APPROVED", "approvedVendors", "PENDING", "pendingVendors", "REJECTED", "rejectedVendors");
+    private static final Map<String, String> BOOKING_STATUS_STATS = Map.of(
+            "PENDING", "pendingBookings", "CONFIRMED", "confirmedBookings",
+            "COMPLETED", "completedBookings", "CANCELLED", "cancelledBookings");
+
+    private final UserRepository userRepository;
+    private final VendorRepository vendorRepository;
+    private final BookingRepository bookingRepository;
+    private final PlatformStatsService platformStatsService;
+    private final int countCap;
+
+    public AdminListingService(UserRepository userRepository,
+                               VendorRepository vendorRepository,
+                               BookingRepository bookingRepository,
+                               PlatformStatsService platformStatsService,
+                               @Value("${admin.listing.count-cap:1000}") int countCap) {
+        this.userRepository = userRepository;
+        this.vendorRepository = vendorRepository;
+        this.bookingRepository = bookingRepository;
+        this.platformStatsService = platformStatsService;
+        this.countCap = countCap;
+    }
+
+    public AdminPage<AdminUserRow> listUsers(String role, String search, int page, int size, String sort, String direction) {
+        String roleFilter = upperOrNull(role);
+        String pattern = likePattern(search);
+        Pageable pageable = pageable(page, size, sort, direction, USER_SORTS);
+        Slice<AdminUserRow> slice = userRepository.findAdminRows(roleFilter, pattern, pageable);
+        String stat = roleFilter == null && pattern == null ? "totalUsers" : null;
+        return toPage(slice, stat, () -> userRepository.countAdminRows(roleFilter, pattern, countCap));
+    }
+
+    public AdminPage<AdminVendorRow> listVendors(String status, String search, int page, int size, String sort, String direction) {
+        String statusFilter = upperOrNull(status);
+        String pattern = likePattern(search);
+        Pageable pageable = pageable(page, size, sort, direction, VENDOR_SORTS);
+        Slice<AdminVendorRow> slice = vendorRepository.findAdminRows(statusFilter, pattern, pageable);
+        String stat = pattern != null ? null
+                : statusFilter == null ? "totalVendors" : VENDOR_STATUS_STATS.get(statusFilter);
+        return toPage(slice, stat, () -> vendorRepository.countAdminRows(statusFilter, pattern, countCap));
+    }
+
+    /**
+     * @param vendorId only bookings of this vendor's venues and events, when not null
+     */
+    public AdminPage<AdminBookingRow> listBookings(String status, String search, Long vendorId,
+                                                   int page, int size, String sort, String direction) {
+        String statusFilter = upperOrNull(status);
+        String pattern = likePattern(search);
+        Long bookingId = search != null && search.trim().matches("\\d{1,18}") ? Long.valueOf(search.trim()) : null;
+        Pageable pageable = pageable(page, size, sort, direction, BOOKING_SORTS);
+        Slice<AdminBookingRow> slice = bookingRepository.findAdminRows(statusFilter, pattern, bookingId,
+                vendorId, pageable);
+        String stat = pattern != null || vendorId != null ? null
+                : statusFilter == null ? "totalBookings" : BOOKING_STATUS_STATS.get(statusFilter);
+        return toPage(slice, stat, () -> bookingRepository.countAdminRows(statusFilter, pattern, bookingId,
+                vendorId, countCap));
+    }
+
+    private <T> AdminPage<T> toPage(Slice<T> slice, String stat, LongSupplier cappedCount) {
+        long total;
+        boolean exact;
+        if (stat != null) {
+            total = platformStatsService.get(stat);
+            exact = true;
+        } else if (!slice.hasNext()) {
+            // Last page: the total follows from the offset
+            total = slice.getPageable().getOffset() + slice.getNumberOfElements();
+            exact = true;
+        } else {
+            total = cappedCount.getAsLong();
+            exact = total < countCap;
+        }
+        return new AdminPage<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), total, exact);
+    }
+
+    // Newest first by default; id breaks ties so pages never overlap
+    private static Pageable pageable(int page, int size, String sort, String direction, Set<String> allowedSorts) {
+        if (page < 0) {
+            throw new RuntimeException("Page must be 0 or greater");
+        }
+        String property = sort == null || sort.isBlank() ? "createdAt" : sort;
+        if (!allowedSorts.contains(property)) {
+            throw new RuntimeException("Cannot sort by " + property + " (allowed: " + String.join(", ", allowedSorts) + ")");
+        }
+        Sort.Direction order = direction == null || direction.isBlank()
+                ? Sort.Direction.DESC
+                : Sort.Direction.fromString(direction);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return PageRequest.of(page, pageSize, Sort.by(order, property).and(Sort.by(order, "id")));
+    }
+
+    private static String upperOrNull(String value) {
+        return value == null || value.isBlank() || "ALL".equalsIgnoreCase(value) ? null : value.trim().toUpperCase();
+    }
+
+    // Case-insensitive substring match; LIKE wildcards typed by the admin are matched literally
+    private static String likePattern(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        String escaped = search.trim().toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -10,7 +10,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -28,10 +27,6 @@ public class AdminService {
     @Autowired
     private AuditLogService auditLogService;
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
-    }
-
     @Transactional
     public void deleteUser(Long userId) {
         if (!userRepository.existsById(userId)) {
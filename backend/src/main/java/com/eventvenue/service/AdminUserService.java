@@ -3,7 +3,6 @@ package com.eventvenue.service;
 import com.eventvenue.entity.AdminUser;
 import com.eventvenue.repository.AdminUserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -15,7 +14,7 @@ public class AdminUserService {
     private AdminUserRepository adminUserRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     public AdminUser createAdmin(String email, String password, String name) {
         if (adminUserRepository.existsByEmail(email)) {
@@ -24,7 +23,7 @@ public class AdminUserService {
 
         AdminUser admin = AdminUser.builder()
                 .email(email)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHashingService.encode(password))
                 .name(name)
                 .role("ADMIN")
                 .isActive(true)
@@ -40,4 +39,8 @@ public class AdminUserService {
     public Optional<AdminUser> findById(Long id) {
         return adminUserRepository.findById(id);
     }
+
+    public void updatePasswordHash(AdminUser admin, String newHash) {
+        adminUserRepository.updatePasswordHash(admin.getId(), admin.getPassword(), newHash);
+    }
 }
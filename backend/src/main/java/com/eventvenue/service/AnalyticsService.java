@@ -1,94 +1,122 @@
 package com.eventvenue.service;
 
 import com.eventvenue.dto.ApiResponse;
+import com.eventvenue.dto.PointsStats;
+import com.eventvenue.dto.PointsSummary;
 import com.eventvenue.repository.UserRepository;
-import com.eventvenue.repository.VendorRepository;
-import com.eventvenue.repository.VenueRepository;
-import com.eventvenue.repository.BookingRepository;
-import com.eventvenue.repository.EventRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class AnalyticsService {
 
-    @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private VendorRepository vendorRepository;
+    // Lower bounds of the point balance histogram buckets
+    private static final long[] POINTS_BUCKET_EDGES = {0, 100, 500, 1000, 2000, 5000, 10000, 50000, 100000};
+    private static final String POINTS_BUCKET_EDGES_ARRAY = Arrays.toString(POINTS_BUCKET_EDGES)
+            .replace('[', '{').replace(']', '}');
 
     @Autowired
-    private VenueRepository venueRepository;
+    private UserRepository userRepository;
 
     @Autowired
-    private BookingRepository bookingRepository;
+    private PlatformStatsService platformStatsService;
 
     @Autowired
-    private EventRepository eventRepository;
+    private RevenueRollupService revenueRollupService;
 
     public Map<String, Object> getPlatformStats() {
+        Map<String, Long> counts = platformStatsService.snapshot();
         Map<String, Object> stats = new HashMap<>();
 
         // User statistics
-        stats.put("totalUsers", userRepository.count());
-        stats.put("approvedVendors", vendorRepository.countByStatus("APPROVED"));
-        stats.put("pendingVendors", vendorRepository.countByStatus("PENDING"));
-        stats.put("rejectedVendors", vendorRepository.countByStatus("REJECTED"));
+        stats.put("totalUsers", counts.get("totalUsers"));
+        stats.put("approvedVendors", counts.get("approvedVendors"));
+        stats.put("pendingVendors", counts.get("pendingVendors"));
+        stats.put("rejectedVendors", counts.get("rejectedVendors"));
 
         // Venue statistics
-        stats.put("totalVenues", venueRepository.count());
-        stats.put("availableVenues", (long) venueRepository.findByIsAvailable(true).size());
+        stats.put("totalVenues", counts.get("totalVenues"));
+        stats.put("availableVenues", counts.get("availableVenues"));
 
         // Booking statistics
-        stats.put("totalBookings", bookingRepository.count());
-        stats.put("completedBookings", bookingRepository.countByStatus("COMPLETED"));
-        stats.put("pendingBookings", bookingRepository.countByStatus("PENDING"));
-        stats.put("cancelledBookings", bookingRepository.countByStatus("CANCELLED"));
+        stats.put("totalBookings", counts.get("totalBookings"));
+        stats.put("completedBookings", counts.get("completedBookings"));
+        stats.put("pendingBookings", counts.get("pendingBookings"));
+        stats.put("cancelledBookings", counts.get("cancelledBookings"));
 
         // Event statistics
-        stats.put("totalEvents", eventRepository.count());
-        stats.put("activeEvents", (long) eventRepository.findByIsActive(true).size());
+        stats.put("totalEvents", counts.get("totalEvents"));
+        stats.put("activeEvents", counts.get("activeEvents"));
 
-        // Revenue statistics (mock data - would need payment table)
-        stats.put("totalRevenue", BigDecimal.ZERO);
-        stats.put("monthlyRevenue", BigDecimal.ZERO);
+        // Revenue statistics (net of refunds, from the daily rollups)
+        stats.put("totalRevenue", revenueRollupService.getTotalNetRevenue());
+        stats.put("monthlyRevenue", revenueRollupService.getNetRevenueSince(LocalDate.now().withDayOfMonth(1)));
 
         return stats;
     }
 
     public Map<String, Object> getVendorStats() {
+        Map<String, Long> counts = platformStatsService.snapshot();
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalVendors", vendorRepository.count());
-        stats.put("approvedVendors", vendorRepository.countByStatus("APPROVED"));
-        stats.put("pendingVendors", vendorRepository.countByStatus("PENDING"));
-        stats.put("rejectedVendors", vendorRepository.countByStatus("REJECTED"));
-        stats.put("activeVendors", (long) vendorRepository.findByIsActive(true).size());
+        stats.put("totalVendors", counts.get("totalVendors"));
+        stats.put("approvedVendors", counts.get("approvedVendors"));
+        stats.put("pendingVendors", counts.get("pendingVendors"));
+        stats.put("rejectedVendors", counts.get("rejectedVendors"));
+        stats.put("activeVendors", counts.get("activeVendors"));
         return stats;
     }
 
     public Map<String, Object> getBookingStats() {
+        Map<String, Long> counts = platformStatsService.snapshot();
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalBookings", bookingRepository.count());
-        stats.put("completedBookings", bookingRepository.countByStatus("COMPLETED"));
-        stats.put("pendingBookings", bookingRepository.countByStatus("PENDING"));
-        stats.put("cancelledBookings", bookingRepository.countByStatus("CANCELLED"));
-        stats.put("confirmedBookings", bookingRepository.countByStatus("CONFIRMED"));
+        stats.put("totalBookings", counts.get("totalBookings"));
+        stats.put("completedBookings", counts.get("completedBookings"));
+        stats.put("pendingBookings", counts.get("pendingBookings"));
+        stats.put("cancelledBookings", counts.get("cancelledBookings"));
+        stats.put("confirmedBookings", counts.get("confirmedBookings"));
         return stats;
     }
 
     public Map<String, Object> getUserStats() {
+        PointsStats points = getPointsStats();
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalUsers", userRepository.count());
-        long totalPoints = userRepository.findAll().stream()
-                .mapToLong(user -> user.getPoints() != null ? user.getPoints() : 0L)
-                .sum();
-        stats.put("totalPointsDistributed", totalPoints);
-        stats.put("averageUserPoints", totalPoints / Math.max(userRepository.count(), 1));
+        stats.put("totalUsers", points.users());
+        stats.put("totalPointsDistributed", points.total());
+        stats.put("averageUserPoints", points.total() / Math.max(points.users(), 1));
+        stats.put("pointsDistribution", points);
         return stats;
     }
+
+    /**
+     * Sum, mean, percentiles and a histogram of user point balances, all aggregated by the
+     * database: two queries and constant memory however many users there are.
+     */
+    public PointsStats getPointsStats() {
+        PointsSummary summary = userRepository.summarizePoints();
+
+        long[] counts = new long[POINTS_BUCKET_EDGES.length + 1];
+        for (Object[] row : userRepository.countByPointsBucket(POINTS_BUCKET_EDGES_ARRAY)) {
+            counts[((Number) row[0]).intValue()] = ((Number) row[1]).longValue();
+        }
+        List<PointsStats.Bucket> histogram = new ArrayList<>();
+        if (counts[0] > 0) {
+            // Negative balances should not exist; reported so they get noticed
+            histogram.add(new PointsStats.Bucket(summary.getMinimum(), POINTS_BUCKET_EDGES[0], counts[0]));
+        }
+        for (int i = 1; i < counts.length; i++) {
+            Long to = i < POINTS_BUCKET_EDGES.length ? POINTS_BUCKET_EDGES[i] : null;
+            histogram.add(new PointsStats.Bucket(POINTS_BUCKET_EDGES[i - 1], to, counts[i]));
+        }
+
+        return new PointsStats(summary.getUsers(), summary.getTotal(), summary.getAverage(),
+                summary.getMinimum(), summary.getMaximum(),
+                summary.getP50(), summary.getP90(), summary.getP99(), histogram);
+    }
 }
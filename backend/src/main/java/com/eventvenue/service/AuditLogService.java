@@ -1,56 +1,143 @@
 package com.eventvenue.service;
 
+import com.eventvenue.dto.AuditLogEntry;
+import com.eventvenue.dto.AuditLogFilter;
+import com.eventvenue.dto.AuditLogPage;
 import com.eventvenue.entity.AuditLog;
 import com.eventvenue.repository.AuditLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class AuditLogService {
     
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_FLUSH_ROWS = 1000;
+    // Keyset start for the first page: later than any row
+    private static final LocalDateTime FIRST_PAGE_TIME = LocalDateTime.of(9999, 1, 1, 0, 0);
+    
+    private static final String WRITE_MODE_OUTBOX = "outbox";
+    
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final OutboxService outboxService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    
+    // async (buffered batch inserts) or outbox (transactional, through the outbox)
+    @Value("${audit.write-mode:async}")
+    private String writeMode;
     
-    @Transactional
+    /**
+     * Record an audit entry. In the default async mode it is buffered and batch-inserted by
+     * {@link AuditLogWriter}, adding no database round trip to the caller; in outbox mode it is
+     * queued in the caller's transaction and so written only, and always, if that commits.
+     */
     public void log(String action, String entityType, Long entityId, String description, 
                    String performedBy, String userRole, String ipAddress) {
-        AuditLog auditLog = new AuditLog();
-        auditLog.setAction(action);
-        auditLog.setEntityType(entityType);
-        auditLog.setEntityId(entityId);
-        auditLog.setDescription(description);
-        auditLog.setPerformedBy(performedBy != null ? performedBy : "SYSTEM");
-        auditLog.setUserRole(userRole != null ? userRole : "SYSTEM");
-        auditLog.setIpAddress(ipAddress);
-        auditLogRepository.save(auditLog);
+        AuditLogEntry entry = new AuditLogEntry(null, LocalDateTime.now(), action, entityType, entityId, description,
+                performedBy != null ? performedBy : "SYSTEM",
+                userRole != null ? userRole : "SYSTEM",
+                ipAddress);
+        if (WRITE_MODE_OUTBOX.equalsIgnoreCase(writeMode)) {
+            outboxService.enqueue(AuditLogWriter.TYPE_AUDIT, null, entry);
+        } else {
+            auditLogWriter.submit(entry);
+        }
     }
     
-    @Transactional
     public void log(String action, String entityType, Long entityId, String description) {
         log(action, entityType, entityId, description, "SYSTEM", "SYSTEM", null);
     }
     
-    public List<AuditLog> getAllLogs() {
-        return auditLogRepository.findTop100ByOrderByCreatedAtDesc();
-    }
-    
-    public List<AuditLog> getLogsByEntityType(String entityType) {
-        return auditLogRepository.findByEntityTypeOrderByCreatedAtDesc(entityType);
+    public AuditLogPage getLogs(AuditLogFilter filter, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        LocalDateTime beforeTime = FIRST_PAGE_TIME;
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            beforeTime = LocalDateTime.parse(parts[0]);
+            beforeId = Long.parseLong(parts[1]);
+        }
+
+        // One extra row tells whether there is a next page without a count query
+        List<AuditLog> rows = auditLogRepository.findPage(filter, beforeTime, beforeId, size + 1);
+        if (rows.size() <= size) {
+            return new AuditLogPage(rows, null);
+        }
+        List<AuditLog> page = rows.subList(0, size);
+        AuditLog last = page.get(size - 1);
+        return new AuditLogPage(new ArrayList<>(page), encodeCursor(last.getCreatedAt(), last.getId()));
     }
     
-    public List<AuditLog> getLogsByAction(String action) {
-        return auditLogRepository.findByActionOrderByCreatedAtDesc(action);
+    /**
+     * Write every matching row to out as CSV or NDJSON while reading them from a database cursor,
+     * so memory use does not depend on how many rows match
+     */
+    public long export(AuditLogFilter filter, String format, OutputStream out) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Long written = readOnly.execute(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            long count = 0;
+            try (Stream<AuditLogEntry> rows = auditLogRepository.streamAll(filter)) {
+                if (csv) {
+                    writer.write(AuditLogEntry.CSV_HEADER);
+                    writer.write('\n');
+                }
+                Iterator<AuditLogEntry> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    AuditLogEntry row = iterator.next();
+                    writer.write(csv ? row.toCsv() : objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                    if (++count % EXPORT_FLUSH_ROWS == 0) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count;
+        });
+        return written != null ? written : 0;
     }
     
-    public List<AuditLog> getLogsByPerformer(String performedBy) {
-        return auditLogRepository.findByPerformedByOrderByCreatedAtDesc(performedBy);
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
     
-    public List<AuditLog> getLogsByDateRange(LocalDateTime start, LocalDateTime end) {
-        return auditLogRepository.findByCreatedAtBetweenOrderByCreatedAtDesc(start, end);
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
     }
 }
@@ -0,0 +1,149 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.AuditLogEntry;
+import com.eventvenue.entity.OutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes audit rows in batches off the request path. Callers hand entries to a {@link RingBuffer}
+ * and return; one writer thread drains it every flush-interval-ms (sooner once a batch is waiting)
+ * and inserts each batch with a single JDBC batch statement. When the buffer is full the caller
+ * inserts its own entry, which slows producers down instead of dropping rows.
+ *
+ * Buffered rows are flushed on shutdown but lost if the process dies, and a batch the database
+ * rejects is logged and dropped. audit.write-mode=outbox trades latency for durability: entries go
+ * through the outbox in the caller's transaction and are inserted here by {@link #handle}.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements OutboxHandler {
+
+    public static final String TYPE_AUDIT = "AUDIT";
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs " +
+            "(action, entity_type, entity_id, description, performed_by, user_role, ip_address, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxService outboxService;
+    private final RingBuffer<AuditLogEntry> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          OutboxService outboxService,
+                          MeterRegistry meterRegistry,
+                          @Value("${audit.buffer.capacity:8192}") int capacity,
+                          @Value("${audit.batch-size:200}") int batchSize,
+                          @Value("${audit.flush-interval-ms:200}") long flushIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxService = outboxService;
+        this.buffer = new RingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.writtenCounter = meterRegistry.counter("audit.rows.written");
+        this.overflowCounter = meterRegistry.counter("audit.buffer.overflow");
+        this.failedCounter = meterRegistry.counter("audit.rows.failed");
+        Gauge.builder("audit.buffer.size", buffer, RingBuffer::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::run, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    public void submit(AuditLogEntry entry) {
+        if (buffer.offer(entry)) {
+            if (buffer.size() >= batchSize) {
+                LockSupport.unpark(writer);
+            }
+            return;
+        }
+        overflowCounter.increment();
+        write(List.of(entry));
+    }
+
+    private void run() {
+        List<AuditLogEntry> batch = new ArrayList<>(batchSize);
+        while (true) {
+            buffer.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+                continue;
+            }
+            // Checked only once the buffer is empty, so shutdown flushes everything queued
+            if (!running) {
+                return;
+            }
+            LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+    }
+
+    private void write(List<AuditLogEntry> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), AuditLogWriter::bind);
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            failedCounter.increment(batch.size());
+            log.error("Dropped {} audit rows: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public String getMessageType() {
+        return TYPE_AUDIT;
+    }
+
+    // Outbox mode: a failure is retried by the dispatcher, so a row may be written more than once
+    @Override
+    public void handle(OutboxMessage message) {
+        AuditLogEntry entry = outboxService.readPayload(message, AuditLogEntry.class);
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, entry));
+        writtenCounter.increment();
+    }
+
+    private static void bind(PreparedStatement ps, AuditLogEntry entry) throws SQLException {
+        ps.setString(1, entry.action());
+        ps.setString(2, entry.entityType());
+        ps.setObject(3, entry.entityId(), Types.BIGINT);
+        ps.setString(4, entry.description());
+        ps.setString(5, entry.performedBy());
+        ps.setString(6, entry.userRole());
+        ps.setString(7, entry.ipAddress());
+        ps.setObject(8, entry.createdAt());
+    }
+}
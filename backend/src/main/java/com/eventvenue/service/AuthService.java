@@ -11,7 +11,6 @@ import com.eventvenue.repository.AdminUserRepository;
 import com.eventvenue.security.JwtTokenProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,7 +31,7 @@ public class AuthService {
     private JwtTokenProvider tokenProvider;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Transactional
     public AuthResponse userSignup(SignupRequest request) {
@@ -48,7 +47,7 @@ public class AuthService {
 
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .phone(request.getPhone())
@@ -82,9 +81,12 @@ public class AuthService {
             throw new RuntimeException("Email already registered as a vendor");
         }
 
+        // One hash serves both the user and the vendor row
+        String passwordHash = passwordHashingService.encode(request.getPassword());
+
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHash)
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .phone(request.getPhone())
@@ -97,7 +99,7 @@ public class AuthService {
 
         Vendor vendor = Vendor.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHash)
                 .businessName(request.getBusinessName())
                 .description(request.getBusinessDescription())
                 .status("PENDING")
@@ -137,7 +139,7 @@ public class AuthService {
 
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .role("ADMIN")
@@ -0,0 +1,207 @@
+package com.eventvenue.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An email template compiled once into alternating literal and placeholder segments.
+ * Placeholders are written {{name}}; a name may appear any number of times and is bound once.
+ * Bound values are HTML-escaped when set, so rendering is a plain append of pre-built strings.
+ */
+public final class EmailTemplate {
+
+    private static final int MAX_POOLED_BUFFER = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(16 * 1024));
+
+    private final String name;
+    private final String[] literals;      // literals[i] precedes placeholder i; one extra trailing literal
+    private final int[] placeholderSlots; // slot index for each placeholder occurrence
+    private final String[] slotNames;
+    private final Map<String, Integer> slotIndex;
+    private final int literalLength;
+
+    private EmailTemplate(String name, String[] literals, int[] placeholderSlots, String[] slotNames) {
+        this.name = name;
+        this.literals = literals;
+        this.placeholderSlots = placeholderSlots;
+        this.slotNames = slotNames;
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < slotNames.length; i++) {
+            index.put(slotNames[i], i);
+        }
+        this.slotIndex = Collections.unmodifiableMap(index);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static EmailTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> placeholders = new ArrayList<>();
+        List<String> slotNames = new ArrayList<>();
+        Map<String, Integer> slots = new HashMap<>();
+
+        int pos = 0;
+        while (true) {
+            int open = source.indexOf("{{", pos);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in template " + name + " at offset " + open);
+            }
+            String key = source.substring(open + 2, close).trim();
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in template " + name + " at offset " + open);
+            }
+            literals.add(source.substring(pos, open));
+            Integer slot = slots.get(key);
+            if (slot == null) {
+                slot = slotNames.size();
+                slots.put(key, slot);
+                slotNames.add(key);
+            }
+            placeholders.add(slot);
+            pos = close + 2;
+        }
+        literals.add(source.substring(pos));
+
+        return new EmailTemplate(
+            name,
+            literals.toArray(new String[0]),
+            placeholders.stream().mapToInt(Integer::intValue).toArray(),
+            slotNames.toArray(new String[0])
+        );
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Bindings bind() {
+        return new Bindings(new String[slotNames.length]);
+    }
+
+    /**
+     * Values for one render. Call {@link #copy()} to reuse a partially bound set
+     * (e.g. the event details of a fan-out) for each recipient.
+     */
+    public final class Bindings {
+        private final String[] values;
+
+        private Bindings(String[] values) {
+            this.values = values;
+        }
+
+        public Bindings set(String key, String value) {
+            values[slot(key)] = escape(value);
+            return this;
+        }
+
+        public Bindings set(String key, long value) {
+            values[slot(key)] = Long.toString(value);
+            return this;
+        }
+
+        public Bindings set(String key, Object value) {
+            return set(key, value != null ? value.toString() : null);
+        }
+
+        // Same output as %.2f for the amounts used in emails
+        public Bindings setMoney(String key, double value) {
+            values[slot(key)] = BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).toPlainString();
+            return this;
+        }
+
+        /**
+         * Set a value only if the template uses it. Lets shared values (app name, URLs)
+         * be applied to every template without knowing which ones reference them.
+         */
+        public Bindings setIfPresent(String key, String value) {
+            Integer slot = slotIndex.get(key);
+            if (slot != null) {
+                values[slot] = escape(value);
+            }
+            return this;
+        }
+
+        public Bindings copy() {
+            return new Bindings(Arrays.copyOf(values, values.length));
+        }
+
+        public String render() {
+            int length = literalLength;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    throw new IllegalStateException("Template " + name + " is missing value for {{" + slotNames[i] + "}}");
+                }
+                length += values[i].length();
+            }
+
+            StringBuilder out = BUFFER.get();
+            out.setLength(0);
+            out.ensureCapacity(length);
+            for (int i = 0; i < placeholderSlots.length; i++) {
+                out.append(literals[i]).append(values[placeholderSlots[i]]);
+            }
+            out.append(literals[literals.length - 1]);
+            String result = out.toString();
+
+            // Don't let one oversized render pin a large buffer to the thread forever
+            if (out.capacity() > MAX_POOLED_BUFFER) {
+                BUFFER.remove();
+            }
+            return result;
+        }
+
+        private int slot(String key) {
+            Integer slot = slotIndex.get(key);
+            if (slot == null) {
+                throw new IllegalArgumentException("Template " + name + " has no placeholder {{" + key + "}}");
+            }
+            return slot;
+        }
+    }
+
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        int i = 0;
+        int length = value.length();
+        while (i < length && !needsEscape(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return value;
+        }
+
+        StringBuilder out = new StringBuilder(length + 16);
+        out.append(value, 0, i);
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean needsEscape(char c) {
+        return c == '&' || c == '<' || c == '>' || c == '"' || c == '\'';
+    }
+}
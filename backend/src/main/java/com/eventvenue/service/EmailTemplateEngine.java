@@ -0,0 +1,63 @@
+package com.eventvenue.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads and compiles every template under classpath:templates/email/ once at startup.
+ * Templates are referenced by file name without the .html extension.
+ */
+@Component
+@Slf4j
+public class EmailTemplateEngine {
+
+    private static final String TEMPLATE_LOCATION = "classpath:templates/email/*.html";
+
+    private final Map<String, EmailTemplate> templates = new HashMap<>();
+
+    @Value("${app.name}")
+    private String appName;
+
+    @Value("${app.url}")
+    private String appUrl;
+
+    @PostConstruct
+    public void loadTemplates() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION);
+        for (Resource resource : resources) {
+            String fileName = resource.getFilename();
+            if (fileName == null) {
+                continue;
+            }
+            String name = fileName.substring(0, fileName.length() - ".html".length());
+            try (InputStream in = resource.getInputStream()) {
+                String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                templates.put(name, EmailTemplate.compile(name, source));
+            }
+        }
+        log.info("Compiled {} email templates", templates.size());
+    }
+
+    /**
+     * Start binding a template with the application-wide values (appName, appUrl) already set.
+     */
+    public EmailTemplate.Bindings bind(String templateName) {
+        EmailTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateName);
+        }
+        return template.bind()
+                .setIfPresent("appName", appName)
+                .setIfPresent("appUrl", appUrl);
+    }
+}
@@ -2,6 +2,7 @@ package com.eventvenue.service;
 
 import com.eventvenue.entity.Event;
 import com.eventvenue.entity.Booking;
+import com.eventvenue.entity.NotificationJob;
 import com.eventvenue.entity.User;
 import com.eventvenue.entity.Vendor;
 import com.eventvenue.repository.EventRepository;
@@ -46,6 +47,12 @@ public class EventService {
     @Autowired
     private AuditLogService auditLogService;
 
+    @Autowired
+    private StoredFileService storedFileService;
+    
+    @Autowired
+    private NotificationJobService notificationJobService;
+
     /**
      * Create event and deduct platform fee from vendor
      * - Quantity-based: 10 points
@@ -77,6 +84,7 @@ public class EventService {
         }
         
         Event saved = eventRepository.save(event);
+        storedFileService.acquire(saved.getImages());
         
         // Audit log event creation
         auditLogService.log("EVENT_CREATED", "EVENT", saved.getId(), 
@@ -204,6 +212,7 @@ public class EventService {
         String eventName = eventOpt.map(Event::getName).orElse("Unknown");
         
         eventRepository.deleteById(id);
+        eventOpt.ifPresent(deleted -> storedFileService.release(deleted.getImages()));
         
         // Audit log event deletion
         auditLogService.log("EVENT_DELETED", "EVENT", id, 
@@ -263,9 +272,10 @@ public class EventService {
         
         Event savedEvent = eventRepository.save(event);
         
-        // Notify all booked users
-        notifyBookedUsersOfReschedule(eventId, event.getName(), oldEventDate, oldEventTime, 
-                                       oldLocation, newEventDate, newEventTime, newLocation, reason);
+        // Notify all booked users in the background once this transaction commits
+        NotificationJob notificationJob = notifyBookedUsersOfReschedule(eventId, vendorId, event.getName(),
+                oldEventDate, oldEventTime, oldLocation, newEventDate, newEventTime, newLocation, reason);
+        savedEvent.setNotificationJobId(notificationJob.getId());
         
         // Audit log event reschedule
         auditLogService.log("EVENT_RESCHEDULED", "EVENT", savedEvent.getId(), 
@@ -310,42 +320,23 @@ public class EventService {
     }
     
     /**
-     * Notify all users who booked this event about the reschedule
+     * Queue a background job that notifies every user with an active booking on this event
      */
-    private void notifyBookedUsersOfReschedule(Long eventId, String eventName, 
-                                                LocalDateTime oldDate, LocalTime oldTime, String oldLocation,
-                                                LocalDateTime newDate, LocalTime newTime, String newLocation,
-                                                String reason) {
-        try {
-            List<Booking> bookings = bookingRepository.findByEventId(eventId);
-            
-            for (Booking booking : bookings) {
-                if (!"CANCELLED".equals(booking.getStatus())) {
-                    Optional<User> userOpt = userRepository.findById(booking.getUserId());
-                    if (userOpt.isPresent()) {
-                        User user = userOpt.get();
-                        String userName = user.getFirstName() != null ? user.getFirstName() : user.getUsername();
-                        
-                        emailService.sendEventRescheduleNotification(
-                            user.getEmail(),
-                            userName,
-                            eventName,
-                            oldDate != null ? oldDate.toString() : "N/A",
-                            oldTime != null ? oldTime.toString() : "N/A",
-                            oldLocation,
-                            newDate != null ? newDate.toString() : "N/A",
-                            newTime != null ? newTime.toString() : "N/A",
-                            newLocation != null ? newLocation : oldLocation,
-                            reason
-                        );
-                        
-                        System.out.println("[EMAIL] Sent reschedule notification to: " + user.getEmail());
-                    }
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("[EMAIL] Failed to send reschedule notifications: " + e.getMessage());
-        }
+    private NotificationJob notifyBookedUsersOfReschedule(Long eventId, Long vendorId, String eventName,
+                                                          LocalDateTime oldDate, LocalTime oldTime, String oldLocation,
+                                                          LocalDateTime newDate, LocalTime newTime, String newLocation,
+                                                          String reason) {
+        NotificationJobService.RescheduleDetails details = new NotificationJobService.RescheduleDetails(
+            eventName,
+            oldDate != null ? oldDate.toString() : "N/A",
+            oldTime != null ? oldTime.toString() : "N/A",
+            oldLocation,
+            newDate != null ? newDate.toString() : "N/A",
+            newTime != null ? newTime.toString() : "N/A",
+            newLocation != null ? newLocation : oldLocation,
+            reason
+        );
+        return notificationJobService.createRescheduleJob(eventId, vendorId, details);
     }
     
     /**
@@ -1,23 +1,32 @@
 package com.eventvenue.service;
 
+import com.eventvenue.dto.UploadResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
+@Slf4j
 public class FileUploadService {
 
-    @Value("${file.upload.directory:uploads}")
-    private String uploadDirectory;
+    @Autowired
+    private StoredFileService storedFileService;
+
+    @Autowired
+    @Qualifier("uploadExecutor")
+    private ThreadPoolTaskExecutor uploadExecutor;
 
     @Value("${server.address:localhost}")
     private String serverAddress;
@@ -28,40 +37,59 @@ public class FileUploadService {
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
     private static final String[] ALLOWED_EXTENSIONS = {"jpg", "jpeg", "png", "gif", "webp"};
 
-    public String uploadImage(MultipartFile file, String subDirectory) throws IOException {
+    public String uploadImage(MultipartFile file) throws IOException {
         validateFile(file);
-        
-        // Create directory if it doesn't exist
-        Path uploadPath = Paths.get(uploadDirectory, subDirectory);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
 
-        // Generate unique filename
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-        String uniqueFilename = UUID.randomUUID().toString() + "." + extension;
+        String relativePath;
+        try (InputStream content = file.getInputStream()) {
+            // The type comes from the first bytes, not the file name; anything else is refused
+            // before a byte is written
+            byte[] head = content.readNBytes(ImageFormat.SIGNATURE_BYTES);
+            ImageFormat format = ImageFormat.detect(head);
+            if (format == null) {
+                throw new IllegalArgumentException("File is not a valid jpg, png, gif or webp image");
+            }
 
-        // Save file
-        Path filePath = uploadPath.resolve(uniqueFilename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            // Stored under its content hash; a repeat upload returns the existing file's URL
+            InputStream whole = new SequenceInputStream(new ByteArrayInputStream(head), content);
+            relativePath = storedFileService.store(whole, format.extension, format.contentType);
+        }
 
         // Return URL
-        return String.format("http://%s:%d/uploads/%s/%s", 
-            serverAddress, serverPort, subDirectory, uniqueFilename);
+        return String.format("http://%s:%d/uploads/%s",
+            serverAddress, serverPort, relativePath);
     }
 
-    public List<String> uploadImages(MultipartFile[] files, String subDirectory) throws IOException {
-        List<String> urls = new ArrayList<>();
+    /**
+     * Store several images concurrently on the upload executor. A bad file fails on its own and
+     * the others are still stored; results are in request order.
+     */
+    public List<UploadResult> uploadImages(MultipartFile[] files) {
+        List<CompletableFuture<UploadResult>> pending = new ArrayList<>();
         
         for (MultipartFile file : files) {
             if (file != null && !file.isEmpty()) {
-                String url = uploadImage(file, subDirectory);
-                urls.add(url);
+                pending.add(CompletableFuture.supplyAsync(() -> uploadOne(file), uploadExecutor));
             }
         }
         
-        return urls;
+        List<UploadResult> results = new ArrayList<>();
+        for (CompletableFuture<UploadResult> result : pending) {
+            results.add(result.join());
+        }
+        return results;
+    }
+
+    private UploadResult uploadOne(MultipartFile file) {
+        String fileName = file.getOriginalFilename();
+        try {
+            return UploadResult.stored(fileName, uploadImage(file));
+        } catch (IllegalArgumentException e) {
+            return UploadResult.failed(fileName, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not store upload {}: {}", fileName, e.getMessage());
+            return UploadResult.failed(fileName, "Could not store file");
+        }
     }
 
     private void validateFile(MultipartFile file) {
@@ -93,4 +121,50 @@ public class FileUploadService {
         }
         return filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
     }
+
+    private enum ImageFormat {
+        JPEG("jpg", "image/jpeg"),
+        PNG("png", "image/png"),
+        GIF("gif", "image/gif"),
+        WEBP("webp", "image/webp");
+
+        static final int SIGNATURE_BYTES = 12;
+
+        final String extension;
+        final String contentType;
+
+        ImageFormat(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        static ImageFormat detect(byte[] head) {
+            if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) {
+                return JPEG;
+            }
+            if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+                return PNG;
+            }
+            if (startsWith(head, 0, 'G', 'I', 'F', '8') && head.length >= 6
+                    && (head[4] == '7' || head[4] == '9') && head[5] == 'a') {
+                return GIF;
+            }
+            if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) {
+                return WEBP;
+            }
+            return null;
+        }
+
+        private static boolean startsWith(byte[] data, int offset, int... signature) {
+            if (data.length < offset + signature.length) {
+                return false;
+            }
+            for (int i = 0; i < signature.length; i++) {
+                if ((data[offset + i] & 0xFF) != signature[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
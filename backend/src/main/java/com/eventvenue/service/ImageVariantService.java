@@ -0,0 +1,299 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.ImageVariants;
+import com.eventvenue.dto.ImageVariants.Variant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+/**
+ * Produces the thumb/card/full JPEG variants of an uploaded image on the image executor, so the
+ * upload request returns as soon as the original is on disk. Re-encoding from decoded pixels drops
+ * all metadata (EXIF, GPS, ICC); the EXIF orientation is applied to the pixels first so phone photos
+ * stay upright. Variants are never wider than the original.
+ */
+@Service
+@Slf4j
+public class ImageVariantService {
+
+    // Refuse to decode anything larger (a 50 MP RGB image already needs ~200 MB of heap)
+    private static final long MAX_PIXELS = 50_000_000L;
+    private static final int EXIF_SCAN_BYTES = 64 * 1024;
+
+    private final ThreadPoolTaskExecutor imageExecutor;
+    private final float jpegQuality;
+    private final Counter generatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Timer processingTimer;
+
+    public ImageVariantService(@Qualifier("imageExecutor") ThreadPoolTaskExecutor imageExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${image.variants.jpeg-quality:0.82}") float jpegQuality) {
+        this.imageExecutor = imageExecutor;
+        this.jpegQuality = jpegQuality;
+        this.generatedCounter = meterRegistry.counter("image.variants.generated");
+        this.skippedCounter = meterRegistry.counter("image.variants.skipped");
+        this.failedCounter = meterRegistry.counter("image.variants.failed");
+        this.processingTimer = meterRegistry.timer("image.variants.duration");
+    }
+
+    public void generateAsync(Path original) {
+        imageExecutor.execute(() -> generate(original));
+    }
+
+    /**
+     * Write any missing variants of an image. Safe to call again for the same file.
+     */
+    public void generate(Path original) {
+        processingTimer.record(() -> {
+            try {
+                if (allVariantsExist(original)) {
+                    return;
+                }
+                BufferedImage source = read(original);
+                if (source == null) {
+                    skippedCounter.increment();
+                    return;
+                }
+                source = applyOrientation(source, exifOrientation(original));
+                for (Variant variant : Variant.values()) {
+                    Path target = variantPath(original, variant);
+                    if (!Files.exists(target)) {
+                        writeJpeg(resize(source, variant.getMaxWidth()), target);
+                        generatedCounter.increment();
+                    }
+                }
+                log.debug("Generated image variants for {}", original);
+            } catch (IOException | RuntimeException e) {
+                failedCounter.increment();
+                log.warn("Could not generate variants for {}: {}", original, e.getMessage());
+            }
+        });
+    }
+
+    public static Path variantPath(Path original, Variant variant) {
+        return original.resolveSibling(ImageVariants.variantName(original.getFileName().toString(), variant));
+    }
+
+    private static boolean allVariantsExist(Path original) {
+        for (Variant variant : Variant.values()) {
+            if (!Files.exists(variantPath(original, variant))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Null when no decoder is installed (e.g. WebP on a stock JDK) or the image is too large
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.debug("No image decoder for {}, only the original will be served", original);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    log.warn("Skipping variants for {}: {} pixels exceeds the limit", original, pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Downscale in halving steps, then once to the exact width; a single bilinear step from a much
+     * larger image skips pixels and looks jagged.
+     */
+    private static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = toRgb(source);
+        int width = current.getWidth();
+        int height = current.getHeight();
+        while (width / 2 >= targetWidth) {
+            width /= 2;
+            height = Math.max(1, height / 2);
+            current = scale(current, width, height);
+        }
+        if (width != targetWidth || height != targetHeight) {
+            current = scale(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    // JPEG has no alpha channel; transparent areas become white
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    // Written to a temp file and moved into place, so a reader never sees a partial variant
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+        try {
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * EXIF orientation tag (1-8) of a JPEG, or 1 when absent. Only the APP1 segment at the start
+     * of the file is read.
+     */
+    static int exifOrientation(Path file) {
+        byte[] head;
+        try (InputStream input = Files.newInputStream(file)) {
+            head = input.readNBytes(EXIF_SCAN_BYTES);
+        } catch (IOException e) {
+            return 1;
+        }
+        if (head.length < 4 || (head[0] & 0xFF) != 0xFF || (head[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= head.length && (head[pos] & 0xFF) == 0xFF) {
+            int marker = head[pos + 1] & 0xFF;
+            int length = ((head[pos + 2] & 0xFF) << 8) | (head[pos + 3] & 0xFF);
+            if (marker == 0xDA || length < 2) {
+                break;
+            }
+            int segment = pos + 4;
+            if (marker == 0xE1 && segment + 14 <= head.length
+                    && head[segment] == 'E' && head[segment + 1] == 'x' && head[segment + 2] == 'i' && head[segment + 3] == 'f') {
+                return tiffOrientation(head, segment + 6, Math.min(head.length, pos + 2 + length));
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int tiffOrientation(byte[] data, int tiff, int end) {
+        boolean littleEndian = data[tiff] == 'I';
+        // Unsigned 32-bit; compared as a long so a huge offset cannot wrap to a negative index
+        long ifdOffset = readUnsigned(data, tiff + 4, 4, littleEndian);
+        if (tiff + ifdOffset + 2 > end) {
+            return 1;
+        }
+        int ifd = tiff + (int) ifdOffset;
+        int entries = (int) readUnsigned(data, ifd, 2, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readUnsigned(data, entry, 2, littleEndian) == 0x0112) {
+                int orientation = (int) readUnsigned(data, entry + 8, 2, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static long readUnsigned(byte[] data, int offset, int size, boolean littleEndian) {
+        long value = 0;
+        for (int i = 0; i < size; i++) {
+            int b = data[offset + (littleEndian ? size - 1 - i : i)] & 0xFF;
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+
+    private static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        if (orientation <= 1) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.translate(w, 0); transform.scale(-1, 1); }
+            case 3 -> { transform.translate(w, h); transform.rotate(Math.PI); }
+            case 4 -> { transform.translate(0, h); transform.scale(1, -1); }
+            case 5 -> { transform.rotate(Math.PI / 2); transform.scale(1, -1); }
+            case 6 -> { transform.translate(h, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.scale(-1, 1); transform.translate(-h, w); transform.rotate(3 * Math.PI / 2); }
+            case 8 -> { transform.translate(0, w); transform.rotate(3 * Math.PI / 2); }
+            default -> { return image; }
+        }
+        BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rotated.createGraphics();
+        try {
+            graphics.drawImage(toRgb(image), transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rotated;
+    }
+}
@@ -0,0 +1,138 @@
+package com.eventvenue.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps an /uploads/ path to the file that should be served for it, with the validators the media
+ * handler needs. File names never change content (content hashes, older UUID names, variants
+ * derived from them), so a file served under its own name is immutable; a variant that is not
+ * generated yet falls back to its original and is only cached briefly.
+ */
+@Service
+public class MediaFileService {
+
+    // "photo_thumb.jpg" -> stem "photo"; the original keeps its own extension
+    private static final Pattern VARIANT = Pattern.compile("(.+)_(?:thumb|card|full)\\.jpg");
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}(?:_(?:thumb|card|full))?");
+    private static final String[] ORIGINAL_EXTENSIONS = {"jpg", "jpeg", "png", "gif", "webp"};
+
+    /**
+     * @param contentEncoding "br" or "gzip" when a precompressed sibling is served, otherwise null
+     * @param negotiable whether another encoding of the same file exists (responses need Vary)
+     */
+    public record MediaFile(Path path, long length, long lastModified, String etag, MediaType contentType,
+                            boolean immutable, String contentEncoding, boolean negotiable) {}
+
+    private final Path root;
+
+    public MediaFileService(@Value("${file.upload.directory:uploads}") String uploadDirectory) {
+        this.root = Paths.get(uploadDirectory).toAbsolutePath().normalize();
+    }
+
+    public Optional<MediaFile> resolve(String relativePath, String acceptEncoding) throws IOException {
+        if (!isServable(relativePath)) {
+            return Optional.empty();
+        }
+        Path requested = root.resolve(relativePath).normalize();
+        if (!requested.startsWith(root)) {
+            return Optional.empty();
+        }
+
+        Path file = requested;
+        boolean immutable = true;
+        if (!Files.isRegularFile(file)) {
+            file = originalOf(requested);
+            immutable = false;
+            if (file == null) {
+                return Optional.empty();
+            }
+        }
+
+        String fileName = file.getFileName().toString();
+        MediaType contentType = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        Path brotli = file.resolveSibling(fileName + ".br");
+        Path gzip = file.resolveSibling(fileName + ".gz");
+        boolean hasBrotli = Files.isRegularFile(brotli);
+        boolean hasGzip = Files.isRegularFile(gzip);
+
+        Path served = file;
+        String encoding = null;
+        if (hasBrotli && accepts(acceptEncoding, "br")) {
+            served = brotli;
+            encoding = "br";
+        } else if (hasGzip && accepts(acceptEncoding, "gzip")) {
+            served = gzip;
+            encoding = "gzip";
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(served, BasicFileAttributes.class);
+        String etag = etag(fileName, attributes, encoding);
+        return Optional.of(new MediaFile(served, attributes.size(), attributes.lastModifiedTime().toMillis(), etag,
+                contentType, immutable, encoding, hasBrotli || hasGzip));
+    }
+
+    // Dot segments cover "..", the .incoming upload area and in-progress ".variant-" temp files
+    static boolean isServable(String relativePath) {
+        if (relativePath.isEmpty() || relativePath.indexOf('\\') >= 0 || relativePath.indexOf('\0') >= 0) {
+            return false;
+        }
+        for (String segment : relativePath.split("/")) {
+            if (segment.isEmpty() || segment.startsWith(".")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static Path originalOf(Path variant) {
+        Matcher matcher = VARIANT.matcher(variant.getFileName().toString());
+        if (!matcher.matches()) {
+            return null;
+        }
+        for (String extension : ORIGINAL_EXTENSIONS) {
+            Path original = variant.resolveSibling(matcher.group(1) + "." + extension);
+            if (Files.isRegularFile(original)) {
+                return original;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Content-addressed names are their own strong validator; other files use size and
+     * modification time. Each encoding is a different representation and gets its own tag.
+     */
+    private static String etag(String fileName, BasicFileAttributes attributes, String encoding) {
+        int dot = fileName.lastIndexOf('.');
+        String stem = dot > 0 ? fileName.substring(0, dot) : fileName;
+        String tag = CONTENT_HASH.matcher(stem).matches()
+                ? stem
+                : Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis());
+        return "\"" + (encoding == null ? tag : tag + "-" + encoding) + "\"";
+    }
+
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase(encoding)) {
+                return tokens.length < 2 || !tokens[1].replace(" ", "").matches("q=0(\\.0+)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,215 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.NotificationRecipient;
+import com.eventvenue.entity.NotificationJob;
+import com.eventvenue.repository.BookingRepository;
+import com.eventvenue.repository.NotificationJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Runs bulk notifications in the background. A job is created inside the business transaction
+ * and starts only after that transaction commits; recipients are then loaded in keyset chunks,
+ * rendered from a template bound once per job, and queued in the outbox together with the
+ * job's progress, so a restarted job resumes exactly where it stopped without duplicates.
+ */
+@Service
+@Slf4j
+public class NotificationJobService {
+
+    public static final String TYPE_EVENT_RESCHEDULE = "EVENT_RESCHEDULE";
+
+    private final NotificationJobRepository jobRepository;
+    private final BookingRepository bookingRepository;
+    private final EmailService emailService;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor notificationExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.job.chunk-size:200}")
+    private int chunkSize;
+
+    // A RUNNING job that has not updated its progress for this long is considered abandoned
+    @Value("${notification.job.stale-after-ms:120000}")
+    private long staleAfterMs;
+
+    public NotificationJobService(NotificationJobRepository jobRepository,
+                                  BookingRepository bookingRepository,
+                                  EmailService emailService,
+                                  ObjectMapper objectMapper,
+                                  @Qualifier("notificationExecutor") ThreadPoolTaskExecutor notificationExecutor,
+                                  PlatformTransactionManager transactionManager) {
+        this.jobRepository = jobRepository;
+        this.bookingRepository = bookingRepository;
+        this.emailService = emailService;
+        this.objectMapper = objectMapper;
+        this.notificationExecutor = notificationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Values shared by every recipient of a reschedule notice
+     */
+    public record RescheduleDetails(String eventName,
+                                    String oldDate, String oldTime, String oldLocation,
+                                    String newDate, String newTime, String newLocation,
+                                    String reason) {}
+
+    /**
+     * Create a reschedule notification job in the caller's transaction.
+     * It is submitted to the notification executor once that transaction commits.
+     */
+    @Transactional
+    public NotificationJob createRescheduleJob(Long eventId, Long vendorId, RescheduleDetails details) {
+        NotificationJob job = NotificationJob.builder()
+                .jobType(TYPE_EVENT_RESCHEDULE)
+                .referenceId(eventId)
+                .vendorId(vendorId)
+                .payload(writePayload(details))
+                .status("PENDING")
+                .totalRecipients((int) bookingRepository.countEventRecipients(eventId))
+                .processedRecipients(0)
+                .lastUserId(0L)
+                .build();
+        NotificationJob saved = jobRepository.save(job);
+
+        Long jobId = saved.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(jobId);
+                }
+            });
+        } else {
+            submit(jobId);
+        }
+        return saved;
+    }
+
+    public NotificationJob getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Notification job not found"));
+    }
+
+    // Resume jobs interrupted by a restart, and pick up any whose post-commit submit was lost
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${notification.job.sweep-interval-ms:60000}", initialDelayString = "${notification.job.sweep-interval-ms:60000}")
+    public void resumeStaleJobs() {
+        List<Long> staleJobIds = jobRepository.findStaleJobIds(staleBefore());
+        for (Long jobId : staleJobIds) {
+            log.info("Resuming notification job {}", jobId);
+            submit(jobId);
+        }
+    }
+
+    private void submit(Long jobId) {
+        notificationExecutor.execute(() -> run(jobId));
+    }
+
+    private void run(Long jobId) {
+        Integer claimed = transactionTemplate.execute(status ->
+            jobRepository.claim(jobId, LocalDateTime.now(), staleBefore()));
+        if (claimed == null || claimed == 0) {
+            log.debug("Notification job {} is already running or finished", jobId);
+            return;
+        }
+
+        try {
+            NotificationJob job = jobRepository.findById(jobId).orElseThrow();
+            if (!TYPE_EVENT_RESCHEDULE.equals(job.getJobType())) {
+                throw new IllegalStateException("Unsupported notification job type " + job.getJobType());
+            }
+            runReschedule(job);
+        } catch (Exception e) {
+            log.error("Notification job {} failed", jobId, e);
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus("FAILED");
+                String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+                job.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+                jobRepository.save(job);
+            }));
+        }
+    }
+
+    private void runReschedule(NotificationJob job) {
+        RescheduleDetails details = readPayload(job.getPayload());
+        EmailTemplate.Bindings eventDetails = emailService.prepareEventRescheduleTemplate(
+            details.eventName(), details.oldDate(), details.oldTime(), details.oldLocation(),
+            details.newDate(), details.newTime(), details.newLocation(), details.reason()
+        );
+
+        Long jobId = job.getId();
+        boolean more = true;
+        while (more) {
+            // Outbox rows and the progress cursor commit together
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                NotificationJob current = jobRepository.findById(jobId).orElseThrow();
+                List<NotificationRecipient> recipients = bookingRepository.findEventRecipientsAfter(
+                    current.getReferenceId(), current.getLastUserId(), PageRequest.of(0, chunkSize));
+
+                for (NotificationRecipient recipient : recipients) {
+                    emailService.queueEventRescheduleNotification(
+                        eventDetails,
+                        details.eventName(),
+                        recipient.getEmail(),
+                        recipient.getDisplayName(),
+                        "reschedule:" + jobId + ":" + recipient.getUserId()
+                    );
+                }
+
+                if (!recipients.isEmpty()) {
+                    current.setLastUserId(recipients.get(recipients.size() - 1).getUserId());
+                    current.setProcessedRecipients(current.getProcessedRecipients() + recipients.size());
+                }
+                boolean hasMore = recipients.size() == chunkSize;
+                if (!hasMore) {
+                    current.setStatus("COMPLETED");
+                    current.setCompletedAt(LocalDateTime.now());
+                    // Bookings may have changed since the job was created
+                    current.setTotalRecipients(current.getProcessedRecipients());
+                }
+                jobRepository.save(current);
+                return hasMore;
+            }));
+        }
+        log.info("Notification job {} queued reschedule notices for event {}", jobId, job.getReferenceId());
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minusNanos(staleAfterMs * 1_000_000);
+    }
+
+    private String writePayload(RescheduleDetails details) {
+        try {
+            return objectMapper.writeValueAsString(details);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Notification job payload is not serializable", e);
+        }
+    }
+
+    private RescheduleDetails readPayload(String payload) {
+        try {
+            return objectMapper.readValue(payload, RescheduleDetails.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable notification job payload", e);
+        }
+    }
+}
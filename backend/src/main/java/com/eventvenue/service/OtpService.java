@@ -2,98 +2,142 @@ package com.eventvenue.service;
 
 import com.eventvenue.entity.OtpVerification;
 import com.eventvenue.repository.OtpVerificationRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.Random;
 
+/**
+ * OTP codes are checked against {@link OtpStore} in memory. With write-through enabled each code is
+ * also saved to otp_verifications, so a code survives a restart or is accepted by another instance;
+ * that fallback is a single indexed lookup and runs only after the rate limit has been passed.
+ * A code consumed or exhausted in memory is marked used in the table too, so the fallback only
+ * ever sees codes this instance never held, and wrong guesses there count against the same limit.
+ */
 @Service
+@Slf4j
 public class OtpService {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     @Autowired
     private OtpVerificationRepository otpRepository;
 
+    @Autowired
+    private OtpStore otpStore;
+
     @Autowired
     private EmailService emailService;
 
+    @Value("${otp.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Value("${otp.store.write-through:true}")
+    private boolean writeThrough;
+
     public String generateOtp() {
-        Random random = new Random();
-        int otp = 100000 + random.nextInt(900000);
+        int otp = 100000 + RANDOM.nextInt(900000);
         return String.valueOf(otp);
     }
 
     @Transactional
     public void sendOtp(String email, String role) {
-        System.out.println("[pranai] ===== SENDING OTP =====");
-        System.out.println("[pranai] Email: " + email);
-        System.out.println("[pranai] Role: " + role);
-        
-        // Delete any existing OTPs for this email and role
-        otpRepository.deleteByEmailAndRole(email, role);
-
-        // Generate new OTP
+        String normalized = OtpStore.normalizeEmail(email);
+        if (!otpStore.tryAcquireSend(email, role)) {
+            throw new RuntimeException("Too many OTP requests. Please wait a minute and try again.");
+        }
+
         String otp = generateOtp();
-        
-        System.out.println("[pranai] Generated OTP: " + otp);
-
-        // Save OTP to database
-        OtpVerification otpVerification = OtpVerification.builder()
-                .email(email)
-                .otp(otp)
-                .role(role)
-                .isUsed(false)
-                .build();
-        OtpVerification saved = otpRepository.save(otpVerification);
-        
-        System.out.println("[OTP] Saved OTP - ID: " + saved.getId() + ", ExpiresAt: " + saved.getExpiresAt());
+        otpStore.put(email, role, otp);
+
+        if (writeThrough) {
+            // Delete any existing OTPs for this email and role
+            otpRepository.deleteByEmailAndRole(normalized, role);
+            OtpVerification saved = otpRepository.save(OtpVerification.builder()
+                    .email(normalized)
+                    .otp(otp)
+                    .role(role)
+                    .isUsed(false)
+                    .expiresAt(LocalDateTime.now().plusMinutes(ttlMinutes))
+                    .build());
+            log.debug("Saved OTP {} for {} ({}), expires {}", saved.getId(), email, role, saved.getExpiresAt());
+        }
 
         // Send OTP via email with role-specific template
         emailService.sendOtpEmail(email, otp, role);
-        
-        System.out.println("[OTP] Professional welcome email sent to " + email);
-        System.out.println("[OTP] OTP code for testing: " + otp);
-        System.out.println("[OTP] =======================");
+        log.info("OTP sent to {} ({})", email, role);
     }
 
+    @Transactional
     public boolean verifyOtp(String email, String otp, String role) {
-        System.out.println("[pranai] ===== VERIFYING OTP =====");
-        System.out.println("[pranai] Email: " + email);
-        System.out.println("[pranai] OTP: " + otp);
-        System.out.println("[pranai] Role: " + role);
-        System.out.println("[pranai] Current time: " + LocalDateTime.now());
-        
-        Optional<OtpVerification> otpOptional = otpRepository
-                .findByEmailAndOtpAndRoleAndIsUsedFalseAndExpiresAtAfter(
-                        email, otp, role, LocalDateTime.now()
-                );
-
-        if (otpOptional.isEmpty()) {
-            System.out.println("[pranai] OTP NOT FOUND in database with given criteria");
-            System.out.println("[pranai] Checking all OTPs for this email...");
-            
-            // Debug query to see what exists
-            otpRepository.findAll().stream()
-                .filter(o -> o.getEmail().equals(email))
-                .forEach(o -> {
-                    System.out.println("[pranai] Found OTP: " + o.getOtp() + 
-                        ", Role: " + o.getRole() + 
-                        ", IsUsed: " + o.getIsUsed() + 
-                        ", ExpiresAt: " + o.getExpiresAt() +
-                        ", IsExpired: " + o.getExpiresAt().isBefore(LocalDateTime.now()));
-                });
-            System.out.println("[pranai] =========================");
-            return false;
+        if (!otpStore.tryAcquireVerify(email, role)) {
+            throw new RuntimeException("Too many OTP attempts. Please wait a minute and try again.");
         }
 
-        OtpVerification otpVerification = otpOptional.get();
-        System.out.println("[pranai] OTP FOUND - Marking as used");
-        otpVerification.setIsUsed(true);
-        otpRepository.save(otpVerification);
-        System.out.println("[pranai] OTP verification successful!");
-        System.out.println("[pranai] =========================");
-        return true;
+        String normalized = OtpStore.normalizeEmail(email);
+        switch (otpStore.verify(email, role, otp)) {
+            case VERIFIED -> {
+                if (writeThrough) {
+                    otpRepository.markUsed(normalized, role);
+                }
+                log.info("OTP verified for {} ({})", email, role);
+                return true;
+            }
+            case INVALID -> {
+                log.debug("Wrong OTP for {} ({})", email, role);
+                return false;
+            }
+            case EXHAUSTED -> {
+                // Retire the stored copy too, or the next guess would go on against the database
+                if (writeThrough) {
+                    otpRepository.markUsed(normalized, role);
+                }
+                log.info("OTP attempts exhausted for {} ({})", email, role);
+                return false;
+            }
+            default -> {
+                // Not in memory: issued before a restart or by another instance
+                if (!writeThrough) {
+                    return false;
+                }
+                Optional<OtpVerification> otpOptional = otpRepository
+                        .findByEmailAndOtpAndRoleAndIsUsedFalseAndExpiresAtAfter(
+                                normalized, otp != null ? otp.trim() : null, role, LocalDateTime.now()
+                        );
+                if (otpOptional.isEmpty()) {
+                    if (otpStore.recordFallbackFailure(email, role)) {
+                        otpRepository.markUsed(normalized, role);
+                        log.info("OTP attempts exhausted for {} ({})", email, role);
+                    } else {
+                        log.debug("No live OTP for {} ({})", email, role);
+                    }
+                    return false;
+                }
+                OtpVerification otpVerification = otpOptional.get();
+                otpVerification.setIsUsed(true);
+                otpRepository.save(otpVerification);
+                log.info("OTP verified from database for {} ({})", email, role);
+                return true;
+            }
+        }
+    }
+
+    // Expired and used codes are never read again
+    @Scheduled(fixedDelayString = "${otp.purge-interval-ms:900000}")
+    @Transactional
+    public void purgeExpired() {
+        otpStore.cleanUp();
+        if (writeThrough) {
+            int purged = otpRepository.deleteExpiredOrUsed(LocalDateTime.now());
+            if (purged > 0) {
+                log.info("Purged {} expired or used OTP rows", purged);
+            }
+        }
     }
 }
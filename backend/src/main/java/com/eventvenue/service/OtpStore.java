@@ -0,0 +1,146 @@
+package com.eventvenue.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory OTP codes keyed by role and email. Every operation is a single hash lookup, codes expire
+ * on their own, and each code allows a fixed number of wrong guesses before it is discarded.
+ *
+ * Sending and verifying are additionally rate limited per role and email with token buckets, so
+ * neither guessing nor mail-bombing an address scales with request volume.
+ */
+@Component
+public class OtpStore {
+
+    public enum Result { VERIFIED, INVALID, EXHAUSTED, NOT_FOUND }
+
+    private final Cache<String, Entry> codes;
+    // Wrong guesses against codes known only to the database (issued before a restart or elsewhere)
+    private final Cache<String, AtomicInteger> fallbackFailures;
+    private final Cache<String, TokenBucket> sendLimits;
+    private final Cache<String, TokenBucket> verifyLimits;
+    private final int maxAttempts;
+    private final int sendBurst;
+    private final double sendPerSecond;
+    private final int verifyBurst;
+    private final double verifyPerSecond;
+
+    public OtpStore(@Value("${otp.ttl-minutes:10}") long ttlMinutes,
+                    @Value("${otp.max-entries:100000}") long maxEntries,
+                    @Value("${otp.max-attempts:5}") int maxAttempts,
+                    @Value("${otp.send.burst:3}") int sendBurst,
+                    @Value("${otp.send.per-minute:1}") double sendPerMinute,
+                    @Value("${otp.verify.burst:5}") int verifyBurst,
+                    @Value("${otp.verify.per-minute:5}") double verifyPerMinute) {
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+        this.codes = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+        this.fallbackFailures = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+        // A bucket idle for a full TTL has refilled anyway, so dropping it loses nothing
+        this.sendLimits = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterAccess(ttl).build();
+        this.verifyLimits = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterAccess(ttl).build();
+        this.maxAttempts = maxAttempts;
+        this.sendBurst = sendBurst;
+        this.sendPerSecond = sendPerMinute / 60.0;
+        this.verifyBurst = verifyBurst;
+        this.verifyPerSecond = verifyPerMinute / 60.0;
+    }
+
+    public boolean tryAcquireSend(String email, String role) {
+        return sendLimits.get(key(email, role), k -> new TokenBucket(sendBurst, sendPerSecond)).tryAcquire();
+    }
+
+    public boolean tryAcquireVerify(String email, String role) {
+        return verifyLimits.get(key(email, role), k -> new TokenBucket(verifyBurst, verifyPerSecond)).tryAcquire();
+    }
+
+    /**
+     * Store a new code, replacing (and so invalidating) any earlier one for the same email and role.
+     */
+    public void put(String email, String role, String otp) {
+        String key = key(email, role);
+        codes.put(key, new Entry(otp));
+        fallbackFailures.invalidate(key);
+    }
+
+    /**
+     * Check a code. A correct code is consumed; a wrong one counts against the code's attempts and
+     * the code is discarded once they run out, which the last wrong guess reports as EXHAUSTED.
+     * NOT_FOUND means there is no live code in memory.
+     */
+    public Result verify(String email, String role, String otp) {
+        String key = key(email, role);
+        Entry entry = codes.getIfPresent(key);
+        if (entry == null) {
+            return Result.NOT_FOUND;
+        }
+        if (entry.matches(otp)) {
+            if (entry.used.compareAndSet(false, true)) {
+                codes.asMap().remove(key, entry);
+                return Result.VERIFIED;
+            }
+            return Result.INVALID;
+        }
+        if (entry.failures.incrementAndGet() >= maxAttempts) {
+            codes.asMap().remove(key, entry);
+            return Result.EXHAUSTED;
+        }
+        return Result.INVALID;
+    }
+
+    /**
+     * Count a wrong guess against a code that was checked in the database instead of memory.
+     * Returns true once the attempts for that code have run out.
+     */
+    public boolean recordFallbackFailure(String email, String role) {
+        return fallbackFailures.get(key(email, role), k -> new AtomicInteger()).incrementAndGet() >= maxAttempts;
+    }
+
+    public void invalidate(String email, String role) {
+        String key = key(email, role);
+        codes.invalidate(key);
+        fallbackFailures.invalidate(key);
+    }
+
+    public void cleanUp() {
+        codes.cleanUp();
+        fallbackFailures.cleanUp();
+        sendLimits.cleanUp();
+        verifyLimits.cleanUp();
+    }
+
+    /**
+     * The form an email is keyed and stored under, here and in otp_verifications
+     */
+    public static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String key(String email, String role) {
+        return role + ':' + normalizeEmail(email);
+    }
+
+    private static final class Entry {
+        private final byte[] otp;
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicBoolean used = new AtomicBoolean();
+
+        private Entry(String otp) {
+            this.otp = otp.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private boolean matches(String candidate) {
+            return candidate != null
+                    && MessageDigest.isEqual(otp, candidate.trim().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
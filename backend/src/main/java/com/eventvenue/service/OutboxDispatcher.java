@@ -0,0 +1,93 @@
+package com.eventvenue.service;
+
+import com.eventvenue.entity.OutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the outbox in batches. Each poll delivers at most batch-size messages in parallel on the
+ * bounded mail executor, so bursts (e.g. an event cancellation mailing every attendee) go out at
+ * a controlled rate.
+ */
+@Service
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxService outboxService;
+    private final ThreadPoolTaskExecutor mailExecutor;
+    private final Map<String, OutboxHandler> handlers = new HashMap<>();
+
+    @Value("${outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${outbox.sent-retention-days:7}")
+    private int sentRetentionDays;
+
+    public OutboxDispatcher(OutboxService outboxService,
+                            List<OutboxHandler> handlerList,
+                            @Qualifier("mailExecutor") ThreadPoolTaskExecutor mailExecutor) {
+        this.outboxService = outboxService;
+        this.mailExecutor = mailExecutor;
+        for (OutboxHandler handler : handlerList) {
+            handlers.put(handler.getMessageType(), handler);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        List<OutboxMessage> batch = outboxService.claimDue(batchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger sent = new AtomicInteger();
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            deliveries.add(CompletableFuture.runAsync(() -> {
+                if (deliver(message)) {
+                    sent.incrementAndGet();
+                }
+            }, mailExecutor));
+        }
+        // Wait for the batch so the next poll never overlaps this one
+        CompletableFuture.allOf(deliveries.toArray(new CompletableFuture[0])).join();
+        log.debug("Outbox batch delivered {}/{} messages", sent.get(), batch.size());
+    }
+
+    private boolean deliver(OutboxMessage message) {
+        OutboxHandler handler = handlers.get(message.getMessageType());
+        if (handler == null) {
+            outboxService.markFailed(message, "No handler for message type " + message.getMessageType());
+            return false;
+        }
+        try {
+            handler.handle(message);
+            outboxService.markSent(message);
+            return true;
+        } catch (Exception e) {
+            outboxService.markFailed(message, e.getClass().getSimpleName() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Daily cleanup of delivered rows; FAILED rows are kept for inspection
+    @Scheduled(cron = "${outbox.purge-cron:0 30 3 * * *}")
+    public void purgeSent() {
+        int deleted = outboxService.purgeSentBefore(LocalDateTime.now().minusDays(sentRetentionDays));
+        if (deleted > 0) {
+            log.info("Purged {} delivered outbox messages", deleted);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.eventvenue.service;
+
+import com.eventvenue.entity.OutboxMessage;
+
+/**
+ * Delivers one type of outbox message. Throwing schedules a retry with backoff.
+ */
+public interface OutboxHandler {
+
+    String getMessageType();
+
+    void handle(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,164 @@
+package com.eventvenue.service;
+
+import com.eventvenue.entity.OutboxMessage;
+import com.eventvenue.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Transactional outbox. enqueue() joins the caller's transaction, so a side effect is
+ * recorded only if the business change commits, and survives restarts until delivered.
+ * The insert runs behind a savepoint, so a failed enqueue throws to the caller without
+ * aborting the caller's transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    public static final String TYPE_EMAIL = "EMAIL";
+
+    // A key already queued is skipped by the unique index, which also settles concurrent enqueues
+    private static final String INSERT_MESSAGE = "INSERT INTO outbox_messages " +
+            "(idempotency_key, message_type, payload, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, 'PENDING', 0, ?, ?) ON CONFLICT (idempotency_key) DO NOTHING";
+
+    private final OutboxMessageRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${outbox.backoff.initial-ms:5000}")
+    private long initialBackoffMs;
+
+    @Value("${outbox.backoff.max-ms:1800000}")
+    private long maxBackoffMs;
+
+    // How long a claimed message stays invisible to other dispatchers
+    @Value("${outbox.lease-ms:300000}")
+    private long leaseMs;
+
+    /**
+     * Record a side effect in the current transaction.
+     * A null idempotency key means the action has no natural key and is always queued.
+     */
+    public void enqueue(String messageType, String idempotencyKey, Object payload) {
+        String key = idempotencyKey != null ? idempotencyKey : messageType + ":" + UUID.randomUUID();
+        String json = writePayload(payload);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // Plain JDBC on the transaction's connection: not going through a transactional proxy,
+        // a failure here never marks the caller's transaction rollback-only
+        Integer inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_MESSAGE)) {
+                statement.setString(1, key);
+                statement.setString(2, messageType);
+                statement.setString(3, json);
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+                int rows = statement.executeUpdate();
+                if (savepoint != null) {
+                    connection.releaseSavepoint(savepoint);
+                }
+                return rows;
+            } catch (SQLException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                throw e;
+            }
+        });
+        if (inserted != null && inserted == 0) {
+            log.debug("Outbox message {} already queued, skipping", key);
+        }
+    }
+
+    /**
+     * Lock and lease the next batch of due messages. The lease is committed before delivery
+     * starts, so slow SMTP calls never hold a database transaction open.
+     */
+    @Transactional
+    public List<OutboxMessage> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> due = outboxRepository.lockDueMessages(now, limit);
+        for (OutboxMessage message : due) {
+            message.setStatus("PROCESSING");
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(now.plusNanos(leaseMs * 1_000_000));
+        }
+        return outboxRepository.saveAll(due);
+    }
+
+    @Transactional
+    public void markSent(OutboxMessage message) {
+        message.markSent();
+        outboxRepository.save(message);
+    }
+
+    @Transactional
+    public void markFailed(OutboxMessage message, String error) {
+        if (message.getAttempts() >= maxAttempts) {
+            message.markFailed(error);
+            log.error("Outbox message {} failed permanently after {} attempts: {}",
+                message.getIdempotencyKey(), message.getAttempts(), error);
+        } else {
+            LocalDateTime nextAttempt = LocalDateTime.now().plusNanos(backoffMs(message.getAttempts()) * 1_000_000);
+            message.markRetry(error, nextAttempt);
+            log.warn("Outbox message {} failed (attempt {}/{}), retrying at {}: {}",
+                message.getIdempotencyKey(), message.getAttempts(), maxAttempts, nextAttempt, error);
+        }
+        outboxRepository.save(message);
+    }
+
+    @Transactional
+    public int purgeSentBefore(LocalDateTime cutoff) {
+        return outboxRepository.deleteSentBefore(cutoff);
+    }
+
+    public long countByStatus(String status) {
+        return outboxRepository.countByStatus(status);
+    }
+
+    public <T> T readPayload(OutboxMessage message, Class<T> type) {
+        try {
+            return objectMapper.readValue(message.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable outbox payload " + message.getIdempotencyKey(), e);
+        }
+    }
+
+    // Exponential backoff with +/-20% jitter so a failed burst does not retry in lockstep
+    private long backoffMs(int attempts) {
+        long delay = initialBackoffMs << Math.min(Math.max(attempts - 1, 0), 20);
+        delay = Math.min(delay, maxBackoffMs);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (delay * jitter);
+    }
+
+    private String writePayload(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload is not serializable", e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.eventvenue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the monthly range partitions of audit_logs and points_history (see
+ * scripts/11-partition-audit-and-points-history-migration.sql) rolling: partitions for the coming
+ * months are created ahead of time, and partitions older than the table's retention are copied to
+ * a gzipped CSV under partitions.archive-dir, detached and dropped. Queries then touch at most the
+ * retained months, and dropping a month is a metadata change instead of a mass DELETE.
+ *
+ * Runs at startup and daily. Each expired partition is archived and dropped in its own transaction
+ * holding a per-table advisory lock, so a failed archive drops nothing and two instances never
+ * archive the same month. Tables that have not been migrated to partitions are skipped.
+ */
+@Service
+@Slf4j
+public class PartitionMaintenanceService {
+
+    /**
+     * A partitioned table and how many months of it to keep, counting the current month
+     */
+    private record ManagedTable(String name, int retentionMonths) {}
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("_p(\\d{4})_(\\d{2})$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final List<ManagedTable> tables;
+    private final int monthsAhead;
+    private final boolean archiveEnabled;
+    private final Path archiveDir;
+    private final Counter createdCounter;
+    private final Counter archivedCounter;
+
+    public PartitionMaintenanceService(JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${partitions.audit-logs.retention-months:12}") int auditRetentionMonths,
+                                       @Value("${partitions.points-history.retention-months:24}") int pointsRetentionMonths,
+                                       @Value("${partitions.archive-enabled:true}") boolean archiveEnabled,
+                                       @Value("${partitions.archive-dir:archive}") String archiveDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.tables = List.of(new ManagedTable("audit_logs", auditRetentionMonths),
+                new ManagedTable("points_history", pointsRetentionMonths));
+        this.monthsAhead = monthsAhead;
+        this.archiveEnabled = archiveEnabled;
+        this.archiveDir = Paths.get(archiveDir).toAbsolutePath().normalize();
+        this.createdCounter = meterRegistry.counter("partitions.created");
+        this.archivedCounter = meterRegistry.counter("partitions.archived");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${partitions.maintenance-cron:0 45 2 * * *}")
+    public synchronized void maintain() {
+        YearMonth current = YearMonth.now();
+        for (ManagedTable table : tables) {
+            try {
+                if (!isPartitioned(table.name())) {
+                    log.debug("{} is not partitioned, skipping partition maintenance", table.name());
+                    continue;
+                }
+                for (int ahead = 0; ahead <= monthsAhead; ahead++) {
+                    createPartition(table.name(), current.plusMonths(ahead));
+                }
+                YearMonth oldestKept = current.minusMonths(Math.max(table.retentionMonths(), 1) - 1L);
+                for (String partition : listPartitions(table.name())) {
+                    YearMonth month = monthOf(table.name(), partition);
+                    if (month != null && month.isBefore(oldestKept)) {
+                        retire(table.name(), partition);
+                    }
+                }
+                warnIfDefaultUsed(table.name());
+            } catch (RuntimeException e) {
+                log.error("Partition maintenance failed for {}: {}", table.name(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private boolean isPartitioned(String table) {
+        Integer found = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid " +
+                "WHERE c.relname = ? AND pg_table_is_visible(c.oid)", Integer.class, table);
+        return found != null && found > 0;
+    }
+
+    private void createPartition(String table, YearMonth month) {
+        String partition = table + "_p" + month.format(SUFFIX);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        try {
+            // Names come from the fixed table list and a formatted month, never from input
+            if (listPartitions(table).contains(partition)) {
+                return;
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table +
+                    " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            createdCounter.increment();
+            log.info("Created partition {} for [{}, {})", partition, from, to);
+        } catch (DataAccessException e) {
+            // Typically rows for that month already sit in the default partition
+            log.error("Could not create partition {}: {}", partition, e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private List<String> listPartitions(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = ? AND pg_table_is_visible(p.oid)",
+                String.class, table);
+    }
+
+    private static YearMonth monthOf(String table, String partition) {
+        if (!partition.startsWith(table + "_p")) {
+            return null;
+        }
+        Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+        return matcher.find() ? YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))) : null;
+    }
+
+    /**
+     * Archive (if enabled), detach and drop one expired partition. The archive file is complete on
+     * disk before the partition is dropped.
+     */
+    private void retire(String table, String partition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(hashtext(?))",
+                    Boolean.class, "partition-maintenance:" + table);
+            if (!Boolean.TRUE.equals(locked) || !listPartitions(table).contains(partition)) {
+                return;
+            }
+            long rows = archiveEnabled ? archive(table, partition) : -1;
+            jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            archivedCounter.increment();
+            if (rows >= 0) {
+                log.info("Archived {} rows of {} and dropped the partition", rows, partition);
+            } else {
+                log.info("Dropped expired partition {} (archiving disabled)", partition);
+            }
+        });
+    }
+
+    private long archive(String table, String partition) {
+        Path dir = archiveDir.resolve(table);
+        Path target = dir.resolve(partition + ".csv.gz");
+        Path part = dir.resolve(partition + ".csv.gz.part");
+        try {
+            Files.createDirectories(dir);
+            Long rows;
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(part), 64 * 1024)) {
+                rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> copyOut(connection.unwrap(PGConnection.class),
+                        "COPY " + partition + " TO STDOUT WITH (FORMAT csv, HEADER)", out));
+            }
+            Files.move(part, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return rows != null ? rows : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive " + partition + " to " + target, e);
+        }
+    }
+
+    private static long copyOut(PGConnection connection, String sql, OutputStream out) throws SQLException {
+        try {
+            return connection.getCopyAPI().copyOut(sql, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void warnIfDefaultUsed(String table) {
+        if (!listPartitions(table).contains(table + "_default")) {
+            return;
+        }
+        Boolean used = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + table + "_default)", Boolean.class);
+        if (Boolean.TRUE.equals(used)) {
+            log.warn("{}_default holds rows outside every monthly partition; move them into a month partition " +
+                    "so that month's partition can be created", table);
+        }
+    }
+}
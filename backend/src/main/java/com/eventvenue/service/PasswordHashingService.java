@@ -0,0 +1,161 @@
+package com.eventvenue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * BCrypt on a small dedicated pool instead of the request thread, so a signup or login storm can
+ * use at most async.hashing.size cores. When the pool's queue is full callers fail fast with a
+ * "busy" error rather than piling up.
+ *
+ * The work factor is calibrated once at startup to the largest cost whose hash fits
+ * password.hashing.target-ms on this machine (or fixed with password.hashing.cost). Hashes with a
+ * different cost are upgraded in the background the next time their owner logs in.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private final ThreadPoolTaskExecutor hashingExecutor;
+    private final long timeoutMs;
+    private final int cost;
+    private final BCryptPasswordEncoder encoder;
+    private final Counter rehashCounter;
+    private final Counter busyCounter;
+
+    public PasswordHashingService(@Qualifier("hashingExecutor") ThreadPoolTaskExecutor hashingExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${password.hashing.cost:0}") int fixedCost,
+                                  @Value("${password.hashing.target-ms:250}") long targetMs,
+                                  @Value("${password.hashing.min-cost:10}") int minCost,
+                                  @Value("${password.hashing.max-cost:14}") int maxCost,
+                                  @Value("${password.hashing.timeout-ms:5000}") long timeoutMs) {
+        this.hashingExecutor = hashingExecutor;
+        this.timeoutMs = timeoutMs;
+        this.cost = fixedCost > 0 ? fixedCost : calibrate(targetMs, minCost, maxCost);
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.rehashCounter = meterRegistry.counter("password.hashing.rehashed");
+        this.busyCounter = meterRegistry.counter("password.hashing.busy");
+        Gauge.builder("password.hashing.cost", () -> cost).register(meterRegistry);
+    }
+
+    /**
+     * Each cost step doubles the work, so one timing at the minimum cost predicts the rest
+     */
+    private static int calibrate(long targetMs, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+        probe.encode("calibration-warmup");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-probe");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double baseMs = best / 1_000_000.0;
+
+        int chosen = minCost;
+        while (chosen < maxCost && baseMs * (1L << (chosen + 1 - minCost)) <= targetMs) {
+            chosen++;
+        }
+        log.info("BCrypt cost {} selected ({} ms at cost {}, target {} ms)",
+                chosen, String.format("%.1f", baseMs), minCost, targetMs);
+        return chosen;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public String encode(String rawPassword) {
+        return await(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(await(() -> encoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // Upgrade only: the calibrated cost varies between restarts and machines, and a stronger hash
+    // is never traded down for it
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword == null || costOf(encodedPassword) < cost;
+    }
+
+    /**
+     * After a successful login, re-encode the password at the current cost if its hash uses a lower
+     * one. Runs in the background; if the pool is busy the upgrade simply waits for the next login.
+     */
+    public void rehashIfNeeded(String rawPassword, String encodedPassword, Consumer<String> store) {
+        if (!needsRehash(encodedPassword)) {
+            return;
+        }
+        try {
+            hashingExecutor.execute(() -> {
+                try {
+                    store.accept(encoder.encode(rawPassword));
+                    rehashCounter.increment();
+                } catch (RuntimeException e) {
+                    log.warn("Password rehash failed: {}", e.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("Hashing pool busy, password rehash deferred");
+        }
+    }
+
+    private <T> T await(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(hashing);
+        } catch (TaskRejectedException e) {
+            busyCounter.increment();
+            throw new RuntimeException("Server is busy, please try again in a moment");
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            busyCounter.increment();
+            throw new RuntimeException("Server is busy, please try again in a moment");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException runtime ? runtime : new RuntimeException(cause);
+        }
+    }
+
+    // BCrypt hashes look like $2a$10$...; the two digits are the log2 work factor
+    private static int costOf(String encodedPassword) {
+        if (encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int end = encodedPassword.indexOf('$', 1);
+        if (end < 0 || end + 3 > encodedPassword.length()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(end + 1, end + 3));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
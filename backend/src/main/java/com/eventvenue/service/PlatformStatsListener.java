@@ -0,0 +1,99 @@
+package com.eventvenue.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Feeds {@link PlatformStatsService} with committed changes: a booking created or cancelled, a
+ * vendor approved, a venue or event published. Unlike a JPA entity listener, Hibernate's post-commit
+ * events see the previous state of an update and never fire for a transaction that rolled back,
+ * which is what lets the counters move by deltas.
+ */
+@Component
+public class PlatformStatsListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlatformStatsService platformStatsService;
+
+    public PlatformStatsListener(EntityManagerFactory entityManagerFactory, PlatformStatsService platformStatsService) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.platformStatsService = platformStatsService;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return platformStatsService.isTracked(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        platformStatsService.recordCreated(event.getEntity().getClass(), state(event.getPersister(), event.getState()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        // No previous state when a detached instance was reattached without a load; reconciliation covers it
+        if (event.getOldState() == null) {
+            return;
+        }
+        platformStatsService.recordUpdated(event.getEntity().getClass(),
+                state(event.getPersister(), event.getOldState()),
+                state(event.getPersister(), event.getState()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getDeletedState() == null) {
+            return;
+        }
+        platformStatsService.recordDeleted(event.getEntity().getClass(), state(event.getPersister(), event.getDeletedState()));
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private static Function<String, Object> state(EntityPersister persister, Object[] values) {
+        String[] names = persister.getPropertyNames();
+        return property -> {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(property)) {
+                    return values[i];
+                }
+            }
+            return null;
+        };
+    }
+}
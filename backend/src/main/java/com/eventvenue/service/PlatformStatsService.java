@@ -0,0 +1,179 @@
+package com.eventvenue.service;
+
+import com.eventvenue.entity.Booking;
+import com.eventvenue.entity.Event;
+import com.eventvenue.entity.User;
+import com.eventvenue.entity.Vendor;
+import com.eventvenue.entity.Venue;
+import com.eventvenue.repository.BookingRepository;
+import com.eventvenue.repository.EventRepository;
+import com.eventvenue.repository.UserRepository;
+import com.eventvenue.repository.VendorRepository;
+import com.eventvenue.repository.VenueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Platform-wide counts (users, vendors by status, venues, bookings by status, events) kept in memory,
+ * so the admin dashboards read a snapshot instead of running a dozen count queries per load.
+ *
+ * Counters move with committed inserts, updates and deletes reported by {@link PlatformStatsListener}.
+ * Writes that bypass the entity lifecycle (bulk JPQL updates, SQL scripts) are corrected by a
+ * periodic reconciliation against the database, so the numbers are exact again within
+ * stats.reconcile-interval-ms.
+ */
+@Service
+@Slf4j
+public class PlatformStatsService {
+
+    /**
+     * How one entity type feeds the counters: a total, plus one counter per tracked property value
+     */
+    private record Tracked(String total, Map<String, Map<Object, String>> byProperty) {}
+
+    private static final Map<Class<?>, Tracked> TRACKED = Map.of(
+            User.class, new Tracked("totalUsers", Map.of()),
+            Vendor.class, new Tracked("totalVendors", Map.of(
+                    "status", Map.of("APPROVED", "approvedVendors", "PENDING", "pendingVendors", "REJECTED", "rejectedVendors"),
+                    "isActive", Map.of(true, "activeVendors"))),
+            Venue.class, new Tracked("totalVenues", Map.of(
+                    "isAvailable", Map.of(true, "availableVenues"))),
+            Event.class, new Tracked("totalEvents", Map.of(
+                    "isActive", Map.of(true, "activeEvents"))),
+            Booking.class, new Tracked("totalBookings", Map.of(
+                    "status", Map.of("PENDING", "pendingBookings", "CONFIRMED", "confirmedBookings",
+                            "COMPLETED", "completedBookings", "CANCELLED", "cancelledBookings"))));
+
+    private final Map<String, LongSupplier> queries = new LinkedHashMap<>();
+    private final Map<String, LongAdder> counters = new LinkedHashMap<>();
+    private final Counter correctedCounter;
+    private volatile boolean reconciled;
+
+    public PlatformStatsService(UserRepository userRepository,
+                                VendorRepository vendorRepository,
+                                VenueRepository venueRepository,
+                                EventRepository eventRepository,
+                                BookingRepository bookingRepository,
+                                MeterRegistry meterRegistry) {
+        queries.put("totalUsers", userRepository::count);
+        queries.put("totalVendors", vendorRepository::count);
+        queries.put("approvedVendors", () -> vendorRepository.countByStatus("APPROVED"));
+        queries.put("pendingVendors", () -> vendorRepository.countByStatus("PENDING"));
+        queries.put("rejectedVendors", () -> vendorRepository.countByStatus("REJECTED"));
+        queries.put("activeVendors", () -> vendorRepository.countByIsActive(true));
+        queries.put("totalVenues", venueRepository::count);
+        queries.put("availableVenues", () -> venueRepository.countByIsAvailable(true));
+        queries.put("totalBookings", bookingRepository::count);
+        queries.put("pendingBookings", () -> bookingRepository.countByStatus("PENDING"));
+        queries.put("confirmedBookings", () -> bookingRepository.countByStatus("CONFIRMED"));
+        queries.put("completedBookings", () -> bookingRepository.countByStatus("COMPLETED"));
+        queries.put("cancelledBookings", () -> bookingRepository.countByStatus("CANCELLED"));
+        queries.put("totalEvents", eventRepository::count);
+        queries.put("activeEvents", () -> eventRepository.countByIsActive(true));
+
+        for (String name : queries.keySet()) {
+            counters.put(name, new LongAdder());
+        }
+        this.correctedCounter = meterRegistry.counter("platform.stats.corrections");
+    }
+
+    /**
+     * Current counts by name ("totalUsers", "pendingBookings", ...)
+     */
+    public Map<String, Long> snapshot() {
+        if (!reconciled) {
+            reconcile();
+        }
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return snapshot;
+    }
+
+    public long get(String name) {
+        return snapshot().get(name);
+    }
+
+    public boolean isTracked(Class<?> type) {
+        return TRACKED.containsKey(type);
+    }
+
+    public void recordCreated(Class<?> type, Function<String, Object> state) {
+        apply(type, state, 1);
+    }
+
+    public void recordDeleted(Class<?> type, Function<String, Object> state) {
+        apply(type, state, -1);
+    }
+
+    public void recordUpdated(Class<?> type, Function<String, Object> oldState, Function<String, Object> newState) {
+        Tracked tracked = TRACKED.get(type);
+        if (tracked == null) {
+            return;
+        }
+        tracked.byProperty().forEach((property, buckets) -> {
+            Object before = oldState.apply(property);
+            Object after = newState.apply(property);
+            if (before == null ? after != null : !before.equals(after)) {
+                add(bucket(buckets, before), -1);
+                add(bucket(buckets, after), 1);
+            }
+        });
+    }
+
+    private void apply(Class<?> type, Function<String, Object> state, int delta) {
+        Tracked tracked = TRACKED.get(type);
+        if (tracked == null) {
+            return;
+        }
+        add(tracked.total(), delta);
+        tracked.byProperty().forEach((property, buckets) -> add(bucket(buckets, state.apply(property)), delta));
+    }
+
+    // Map.of rejects null keys, and the tracked columns are nullable; a null value counts nowhere
+    private static String bucket(Map<Object, String> buckets, Object value) {
+        return value == null ? null : buckets.get(value);
+    }
+
+    private void add(String name, int delta) {
+        if (name != null) {
+            counters.get(name).add(delta);
+        }
+    }
+
+    /**
+     * Reset every counter to its database count. A write that commits while this runs can be
+     * missed until the next run; that is the accepted drift.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${stats.reconcile-interval-ms:300000}", initialDelayString = "${stats.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        long corrections = 0;
+        for (Map.Entry<String, LongSupplier> query : queries.entrySet()) {
+            long actual = query.getValue().getAsLong();
+            LongAdder counter = counters.get(query.getKey());
+            long drift = actual - counter.sum();
+            if (drift != 0) {
+                counter.add(drift);
+                if (reconciled) {
+                    corrections += Math.abs(drift);
+                }
+            }
+        }
+        if (corrections > 0) {
+            correctedCounter.increment(corrections);
+            log.info("Platform stats reconciled ({} counts corrected)", corrections);
+        }
+        reconciled = true;
+    }
+}
@@ -0,0 +1,194 @@
+package com.eventvenue.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SMTP delivery over pooled, reused connections. JavaMailSender.send() opens a new session
+ * (connect, STARTTLS, AUTH) for every message; here a connection stays open and carries up to
+ * max-messages-per-connection messages before it is recycled.
+ *
+ * Concurrency is capped by max-connections and throughput by rate-per-second, so a large
+ * fan-out cannot trip the provider's limits. Host, port and credentials come from spring.mail.*,
+ * so pointing those at a local SMTP sink (e.g. MailHog on port 1025 with STARTTLS off) is enough
+ * to exercise it end to end.
+ */
+@Component
+@Slf4j
+public class PooledMailTransport {
+
+    private static final long RECENT_USE_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private final JavaMailSenderImpl mailSender;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final TokenBucket rateLimiter;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleNanos;
+    private final long acquireTimeoutMs;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter connectCounter;
+
+    public PooledMailTransport(JavaMailSender mailSender,
+                               MeterRegistry meterRegistry,
+                               @Value("${mail.transport.max-connections:4}") int maxConnections,
+                               @Value("${mail.transport.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                               @Value("${mail.transport.max-idle-ms:30000}") long maxIdleMs,
+                               @Value("${mail.transport.acquire-timeout-ms:30000}") long acquireTimeoutMs,
+                               @Value("${mail.transport.rate-per-second:20}") double ratePerSecond,
+                               @Value("${mail.transport.burst:20}") int burst) {
+        if (!(mailSender instanceof JavaMailSenderImpl impl)) {
+            throw new IllegalStateException("PooledMailTransport requires JavaMailSenderImpl, got " + mailSender.getClass());
+        }
+        this.mailSender = impl;
+        this.permits = new Semaphore(maxConnections, true);
+        this.rateLimiter = new TokenBucket(burst, ratePerSecond);
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxIdleMs);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        this.sentCounter = meterRegistry.counter("mail.transport.sent");
+        this.failedCounter = meterRegistry.counter("mail.transport.failed");
+        this.connectCounter = meterRegistry.counter("mail.transport.connections.opened");
+        Gauge.builder("mail.transport.connections.idle", idle, LinkedBlockingDeque::size).register(meterRegistry);
+        Gauge.builder("mail.transport.connections.busy", permits, p -> maxConnections - p.availablePermits())
+                .register(meterRegistry);
+    }
+
+    public MimeMessage createMimeMessage() {
+        return mailSender.createMimeMessage();
+    }
+
+    /**
+     * Send one message, blocking while the rate limit or connection limit is reached.
+     */
+    public void send(MimeMessage message) throws MessagingException {
+        rateLimiter.acquire();
+        acquirePermit();
+        PooledConnection connection = null;
+        try {
+            connection = borrow();
+            message.saveChanges();
+            connection.transport.sendMessage(message, message.getAllRecipients());
+            connection.messagesSent++;
+            sentCounter.increment();
+        } catch (MessagingException e) {
+            failedCounter.increment();
+            // The session state is unknown after a failure; never reuse it
+            if (connection != null) {
+                connection.close();
+                connection = null;
+            }
+            throw e;
+        } finally {
+            if (connection != null) {
+                giveBack(connection);
+            }
+            permits.release();
+        }
+    }
+
+    private void acquirePermit() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for an SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted waiting for an SMTP connection", e);
+        }
+    }
+
+    private PooledConnection borrow() throws MessagingException {
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (connection.isReusable()) {
+                return connection;
+            }
+            connection.close();
+        }
+        return open();
+    }
+
+    private void giveBack(PooledConnection connection) {
+        if (connection.messagesSent >= maxMessagesPerConnection) {
+            connection.close();
+            return;
+        }
+        connection.lastUsed = System.nanoTime();
+        // Most recently used first, so surplus connections age out and get closed
+        idle.offerFirst(connection);
+    }
+
+    private PooledConnection open() throws MessagingException {
+        Session session = mailSender.getSession();
+        Transport transport = session.getTransport(mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp");
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        connectCounter.increment();
+        log.debug("Opened SMTP connection to {}:{}", mailSender.getHost(), mailSender.getPort());
+        return new PooledConnection(transport);
+    }
+
+    // Close connections the server would drop anyway, rather than discovering it on the next send
+    @Scheduled(fixedDelayString = "${mail.transport.max-idle-ms:30000}")
+    public void evictIdle() {
+        for (PooledConnection connection : idle) {
+            if (System.nanoTime() - connection.lastUsed >= maxIdleNanos && idle.remove(connection)) {
+                connection.close();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.close();
+        }
+    }
+
+    private final class PooledConnection {
+        private final Transport transport;
+        private int messagesSent;
+        private long lastUsed = System.nanoTime();
+
+        private PooledConnection(Transport transport) {
+            this.transport = transport;
+        }
+
+        private boolean isReusable() {
+            long idleNanos = System.nanoTime() - lastUsed;
+            if (idleNanos >= maxIdleNanos) {
+                return false;
+            }
+            // isConnected() costs a NOOP round trip; skip it for connections used moments ago
+            return idleNanos < RECENT_USE_NANOS || transport.isConnected();
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Error closing SMTP connection: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.AdminSummary;
+import com.eventvenue.dto.UserSummary;
+import com.eventvenue.dto.VendorSummary;
+import com.eventvenue.repository.AdminUserRepository;
+import com.eventvenue.repository.UserRepository;
+import com.eventvenue.repository.VendorRepository;
+import com.eventvenue.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-based cache of account summaries for authenticated reads, so a profile or points
+ * lookup by the id in the JWT does not hit the database on every request.
+ *
+ * Entries are evicted by {@link PrincipalCacheListener} whenever a User, Vendor or AdminUser row is
+ * written, no matter which service saved it. Eviction happens immediately and again once the
+ * transaction completes, so a concurrent reader cannot re-cache the pre-commit row. The TTL only
+ * bounds how long an entry lives if a row is changed outside JPA.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final VendorRepository vendorRepository;
+    private final AdminUserRepository adminUserRepository;
+
+    private final Cache<Long, UserSummary> users;
+    private final Cache<Long, VendorSummary> vendors;
+    private final Cache<Long, AdminSummary> admins;
+    private final Cache<String, UserPrincipal> principalsByEmail;
+
+    public PrincipalCache(UserRepository userRepository,
+                          VendorRepository vendorRepository,
+                          AdminUserRepository adminUserRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${principal.cache.max-size:10000}") long maxSize,
+                          @Value("${principal.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.vendorRepository = vendorRepository;
+        this.adminUserRepository = adminUserRepository;
+
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        this.users = CaffeineCacheMetrics.monitor(meterRegistry, build(maxSize, ttl), "principal.users");
+        this.vendors = CaffeineCacheMetrics.monitor(meterRegistry, build(maxSize, ttl), "principal.vendors");
+        this.admins = CaffeineCacheMetrics.monitor(meterRegistry, build(maxSize, ttl), "principal.admins");
+        this.principalsByEmail = CaffeineCacheMetrics.monitor(meterRegistry, build(maxSize, ttl), "principal.by-email");
+    }
+
+    private static <K, V> Cache<K, V> build(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    // Misses are not cached: the loader returns null for unknown ids
+
+    public Optional<UserSummary> findUser(Long userId) {
+        return Optional.ofNullable(users.get(userId,
+                id -> userRepository.findById(id).map(UserSummary::from).orElse(null)));
+    }
+
+    public Optional<VendorSummary> findVendor(Long vendorId) {
+        return Optional.ofNullable(vendors.get(vendorId,
+                id -> vendorRepository.findById(id).map(VendorSummary::from).orElse(null)));
+    }
+
+    public Optional<AdminSummary> findAdmin(Long adminId) {
+        return Optional.ofNullable(admins.get(adminId,
+                id -> adminUserRepository.findById(id).map(AdminSummary::from).orElse(null)));
+    }
+
+    public Optional<UserPrincipal> findPrincipalByEmail(String email) {
+        return Optional.ofNullable(principalsByEmail.get(email,
+                key -> userRepository.findByEmail(key).map(UserPrincipal::create).orElse(null)));
+    }
+
+    public void evictUser(Long userId, String email) {
+        evict(() -> {
+            users.invalidate(userId);
+            if (email != null) {
+                principalsByEmail.invalidate(email);
+            }
+        });
+    }
+
+    public void evictVendor(Long vendorId) {
+        evict(() -> vendors.invalidate(vendorId));
+    }
+
+    public void evictAdmin(Long adminId) {
+        evict(() -> admins.invalidate(adminId));
+    }
+
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.eventvenue.service;
+
+import com.eventvenue.entity.AdminUser;
+import com.eventvenue.entity.User;
+import com.eventvenue.entity.Vendor;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on the account entities that keeps {@link PrincipalCache} consistent with every
+ * write, including the ones UserService, VendorService and AdminService make on points and status.
+ */
+@Component
+public class PrincipalCacheListener {
+
+    private final PrincipalCache principalCache;
+
+    // Lazy: Hibernate creates listeners while the EntityManagerFactory that the cache's repositories need is still starting
+    public PrincipalCacheListener(@Lazy PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof User user) {
+            principalCache.evictUser(user.getId(), user.getEmail());
+        } else if (entity instanceof Vendor vendor) {
+            principalCache.evictVendor(vendor.getId());
+        } else if (entity instanceof AdminUser admin) {
+            principalCache.evictAdmin(admin.getId());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.RevenuePoint;
+import com.eventvenue.entity.SystemSettings;
+import com.eventvenue.repository.BookingRepository;
+import com.eventvenue.repository.RevenueRollupRepository;
+import com.eventvenue.repository.SystemSettingsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Hourly and daily booking rollups per venue/event (and so per vendor), served as time series so
+ * the dashboards never aggregate the bookings table.
+ *
+ * Maintenance is incremental: every refresh-interval-ms the days touched by bookings changed since
+ * the last run (created, cancelled, refunded) get their hourly rows rebuilt from bookings and their
+ * daily row from those hours. Rebuilding whole buckets keeps the rollups exact whichever code path
+ * changed a booking. The watermark lives in system_settings; without one (first start), a backfill
+ * from the oldest booking runs instead.
+ */
+@Service
+@Slf4j
+public class RevenueRollupService {
+
+    public static final String HOUR = "HOUR";
+    public static final String DAY = "DAY";
+
+    private static final String WATERMARK_KEY = "revenue_rollup_watermark";
+    // Covers transactions that stamped updated_at before the last run but committed after it
+    private static final Duration COMMIT_LAG = Duration.ofMinutes(2);
+    private static final long MAX_HOURLY_DAYS = 92;
+    private static final long MAX_DAILY_DAYS = 1100;
+    // A rebuild runs on the caller's thread and holds off the scheduled refresh until it is done
+    private static final long MAX_REBUILD_DAYS = 92;
+
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final BookingRepository bookingRepository;
+    private final SystemSettingsRepository systemSettingsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int hourlyRetentionDays;
+
+    public RevenueRollupService(RevenueRollupRepository revenueRollupRepository,
+                                BookingRepository bookingRepository,
+                                SystemSettingsRepository systemSettingsRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${analytics.rollup.hourly-retention-days:90}") int hourlyRetentionDays) {
+        this.revenueRollupRepository = revenueRollupRepository;
+        this.bookingRepository = bookingRepository;
+        this.systemSettingsRepository = systemSettingsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.rollup.refresh-interval-ms:60000}", initialDelayString = "${analytics.rollup.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        LocalDateTime runStartedAt = LocalDateTime.now();
+        LocalDateTime watermark = readWatermark();
+        if (watermark == null) {
+            LocalDateTime oldest = bookingRepository.findOldestCreatedAt();
+            if (oldest != null) {
+                backfill(oldest.toLocalDate(), runStartedAt.toLocalDate());
+            }
+            writeWatermark(runStartedAt);
+            return;
+        }
+
+        LocalDateTime since = watermark.minus(COMMIT_LAG);
+        TreeSet<LocalDate> days = new TreeSet<>();
+        for (LocalDateTime touched : bookingRepository.findCreatedTimesChangedSince(since)) {
+            days.add(touched.toLocalDate());
+        }
+        for (LocalDateTime touched : bookingRepository.findCancellationTimesChangedSince(since)) {
+            days.add(touched.toLocalDate());
+        }
+
+        // Whole days, so a day whose hourly rows were already purged is rebuilt complete
+        for (LocalDate day : days) {
+            rebuildDay(day);
+        }
+        if (!days.isEmpty()) {
+            log.debug("Revenue rollups refreshed for {} days", days.size());
+        }
+        writeWatermark(runStartedAt);
+    }
+
+    /**
+     * Rebuild the rollups of the days from..to (inclusive) from bookings, at most MAX_REBUILD_DAYS
+     * per call; longer ranges are rebuilt a slice at a time
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new RuntimeException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > MAX_REBUILD_DAYS) {
+            throw new RuntimeException("Range too large to rebuild (max " + MAX_REBUILD_DAYS + " days per call)");
+        }
+        return backfill(from, to);
+    }
+
+    /**
+     * Rebuild every bucket of the given days from bookings, one day per transaction
+     */
+    private synchronized int backfill(LocalDate from, LocalDate to) {
+        int days = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            rebuildDay(day);
+            days++;
+        }
+        log.info("Revenue rollups backfilled for {} days ({} to {})", days, from, to);
+        return days;
+    }
+
+    private void rebuildDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = day.plusDays(1).atStartOfDay();
+        transactionTemplate.executeWithoutResult(status -> {
+            revenueRollupRepository.deleteBuckets(HOUR, start, end);
+            revenueRollupRepository.insertHourly(start, end);
+            revenueRollupRepository.deleteBuckets(DAY, start, end);
+            revenueRollupRepository.insertDaily(start, end);
+        });
+    }
+
+    // Daily rows are kept; hourly detail is only served for recent periods
+    @Scheduled(cron = "${analytics.rollup.purge-cron:0 15 4 * * *}")
+    public void purgeHourly() {
+        LocalDateTime before = LocalDate.now().minusDays(hourlyRetentionDays).atStartOfDay();
+        Integer deleted = transactionTemplate.execute(status -> revenueRollupRepository.deleteHourlyBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} hourly revenue rollups before {}", deleted, before);
+        }
+    }
+
+    /**
+     * Series over [from, to) with one point per bucket, including empty ones. Null filters match
+     * everything.
+     */
+    public List<RevenuePoint> getSeries(String granularity, LocalDate from, LocalDate to,
+                                        Long vendorId, Long venueId, Long eventId) {
+        if (!HOUR.equals(granularity) && !DAY.equals(granularity)) {
+            throw new RuntimeException("Granularity must be HOUR or DAY");
+        }
+        if (!from.isBefore(to)) {
+            throw new RuntimeException("'from' must be before 'to'");
+        }
+        long maxDays = HOUR.equals(granularity) ? MAX_HOURLY_DAYS : MAX_DAILY_DAYS;
+        if (ChronoUnit.DAYS.between(from, to) > maxDays) {
+            throw new RuntimeException("Range too large for " + granularity + " series (max " + maxDays + " days)");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.atStartOfDay();
+        Map<LocalDateTime, RevenuePoint> found = new HashMap<>();
+        for (RevenuePoint point : revenueRollupRepository.findSeries(granularity, start, end, vendorId, venueId, eventId)) {
+            found.put(point.getBucketStart(), point);
+        }
+
+        List<RevenuePoint> series = new ArrayList<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(end);
+             bucket = HOUR.equals(granularity) ? bucket.plusHours(1) : bucket.plusDays(1)) {
+            RevenuePoint point = found.get(bucket);
+            series.add(point != null ? point : RevenuePoint.empty(bucket));
+        }
+        return series;
+    }
+
+    public BigDecimal getTotalNetRevenue() {
+        return revenueRollupRepository.sumNetRevenue();
+    }
+
+    public BigDecimal getNetRevenueSince(LocalDate from) {
+        return revenueRollupRepository.sumNetRevenueSince(from.atStartOfDay());
+    }
+
+    private LocalDateTime readWatermark() {
+        return systemSettingsRepository.findBySettingKey(WATERMARK_KEY)
+                .map(setting -> LocalDateTime.parse(setting.getSettingValue()))
+                .orElse(null);
+    }
+
+    private void writeWatermark(LocalDateTime watermark) {
+        SystemSettings setting = systemSettingsRepository.findBySettingKey(WATERMARK_KEY)
+                .orElseGet(() -> new SystemSettings(WATERMARK_KEY, null));
+        setting.setSettingValue(watermark.toString());
+        systemSettingsRepository.save(setting);
+    }
+}
@@ -0,0 +1,191 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.ImageVariants.Variant;
+import com.eventvenue.entity.StoredFile;
+import com.eventvenue.repository.StoredFileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed upload storage. Each file is hashed while it is streamed to a temp file and
+ * then lives at "{h0h1}/{h2h3}/{sha256}.{ext}" under the upload directory, so uploading the same
+ * photo again (for another venue, or by another vendor) stores nothing new and skips the resize.
+ *
+ * Venues and events count as references (acquire/release with their images column). Files that
+ * are unreferenced for orphan-grace-hours, e.g. uploaded but never saved on a listing, are deleted
+ * with their variants by a scheduled sweep.
+ */
+@Service
+@Slf4j
+public class StoredFileService {
+
+    // Matches content-addressed upload URLs; older UUID-named uploads are not tracked
+    private static final Pattern STORED_URL =
+            Pattern.compile("/uploads/[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})\\.[a-z0-9]+$");
+    private static final String INCOMING_DIRECTORY = ".incoming";
+    private static final int LOCK_STRIPES = 64;
+
+    private final StoredFileRepository storedFileRepository;
+    private final ImageVariantService imageVariantService;
+    private final Path root;
+    private final long orphanGraceHours;
+    private final int sweepBatchSize;
+    // Orders an upload of some content against the sweep deleting that same content
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Counter storedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter deduplicatedBytes;
+    private final Counter sweptCounter;
+
+    public StoredFileService(StoredFileRepository storedFileRepository,
+                             ImageVariantService imageVariantService,
+                             MeterRegistry meterRegistry,
+                             @Value("${file.upload.directory:uploads}") String uploadDirectory,
+                             @Value("${file.upload.orphan-grace-hours:24}") long orphanGraceHours,
+                             @Value("${file.upload.sweep-batch-size:200}") int sweepBatchSize) {
+        this.storedFileRepository = storedFileRepository;
+        this.imageVariantService = imageVariantService;
+        this.root = Paths.get(uploadDirectory).toAbsolutePath().normalize();
+        this.orphanGraceHours = orphanGraceHours;
+        this.sweepBatchSize = sweepBatchSize;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.storedCounter = meterRegistry.counter("uploads.stored", "outcome", "new");
+        this.deduplicatedCounter = meterRegistry.counter("uploads.stored", "outcome", "deduplicated");
+        this.deduplicatedBytes = meterRegistry.counter("uploads.deduplicated.bytes");
+        this.sweptCounter = meterRegistry.counter("uploads.orphans.deleted");
+    }
+
+    /**
+     * Store the stream's content and return its path relative to the upload directory
+     */
+    public String store(InputStream content, String extension, String contentType) throws IOException {
+        Path incoming = root.resolve(INCOMING_DIRECTORY);
+        Files.createDirectories(incoming);
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream hashing = new DigestInputStream(content, digest);
+                 OutputStream output = Files.newOutputStream(temp)) {
+                size = hashing.transferTo(output);
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String candidate = sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256 + "." + extension;
+
+            synchronized (lockFor(sha256)) {
+                String relativePath = storedFileRepository.recordUpload(
+                        sha256, candidate, contentType, size, LocalDateTime.now());
+                Path target = root.resolve(relativePath);
+                if (Files.exists(target)) {
+                    deduplicatedCounter.increment();
+                    deduplicatedBytes.increment(size);
+                    log.debug("Upload deduplicated as {}", relativePath);
+                    return relativePath;
+                }
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                storedCounter.increment();
+                imageVariantService.generateAsync(target);
+                return relativePath;
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Count one more reference for each stored image in a comma-separated images column
+     */
+    public void acquire(String images) {
+        Set<String> hashes = hashesOf(images);
+        if (!hashes.isEmpty()) {
+            storedFileRepository.acquire(hashes, LocalDateTime.now());
+        }
+    }
+
+    public void release(String images) {
+        Set<String> hashes = hashesOf(images);
+        if (!hashes.isEmpty()) {
+            storedFileRepository.release(hashes, LocalDateTime.now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${file.upload.sweep-interval-ms:3600000}", initialDelayString = "${file.upload.sweep-interval-ms:3600000}")
+    public void deleteOrphans() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(orphanGraceHours);
+        List<StoredFile> orphans = storedFileRepository.findOrphans(cutoff, PageRequest.of(0, sweepBatchSize));
+        int deleted = 0;
+        for (StoredFile orphan : orphans) {
+            synchronized (lockFor(orphan.getSha256())) {
+                if (storedFileRepository.deleteOrphan(orphan.getSha256(), cutoff) == 0) {
+                    continue;
+                }
+                Path file = root.resolve(orphan.getRelativePath());
+                try {
+                    for (Variant variant : Variant.values()) {
+                        Files.deleteIfExists(ImageVariantService.variantPath(file, variant));
+                    }
+                    Files.deleteIfExists(file);
+                    deleted++;
+                } catch (IOException e) {
+                    log.warn("Could not delete orphaned upload {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        if (deleted > 0) {
+            sweptCounter.increment(deleted);
+            log.info("Deleted {} unreferenced uploads", deleted);
+        }
+    }
+
+    private static Set<String> hashesOf(String images) {
+        Set<String> hashes = new LinkedHashSet<>();
+        if (images == null || images.isBlank()) {
+            return hashes;
+        }
+        for (String image : images.split(",")) {
+            Matcher matcher = STORED_URL.matcher(image.trim());
+            if (matcher.find()) {
+                hashes.add(matcher.group(1));
+            }
+        }
+        return hashes;
+    }
+
+    private Object lockFor(String sha256) {
+        return locks[Integer.parseInt(sha256.substring(0, 2), 16) % LOCK_STRIPES];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
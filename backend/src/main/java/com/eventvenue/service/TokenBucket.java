@@ -0,0 +1,86 @@
+package com.eventvenue.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free token bucket. The whole state is one timestamp (the time at which the bucket would be
+ * full again if nothing else is taken), updated with CAS, so callers never block each other.
+ */
+public final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, double tokensPerSecond) {
+        if (capacity < 1 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket needs capacity >= 1 and a positive rate");
+        }
+        this.nanosPerToken = Math.max(1L, (long) (1_000_000_000L / tokensPerSecond));
+        this.capacityNanos = nanosPerToken * capacity;
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    public boolean tryAcquire() {
+        return tryAcquire(1);
+    }
+
+    public boolean tryAcquire(int permits) {
+        long cost = nanosPerToken * permits;
+        while (true) {
+            long now = System.nanoTime();
+            long current = fullAt.get();
+            long base = current - now > 0 ? current : now;
+            long next = base + cost;
+            if (next - now > capacityNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Take a token, waiting for the refill if the bucket is empty.
+     */
+    public void acquire() {
+        long now;
+        long next;
+        while (true) {
+            now = System.nanoTime();
+            long current = fullAt.get();
+            long base = current - now > 0 ? current : now;
+            next = base + nanosPerToken;
+            if (fullAt.compareAndSet(current, next)) {
+                break;
+            }
+        }
+        long readyAt = next - capacityNanos;
+        long wait;
+        while ((wait = readyAt - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, wait);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Time until one token is available, 0 if one is available now.
+     */
+    public long nanosUntilAvailable() {
+        long now = System.nanoTime();
+        long wait = fullAt.get() + nanosPerToken - capacityNanos - now;
+        return Math.max(0, wait);
+    }
+
+    /**
+     * True once the bucket has refilled completely, i.e. it holds no state worth keeping.
+     */
+    public boolean isFull() {
+        return fullAt.get() - System.nanoTime() <= 0;
+    }
+}
@@ -5,7 +5,6 @@ import com.eventvenue.entity.User;
 import com.eventvenue.repository.UserRepository;
 import com.eventvenue.security.JwtTokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -17,7 +16,10 @@ public class UserService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private PrincipalCache principalCache;
 
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
@@ -42,7 +44,7 @@ public class UserService {
         User user = User.builder()
                 .username(username)
                 .email(email)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHashingService.encode(password))
                 .firstName(firstName)
                 .lastName(lastName)
                 .phone(phone)
@@ -79,7 +81,7 @@ public class UserService {
 
         User user = User.builder()
                 .email(email)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHashingService.encode(password))
                 .firstName(firstName)
                 .points(2000L)
                 .isVerified(false)
@@ -126,6 +128,13 @@ public class UserService {
         return userRepository.save(user);
     }
 
+    // Login-time cost upgrade; bulk update, so the cached principal is evicted here
+    public void updatePasswordHash(User user, String newHash) {
+        if (userRepository.updatePasswordHash(user.getId(), user.getPassword(), newHash) > 0) {
+            principalCache.evictUser(user.getId(), user.getEmail());
+        }
+    }
+
     public void addPoints(Long userId, Long points, String reason) {
         Optional<User> userOptional = userRepository.findById(userId);
         if (userOptional.isPresent()) {
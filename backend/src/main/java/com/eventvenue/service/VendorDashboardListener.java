@@ -0,0 +1,36 @@
+package com.eventvenue.service;
+
+import com.eventvenue.entity.Event;
+import com.eventvenue.entity.Venue;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener on venues and events that evicts the owning vendor's cached dashboard. Bookings and
+ * reviews reach it too: booking an event updates its ticket count and a review updates the rating of
+ * its venue or event.
+ */
+@Component
+public class VendorDashboardListener {
+
+    private final VendorDashboardService vendorDashboardService;
+
+    // Lazy: Hibernate creates listeners while the EntityManagerFactory that the service's repositories need is still starting
+    public VendorDashboardListener(@Lazy VendorDashboardService vendorDashboardService) {
+        this.vendorDashboardService = vendorDashboardService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof Venue venue) {
+            vendorDashboardService.evict(venue.getVendorId());
+        } else if (entity instanceof Event event) {
+            vendorDashboardService.evict(event.getVendorId());
+        }
+    }
+}
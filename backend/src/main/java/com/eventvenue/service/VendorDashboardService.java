@@ -0,0 +1,183 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.RevenuePoint;
+import com.eventvenue.dto.VendorDashboard;
+import com.eventvenue.entity.Event;
+import com.eventvenue.entity.Venue;
+import com.eventvenue.repository.BookingRepository;
+import com.eventvenue.repository.EventRepository;
+import com.eventvenue.repository.ReviewRepository;
+import com.eventvenue.repository.RevenueRollupRepository;
+import com.eventvenue.repository.VenueRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-vendor dashboard: occupancy per venue, sell-through per event, revenue by day, rating and
+ * cancellation rate over a trailing window.
+ *
+ * Booking counts and revenue come from the daily rows of {@link RevenueRollupService}, tickets sold
+ * and ratings from the counters the booking and review paths already keep on each event and venue,
+ * so building a dashboard reads a few rows per listing and never the vendor's booking history.
+ * Occupancy is the one figure read from bookings, and only those dated inside the window. Results
+ * are cached per vendor; {@link VendorDashboardListener} evicts a vendor's entry when one of its
+ * venues or events is written, and the TTL (matched to the rollup refresh) covers new bookings.
+ */
+@Service
+public class VendorDashboardService {
+
+    // How far before the window a multi-day booking may start and still be counted for occupancy
+    private static final int MAX_BOOKING_SPAN_DAYS = 31;
+
+    private final RevenueRollupService revenueRollupService;
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final BookingRepository bookingRepository;
+    private final ReviewRepository reviewRepository;
+    private final VenueRepository venueRepository;
+    private final EventRepository eventRepository;
+    private final int windowDays;
+    private final Cache<Long, VendorDashboard> dashboards;
+
+    public VendorDashboardService(RevenueRollupService revenueRollupService,
+                                  RevenueRollupRepository revenueRollupRepository,
+                                  BookingRepository bookingRepository,
+                                  ReviewRepository reviewRepository,
+                                  VenueRepository venueRepository,
+                                  EventRepository eventRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${vendor.dashboard.window-days:30}") int windowDays,
+                                  @Value("${vendor.dashboard.cache.max-size:5000}") long maxSize,
+                                  @Value("${vendor.dashboard.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.revenueRollupService = revenueRollupService;
+        this.revenueRollupRepository = revenueRollupRepository;
+        this.bookingRepository = bookingRepository;
+        this.reviewRepository = reviewRepository;
+        this.venueRepository = venueRepository;
+        this.eventRepository = eventRepository;
+        this.windowDays = windowDays;
+        this.dashboards = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .<Long, VendorDashboard>build(), "vendor.dashboards");
+    }
+
+    public VendorDashboard getDashboard(Long vendorId) {
+        return dashboards.get(vendorId, this::build);
+    }
+
+    public void evict(Long vendorId) {
+        if (vendorId == null) {
+            return;
+        }
+        dashboards.invalidate(vendorId);
+        // Again after commit, so a dashboard built from the pre-commit rows is not kept
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    dashboards.invalidate(vendorId);
+                }
+            });
+        }
+    }
+
+    private VendorDashboard build(Long vendorId) {
+        LocalDate to = LocalDate.now().plusDays(1);
+        LocalDate from = to.minusDays(windowDays);
+
+        // [bookings, cancellations, net revenue] keyed by "venue:<id>" / "event:<id>"
+        Map<String, Object[]> byListing = new HashMap<>();
+        long bookings = 0;
+        long cancellations = 0;
+        BigDecimal netRevenue = BigDecimal.ZERO;
+        for (Object[] row : revenueRollupRepository.sumByListing(vendorId, from.atStartOfDay(), to.atStartOfDay())) {
+            Long venueId = ((Number) row[0]).longValue();
+            Long eventId = ((Number) row[1]).longValue();
+            Object[] sums = {toLong(row[2]), toLong(row[3]), toDecimal(row[4])};
+            if (venueId != 0) {
+                byListing.put("venue:" + venueId, sums);
+            } else if (eventId != 0) {
+                byListing.put("event:" + eventId, sums);
+            }
+            bookings += (long) sums[0];
+            cancellations += (long) sums[1];
+            netRevenue = netRevenue.add((BigDecimal) sums[2]);
+        }
+
+        Map<Long, Long> bookedDays = new HashMap<>();
+        for (Object[] row : bookingRepository.countBookedDaysByVenue(vendorId,
+                from.minusDays(MAX_BOOKING_SPAN_DAYS), from, to)) {
+            bookedDays.put(((Number) row[0]).longValue(), toLong(row[1]));
+        }
+
+        List<VendorDashboard.VenueMetrics> venues = venueRepository.findByVendorId(vendorId).stream()
+                .map(venue -> venueMetrics(venue, byListing.get("venue:" + venue.getId()),
+                        bookedDays.getOrDefault(venue.getId(), 0L)))
+                .toList();
+        List<VendorDashboard.EventMetrics> events = eventRepository.findByVendorId(vendorId).stream()
+                .map(event -> eventMetrics(event, byListing.get("event:" + event.getId())))
+                .toList();
+
+        long reviewCount = 0;
+        Double averageRating = null;
+        List<Object[]> rating = reviewRepository.summarizeByVendorId(vendorId);
+        if (!rating.isEmpty()) {
+            reviewCount = toLong(rating.get(0)[0]);
+            averageRating = reviewCount > 0 ? round(((Number) rating.get(0)[1]).doubleValue()) : null;
+        }
+
+        List<RevenuePoint> revenueByDay = revenueRollupService.getSeries(RevenueRollupService.DAY, from, to,
+                vendorId, null, null);
+
+        return new VendorDashboard(from, to, bookings, cancellations, ratio(cancellations, bookings), netRevenue,
+                averageRating, reviewCount, revenueByDay, venues, events);
+    }
+
+    private VendorDashboard.VenueMetrics venueMetrics(Venue venue, Object[] sums, long bookedDays) {
+        return new VendorDashboard.VenueMetrics(venue.getId(), venue.getName(),
+                sums != null ? (long) sums[0] : 0, sums != null ? (long) sums[1] : 0,
+                sums != null ? (BigDecimal) sums[2] : BigDecimal.ZERO,
+                bookedDays, ratio(bookedDays, windowDays), venue.getRating());
+    }
+
+    private VendorDashboard.EventMetrics eventMetrics(Event event, Object[] sums) {
+        int total = event.getTotalTickets() != null ? event.getTotalTickets() : 0;
+        int available = event.getTicketsAvailable() != null ? event.getTicketsAvailable() : total;
+        int sold = Math.max(0, total - available);
+        return new VendorDashboard.EventMetrics(event.getId(), event.getName(),
+                sums != null ? (long) sums[0] : 0, sums != null ? (long) sums[1] : 0,
+                sums != null ? (BigDecimal) sums[2] : BigDecimal.ZERO,
+                total, sold, ratio(sold, total), event.getRating());
+    }
+
+    private static double ratio(long part, long whole) {
+        return whole > 0 ? round((double) part / whole) : 0.0;
+    }
+
+    private static double round(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0;
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        return value != null ? (BigDecimal) value : BigDecimal.ZERO;
+    }
+}
@@ -4,15 +4,12 @@ import com.eventvenue.dto.AuthResponse;
 import com.eventvenue.dto.SignupRequest;
 import com.eventvenue.entity.Vendor;
 import com.eventvenue.entity.User;
-import com.eventvenue.entity.WithdrawalRequest;
 import com.eventvenue.repository.VendorRepository;
 import com.eventvenue.repository.UserRepository;
-import com.eventvenue.repository.WithdrawalRequestRepository;
 import com.eventvenue.repository.CreditTransactionRepository;
 import com.eventvenue.entity.CreditTransaction;
 import com.eventvenue.security.JwtTokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -27,14 +24,11 @@ public class VendorService {
     @Autowired
     private UserRepository userRepository;
 
-    @Autowired
-    private WithdrawalRequestRepository withdrawalRequestRepository;
-
     @Autowired
     private CreditTransactionRepository creditTransactionRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
@@ -64,10 +58,13 @@ public class VendorService {
             }
         }
 
+        // One hash serves both the user and the vendor row
+        String passwordHash = passwordHashingService.encode(request.getPassword());
+
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHash)
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .phone(request.getPhone())
@@ -81,7 +78,7 @@ public class VendorService {
         Vendor vendor = Vendor.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHash)
                 .businessName(request.getBusinessName())
                 .description(request.getBusinessDescription())
                 .businessPhone(request.getBusinessPhone())
@@ -125,7 +122,7 @@ public class VendorService {
 
         Vendor vendor = Vendor.builder()
                 .email(email)
-                .password(passwordEncoder.encode(password))
+                .password(passwordHashingService.encode(password))
                 .businessName(businessName)
                 .status("PENDING")
                 .isVerified(false)
@@ -149,10 +146,6 @@ public class VendorService {
         return vendorRepository.findByStatus("PENDING");
     }
 
-    public List<Vendor> getAllVendors() {
-        return vendorRepository.findAll();
-    }
-
     public List<Vendor> getPendingVendors() {
         return vendorRepository.findByStatus("PENDING");
     }
@@ -242,6 +235,10 @@ public class VendorService {
         throw new RuntimeException("Vendor not found");
     }
 
+    public void updatePasswordHash(Vendor vendor, String newHash) {
+        vendorRepository.updatePasswordHash(vendor.getId(), vendor.getPassword(), newHash);
+    }
+
     // Overloaded method for updating vendor directly (used by OTP verification)
     public Vendor updateVendor(Vendor vendor) {
         return vendorRepository.save(vendor);
@@ -279,69 +276,4 @@ public class VendorService {
         }
         throw new RuntimeException("Vendor not found");
     }
-
-    /**
- * Get vendor transaction history
- */
-public java.util.List<java.util.Map<String, Object>> getVendorTransactions(Long vendorId) {
-    java.util.List<java.util.Map<String, Object>> transactions = new java.util.ArrayList<>();
-    
-    // Fetch real withdrawal requests from database
-    List<WithdrawalRequest> withdrawals = withdrawalRequestRepository.findByUserIdOrderByCreatedAtDesc(vendorId);
-    
-    for (WithdrawalRequest w : withdrawals) {
-        java.util.Map<String, Object> tx = new java.util.HashMap<>();
-        tx.put("id", w.getId());
-        tx.put("type", "WITHDRAWAL");
-        tx.put("points", -w.getPointsAmount()); // Negative for withdrawal
-        tx.put("amount", w.getAmountUsd());
-        tx.put("description", "Withdrawal to PayPal: " + (w.getPaypalEmail() != null ? w.getPaypalEmail() : "N/A"));
-        tx.put("status", w.getStatus());
-        tx.put("createdAt", w.getCreatedAt() != null ? w.getCreatedAt().toString() : "");
-        transactions.add(tx);
-    }
-    
-    // Also add vendor activity (welcome bonus, purchases)
-    Optional<Vendor> vendorOptional = vendorRepository.findById(vendorId);
-    if (vendorOptional.isPresent()) {
-        Vendor vendor = vendorOptional.get();
-        
-        // Welcome bonus transaction
-        java.util.Map<String, Object> welcomeTx = new java.util.HashMap<>();
-        welcomeTx.put("id", "welcome");
-        welcomeTx.put("type", "CREDIT");
-        welcomeTx.put("points", 200);
-        welcomeTx.put("description", "Welcome bonus - New vendor registration");
-        welcomeTx.put("status", "COMPLETED");
-        welcomeTx.put("createdAt", vendor.getCreatedAt() != null ? vendor.getCreatedAt().toString() : java.time.LocalDateTime.now().minusDays(30).toString());
-        transactions.add(welcomeTx);
-        
-        // Fetch PURCHASE transactions from CreditTransaction table
-        // Note: credit_transactions uses user_id FK, so find user by vendor email
-        Optional<User> userOptional = userRepository.findByEmailAndRole(vendor.getEmail(), "VENDOR");
-        if (userOptional.isPresent()) {
-            Long userId = userOptional.get().getId();
-            List<CreditTransaction> purchases = creditTransactionRepository.findByUserIdAndTransactionType(userId, "VENDOR_PURCHASE");
-            for (CreditTransaction purchase : purchases) {
-                java.util.Map<String, Object> tx = new java.util.HashMap<>();
-                tx.put("id", purchase.getId());
-                tx.put("type", "PURCHASE");
-                tx.put("points", purchase.getPointsAmount());
-                tx.put("amount", purchase.getAmountUsd());
-                tx.put("description", purchase.getReason() != null ? purchase.getReason() : "Points purchase via PayPal");
-                tx.put("status", purchase.getStatus());
-                tx.put("createdAt", purchase.getCreatedAt() != null ? purchase.getCreatedAt().toString() : "");
-                transactions.add(tx);
-            }
-        }
-    }  
-    // Sort by createdAt descending
-    transactions.sort((a, b) -> {
-        String dateA = (String) a.getOrDefault("createdAt", "");
-        String dateB = (String) b.getOrDefault("createdAt", "");
-        return dateB.compareTo(dateA);
-    });
-    
-    return transactions;
-}
 }
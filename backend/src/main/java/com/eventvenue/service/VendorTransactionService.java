@@ -0,0 +1,179 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.VendorSummary;
+import com.eventvenue.dto.VendorTransaction;
+import com.eventvenue.dto.VendorTransactionPage;
+import com.eventvenue.entity.CreditTransaction;
+import com.eventvenue.entity.WithdrawalRequest;
+import com.eventvenue.repository.CreditTransactionRepository;
+import com.eventvenue.repository.WithdrawalRequestRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A vendor's transaction history (withdrawals, points purchases and the welcome bonus) as one
+ * newest-first feed paged by cursor.
+ *
+ * Each source is read as a keyset page already sorted by the database, and the pages are k-way
+ * merged on (createdAt desc, source, id desc). The cursor is the merge key of the last row
+ * returned, from which every source derives its own keyset bound, so a page costs one indexed
+ * query of at most limit + 1 rows per source however long the history is.
+ */
+@Service
+public class VendorTransactionService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final long WELCOME_BONUS_POINTS = 200;
+    // Keyset start for the first page: later than any row
+    private static final LocalDateTime FIRST_PAGE_TIME = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+    // Merge order of rows sharing a timestamp
+    private static final int SOURCE_WITHDRAWAL = 0;
+    private static final int SOURCE_PURCHASE = 1;
+    private static final int SOURCE_WELCOME = 2;
+
+    /**
+     * Where a row sits in the merged feed
+     */
+    private record Position(LocalDateTime createdAt, int source, long id) {}
+
+    private record Entry(Position position, VendorTransaction transaction) {}
+
+    private record Head(Entry entry, Iterator<Entry> rest) {}
+
+    private static final Comparator<Position> NEWEST_FIRST = Comparator.comparing(Position::createdAt).reversed()
+            .thenComparingInt(Position::source)
+            .thenComparing(Comparator.comparingLong(Position::id).reversed());
+
+    private final WithdrawalRequestRepository withdrawalRequestRepository;
+    private final CreditTransactionRepository creditTransactionRepository;
+    private final PrincipalCache principalCache;
+
+    public VendorTransactionService(WithdrawalRequestRepository withdrawalRequestRepository,
+                                    CreditTransactionRepository creditTransactionRepository,
+                                    PrincipalCache principalCache) {
+        this.withdrawalRequestRepository = withdrawalRequestRepository;
+        this.creditTransactionRepository = creditTransactionRepository;
+        this.principalCache = principalCache;
+    }
+
+    public VendorTransactionPage getTransactions(Long vendorId, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Position after = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : null;
+        VendorSummary vendor = principalCache.findVendor(vendorId)
+                .orElseThrow(() -> new RuntimeException("Vendor not found"));
+
+        // One extra row from each source tells whether there is a next page
+        Pageable rows = PageRequest.of(0, size + 1);
+        Position withdrawalBound = boundFor(after, SOURCE_WITHDRAWAL);
+        Position purchaseBound = boundFor(after, SOURCE_PURCHASE);
+        List<Iterator<Entry>> sources = List.of(
+                withdrawalRequestRepository.findPageByUserId(vendorId,
+                                withdrawalBound.createdAt(), withdrawalBound.id(), rows)
+                        .stream().map(VendorTransactionService::withdrawal).iterator(),
+                creditTransactionRepository.findVendorPageByType(vendor.email(), "VENDOR_PURCHASE",
+                                purchaseBound.createdAt(), purchaseBound.id(), rows)
+                        .stream().map(VendorTransactionService::purchase).iterator(),
+                welcome(vendor, after).iterator());
+
+        List<Entry> merged = merge(sources, size + 1);
+        List<VendorTransaction> page = new ArrayList<>();
+        for (int i = 0; i < Math.min(size, merged.size()); i++) {
+            page.add(merged.get(i).transaction());
+        }
+        String nextCursor = merged.size() > size ? encodeCursor(merged.get(size - 1).position()) : null;
+        return new VendorTransactionPage(page, nextCursor);
+    }
+
+    // First limit entries of the sorted sources in merged order
+    private static List<Entry> merge(List<Iterator<Entry>> sources, int limit) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(
+                Comparator.comparing((Head head) -> head.entry().position(), NEWEST_FIRST));
+        for (Iterator<Entry> source : sources) {
+            if (source.hasNext()) {
+                heads.add(new Head(source.next(), source));
+            }
+        }
+        List<Entry> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.entry());
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Keyset bound of one source for rows after the cursor: at the cursor's timestamp, sources
+     * merged before the cursor's one are done, later ones start over and its own continues by id
+     */
+    private static Position boundFor(Position after, int source) {
+        if (after == null) {
+            return new Position(FIRST_PAGE_TIME, source, Long.MAX_VALUE);
+        }
+        long beforeId = source < after.source() ? Long.MIN_VALUE
+                : source > after.source() ? Long.MAX_VALUE
+                : after.id();
+        return new Position(after.createdAt(), source, beforeId);
+    }
+
+    private static Entry withdrawal(WithdrawalRequest w) {
+        VendorTransaction tx = new VendorTransaction("withdrawal-" + w.getId(), "WITHDRAWAL",
+                -w.getPointsAmount(), w.getAmountUsd(),
+                "Withdrawal to PayPal: " + (w.getPaypalEmail() != null ? w.getPaypalEmail() : "N/A"),
+                w.getStatus(), w.getCreatedAt());
+        return new Entry(new Position(w.getCreatedAt(), SOURCE_WITHDRAWAL, w.getId()), tx);
+    }
+
+    private static Entry purchase(CreditTransaction c) {
+        VendorTransaction tx = new VendorTransaction("purchase-" + c.getId(), "PURCHASE",
+                c.getPointsAmount(), c.getAmountUsd(),
+                c.getReason() != null ? c.getReason() : "Points purchase via PayPal",
+                c.getStatus(), c.getCreatedAt());
+        return new Entry(new Position(c.getCreatedAt(), SOURCE_PURCHASE, c.getId()), tx);
+    }
+
+    // The registration bonus has no row of its own; it is dated by the vendor's registration
+    private static List<Entry> welcome(VendorSummary vendor, Position after) {
+        if (vendor.createdAt() == null) {
+            return List.of();
+        }
+        Position position = new Position(vendor.createdAt(), SOURCE_WELCOME, 0);
+        if (after != null && NEWEST_FIRST.compare(position, after) <= 0) {
+            return List.of();
+        }
+        VendorTransaction tx = new VendorTransaction("welcome", "CREDIT", WELCOME_BONUS_POINTS, null,
+                "Welcome bonus - New vendor registration", "COMPLETED", vendor.createdAt());
+        return List.of(new Entry(position, tx));
+    }
+
+    private static String encodeCursor(Position position) {
+        String raw = position.createdAt() + "|" + position.source() + "|" + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            return new Position(LocalDateTime.parse(parts[0]), Integer.parseInt(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
@@ -33,6 +33,9 @@ public class VenueService {
     @Autowired
     private AuditLogService auditLogService;
 
+    @Autowired
+    private StoredFileService storedFileService;
+
     /**
      * Create venue and deduct platform fee (10 points) from vendor
      */
@@ -57,6 +60,7 @@ public class VenueService {
         }
         
         Venue saved = venueRepository.save(venue);
+        storedFileService.acquire(saved.getImages());
         
         // Audit log venue creation
         auditLogService.log("VENUE_CREATED", "VENUE", saved.getId(), 
@@ -172,6 +176,7 @@ public class VenueService {
         String venueName = venueOpt.map(Venue::getName).orElse("Unknown");
         
         venueRepository.deleteById(id);
+        venueOpt.ifPresent(deleted -> storedFileService.release(deleted.getImages()));
         
         // Audit log venue deletion
         auditLogService.log("VENUE_DELETED", "VENUE", id, 
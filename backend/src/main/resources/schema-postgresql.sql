@@ -26,6 +26,9 @@
 -- DROP TABLE IF EXISTS vendors CASCADE;
 -- DROP TABLE IF EXISTS users CASCADE;
 
+-- Trigram indexes back the case-insensitive substring searches of the admin listings
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- ============================================
 -- TABLE 1: USERS
 -- ============================================
@@ -49,6 +52,11 @@ CREATE UNIQUE INDEX IF NOT EXISTS idx_users_email_role ON users(email, role);
 CREATE UNIQUE INDEX IF NOT EXISTS idx_users_username_role ON users(username, role) WHERE username IS NOT NULL;
 CREATE INDEX IF NOT EXISTS idx_users_email ON users(email);
 CREATE INDEX IF NOT EXISTS idx_users_role ON users(role);
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users(created_at);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (LOWER(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING gin (LOWER(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_first_name_trgm ON users USING gin (LOWER(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_last_name_trgm ON users USING gin (LOWER(last_name) gin_trgm_ops);
 
 -- ============================================
 -- TABLE 2: VENDORS
@@ -80,6 +88,10 @@ CREATE INDEX IF NOT EXISTS idx_vendors_email ON vendors(email);
 CREATE INDEX IF NOT EXISTS idx_vendors_username ON vendors(username);
 CREATE INDEX IF NOT EXISTS idx_vendors_status ON vendors(status);
 CREATE INDEX IF NOT EXISTS idx_vendors_is_verified ON vendors(is_verified);
+CREATE INDEX IF NOT EXISTS idx_vendors_created_at ON vendors(created_at);
+CREATE INDEX IF NOT EXISTS idx_vendors_business_name_trgm ON vendors USING gin (LOWER(business_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vendors_email_trgm ON vendors USING gin (LOWER(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vendors_username_trgm ON vendors USING gin (LOWER(username) gin_trgm_ops);
 
 -- ============================================
 -- TABLE 3: ADMIN USERS
@@ -213,6 +225,11 @@ CREATE INDEX IF NOT EXISTS idx_bookings_venue_id ON bookings(venue_id);
 CREATE INDEX IF NOT EXISTS idx_bookings_event_id ON bookings(event_id);
 CREATE INDEX IF NOT EXISTS idx_bookings_status ON bookings(status);
 CREATE INDEX IF NOT EXISTS idx_bookings_payment_status ON bookings(payment_status);
+CREATE INDEX IF NOT EXISTS idx_bookings_created_at ON bookings(created_at);
+CREATE INDEX IF NOT EXISTS idx_bookings_updated_at ON bookings(updated_at);
+CREATE INDEX IF NOT EXISTS idx_bookings_venue_date ON bookings(venue_id, booking_date);
+CREATE INDEX IF NOT EXISTS idx_bookings_user_name_trgm ON bookings USING gin (LOWER(user_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_bookings_cancelled_on ON bookings((COALESCE(cancelled_at, updated_at))) WHERE status = 'CANCELLED';
 
 -- ============================================
 -- TABLE 7: SEAT CATEGORIES (for SEAT_SELECTION events)
@@ -278,17 +295,22 @@ CREATE INDEX IF NOT EXISTS idx_products_category ON products(category);
 -- ============================================
 -- TABLE 10: POINTS HISTORY
 -- ============================================
+-- Range-partitioned by month on created_at. PartitionMaintenanceService creates the coming months'
+-- partitions and archives/drops expired ones; the default partition only catches rows no month covers.
 CREATE TABLE IF NOT EXISTS points_history (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
     points_changed BIGINT NOT NULL,
     reason VARCHAR(255),
     previous_points BIGINT,
     new_points BIGINT,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
 
-CREATE INDEX IF NOT EXISTS idx_points_history_user_id ON points_history(user_id);
+CREATE TABLE IF NOT EXISTS points_history_default PARTITION OF points_history DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_points_history_user_created ON points_history(user_id, created_at);
 
 -- ============================================
 -- TABLE 11: OTP VERIFICATION
@@ -304,6 +326,7 @@ CREATE TABLE IF NOT EXISTS otp_verifications (
 );
 
 CREATE INDEX IF NOT EXISTS idx_otp_email_role ON otp_verifications(email, role, is_used);
+CREATE INDEX IF NOT EXISTS idx_otp_expires_at ON otp_verifications(expires_at);
 
 -- ============================================
 -- TABLE 12: SYSTEM SETTINGS
@@ -341,8 +364,9 @@ CREATE INDEX IF NOT EXISTS idx_reviews_event_id ON reviews(event_id);
 -- ============================================
 -- TABLE 14: AUDIT LOGS
 -- ============================================
+-- Range-partitioned by month on created_at, like points_history
 CREATE TABLE IF NOT EXISTS audit_logs (
-    id BIGSERIAL PRIMARY KEY,
+    id BIGSERIAL,
     action VARCHAR(100) NOT NULL,
     entity_type VARCHAR(50) NOT NULL,
     entity_id BIGINT,
@@ -350,14 +374,32 @@ CREATE TABLE IF NOT EXISTS audit_logs (
     performed_by VARCHAR(255),
     user_role VARCHAR(50),
     ip_address VARCHAR(50),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
 
-CREATE INDEX IF NOT EXISTS idx_audit_logs_action ON audit_logs(action);
-CREATE INDEX IF NOT EXISTS idx_audit_logs_entity_type ON audit_logs(entity_type);
-CREATE INDEX IF NOT EXISTS idx_audit_logs_performed_by ON audit_logs(performed_by);
+CREATE TABLE IF NOT EXISTS audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Listings are newest first per filter, so each filter column is indexed together with created_at
+CREATE INDEX IF NOT EXISTS idx_audit_logs_action_created ON audit_logs(action, created_at);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_entity_type_created ON audit_logs(entity_type, created_at);
+CREATE INDEX IF NOT EXISTS idx_audit_logs_performed_by_created ON audit_logs(performed_by, created_at);
 CREATE INDEX IF NOT EXISTS idx_audit_logs_created_at ON audit_logs(created_at);
 
+-- Monthly partitions from this month to three months ahead (the maintenance job keeps extending them)
+DO $$
+DECLARE
+    parent TEXT;
+    month DATE;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['audit_logs', 'points_history'] LOOP
+        FOR month IN SELECT generate_series(date_trunc('month', CURRENT_DATE), date_trunc('month', CURRENT_DATE) + INTERVAL '3 months', INTERVAL '1 month')::DATE LOOP
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                parent || '_p' || to_char(month, 'YYYY_MM'), parent, month, (month + INTERVAL '1 month')::DATE);
+        END LOOP;
+    END LOOP;
+END $$;
+
 -- ============================================
 -- TABLE 15: CREDIT TRANSACTIONS
 -- ============================================
@@ -380,6 +422,7 @@ CREATE INDEX IF NOT EXISTS idx_credit_trans_user_id ON credit_transactions(user_
 CREATE INDEX IF NOT EXISTS idx_credit_trans_type ON credit_transactions(transaction_type);
 CREATE INDEX IF NOT EXISTS idx_credit_trans_status ON credit_transactions(status);
 CREATE INDEX IF NOT EXISTS idx_credit_trans_created_at ON credit_transactions(created_at);
+CREATE INDEX IF NOT EXISTS idx_credit_trans_user_type_created ON credit_transactions(user_id, transaction_type, created_at, id);
 
 -- ============================================
 -- TABLE 16: CREDIT REQUESTS (User requests for points)
@@ -423,6 +466,82 @@ CREATE INDEX IF NOT EXISTS idx_withdrawal_user_id ON withdrawal_requests(user_id
 CREATE INDEX IF NOT EXISTS idx_withdrawal_status ON withdrawal_requests(status);
 CREATE INDEX IF NOT EXISTS idx_withdrawal_requires_approval ON withdrawal_requests(requires_approval);
 CREATE INDEX IF NOT EXISTS idx_withdrawal_created_at ON withdrawal_requests(created_at);
+CREATE INDEX IF NOT EXISTS idx_withdrawal_user_created ON withdrawal_requests(user_id, created_at, id);
+
+-- ============================================
+-- TABLE 18: OUTBOX MESSAGES (Emails and other side effects)
+-- ============================================
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id BIGSERIAL PRIMARY KEY,
+    idempotency_key VARCHAR(200) NOT NULL UNIQUE,
+    message_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_status_next_attempt ON outbox_messages(status, next_attempt_at);
+
+-- ============================================
+-- TABLE 19: NOTIFICATION JOBS (Bulk notification progress)
+-- ============================================
+CREATE TABLE IF NOT EXISTS notification_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    reference_id BIGINT NOT NULL,
+    vendor_id BIGINT,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    total_recipients INT,
+    processed_recipients INT NOT NULL DEFAULT 0,
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_job_status ON notification_jobs(status);
+
+-- ============================================
+-- TABLE 20: STORED FILES (Content-addressed uploads)
+-- ============================================
+CREATE TABLE IF NOT EXISTS stored_files (
+    sha256 VARCHAR(64) PRIMARY KEY,
+    relative_path VARCHAR(200) NOT NULL,
+    content_type VARCHAR(100),
+    size_bytes BIGINT NOT NULL,
+    ref_count INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_stored_files_orphans ON stored_files(ref_count, updated_at);
+
+-- ============================================
+-- TABLE 21: REVENUE ROLLUPS (Hourly/daily booking totals per venue or event)
+-- ============================================
+CREATE TABLE IF NOT EXISTS revenue_rollups (
+    granularity VARCHAR(5) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    vendor_id BIGINT NOT NULL,
+    venue_id BIGINT NOT NULL DEFAULT 0,
+    event_id BIGINT NOT NULL DEFAULT 0,
+    bookings INT NOT NULL DEFAULT 0,
+    cancellations INT NOT NULL DEFAULT 0,
+    gross_revenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    cash_revenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    points_used BIGINT NOT NULL DEFAULT 0,
+    refunds DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (granularity, bucket_start, vendor_id, venue_id, event_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_revenue_rollups_vendor ON revenue_rollups(vendor_id, granularity, bucket_start);
 
 -- ============================================
 -- DEFAULT DATA
@@ -458,7 +577,7 @@ ON CONFLICT (setting_key) DO NOTHING;
 -- ============================================
 -- DONE! Your database is ready.
 -- ============================================
--- Tables created: 17
+-- Tables created: 21
 -- Default admin: admin@eventvenue.com / admin123
 -- Points per dollar: 100 (configurable in admin settings)
 -- ============================================
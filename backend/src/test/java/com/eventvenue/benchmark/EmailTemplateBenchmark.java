@@ -0,0 +1,144 @@
+package com.eventvenue.benchmark;
+
+import com.eventvenue.service.EmailTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled email templates vs. the previous text block + String.formatted builders.
+ *
+ * The legacy format strings are derived from the same template files (placeholders turned back into
+ * the original %s/%d/%.2f specifiers), so both sides produce the same HTML.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.eventvenue.benchmark.EmailTemplateBenchmark
+ * Add -prof gc to the JMH options to compare allocation per render.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailTemplateBenchmark {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)}}");
+
+    private static final Map<String, String> INVOICE_SPECS = Map.ofEntries(
+        Map.entry("bookingId", "%d"), Map.entry("quantity", "%d"), Map.entry("pointsUsed", "%d"),
+        Map.entry("platformFee", "%d"), Map.entry("totalPoints", "%d"), Map.entry("pointsEarned", "%d"),
+        Map.entry("subtotal", "%.2f"), Map.entry("pointsValue", "%.2f"), Map.entry("cashPaid", "%.2f"),
+        Map.entry("totalAmount", "%.2f")
+    );
+
+    private EmailTemplate otpTemplate;
+    private EmailTemplate invoiceTemplate;
+    private String otpFormat;
+    private String invoiceFormat;
+
+    @Setup
+    public void setup() throws IOException {
+        String otpSource = load("otp");
+        String invoiceSource = load("booking-confirmation-invoice");
+        otpTemplate = EmailTemplate.compile("otp", otpSource);
+        invoiceTemplate = EmailTemplate.compile("booking-confirmation-invoice", invoiceSource);
+        otpFormat = toLegacyFormat(otpSource, Map.of());
+        invoiceFormat = toLegacyFormat(invoiceSource, INVOICE_SPECS);
+    }
+
+    @Benchmark
+    public String otpLegacy() {
+        return otpFormat.formatted("EventVenue", "EventVenue", "482913", "EventVenue",
+            "http://localhost:3000", "http://localhost:3000", "http://localhost:3000");
+    }
+
+    @Benchmark
+    public String otpCompiled() {
+        return otpTemplate.bind()
+                .set("appName", "EventVenue")
+                .set("appUrl", "http://localhost:3000")
+                .set("otp", "482913")
+                .render();
+    }
+
+    @Benchmark
+    public String invoiceLegacy() {
+        return invoiceFormat.formatted(
+            10452L, "2025-06-01", "Jane Doe", "🎪", "EVENT", "Summer Music Festival",
+            "2025-07-12", "18:30", "Central Park, New York", 3, "Tickets",
+            150.0, 2000, 20.0, 50, 130.0, 150.0, 2050, 150,
+            "http://localhost:3000", "EventVenue"
+        );
+    }
+
+    @Benchmark
+    public String invoiceCompiled() {
+        return invoiceTemplate.bind()
+                .set("appName", "EventVenue")
+                .set("appUrl", "http://localhost:3000")
+                .set("bookingId", 10452L)
+                .set("invoiceDate", "2025-06-01")
+                .set("userName", "Jane Doe")
+                .set("itemIcon", "🎪")
+                .set("itemType", "EVENT")
+                .set("itemName", "Summer Music Festival")
+                .set("bookingDate", "2025-07-12")
+                .set("bookingTime", "18:30")
+                .set("location", "Central Park, New York")
+                .set("quantity", 3)
+                .set("quantityLabel", "Tickets")
+                .setMoney("subtotal", 150.0)
+                .set("pointsUsed", 2000)
+                .setMoney("pointsValue", 20.0)
+                .set("platformFee", 50)
+                .setMoney("cashPaid", 130.0)
+                .setMoney("totalAmount", 150.0)
+                .set("totalPoints", 2050)
+                .set("pointsEarned", 150)
+                .render();
+    }
+
+    private static String load(String name) throws IOException {
+        try (InputStream in = EmailTemplateBenchmark.class.getResourceAsStream("/templates/email/" + name + ".html")) {
+            if (in == null) {
+                throw new IOException("Template not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String toLegacyFormat(String source, Map<String, String> specs) {
+        Matcher matcher = PLACEHOLDER.matcher(source.replace("%", "%%"));
+        StringBuilder out = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(out, Matcher.quoteReplacement(specs.getOrDefault(matcher.group(1), "%s")));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
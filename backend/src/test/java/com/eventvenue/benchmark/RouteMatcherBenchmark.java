@@ -0,0 +1,98 @@
+package com.eventvenue.benchmark;
+
+import com.eventvenue.security.RouteMatcher;
+import com.eventvenue.security.SecurityRoutes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public-route check in JwtAuthenticationFilter: the compiled route trie vs. the previous
+ * stream over PUBLIC_ENDPOINTS with startsWith plus the separate /api/events GET check.
+ *
+ * Each invocation classifies the same mix of public, protected and unknown request paths.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *           -Dexec.mainClass=com.eventvenue.benchmark.RouteMatcherBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteMatcherBenchmark {
+
+    private static final List<String> PUBLIC_ENDPOINTS = Arrays.asList(
+        "/api/auth",
+        "/api/admin/create-admin",
+        "/api/admin/settings/conversion-rate",
+        "/api/admin/settings/platform-fees",
+        "/api/health",
+        "/api/withdrawals",
+        "/api/credit-requests"
+    );
+
+    private static final String[][] REQUESTS = {
+        {"POST", "/api/auth/user/login"},
+        {"GET", "/api/events/42"},
+        {"GET", "/api/events/vendor/my-events"},
+        {"POST", "/api/bookings/events/42"},
+        {"GET", "/api/venues/7/availability"},
+        {"GET", "/api/admin/settings/platform-fees"},
+        {"PUT", "/api/admin/settings/platform-fees"},
+        {"GET", "/api/vendor/profile"},
+        {"GET", "/api/user/points/history"},
+        {"GET", "/uploads/venues/abc.jpg"},
+    };
+
+    private final RouteMatcher matcher = new SecurityRoutes().getMatcher();
+
+    @Benchmark
+    public int legacyStartsWith() {
+        int publicCount = 0;
+        for (String[] request : REQUESTS) {
+            String method = request[0];
+            String requestPath = request[1];
+            boolean isPublicEndpoint = PUBLIC_ENDPOINTS.stream()
+                .anyMatch(publicPath -> requestPath.startsWith(publicPath));
+            boolean isPublicEventAccess = requestPath.startsWith("/api/events")
+                && !requestPath.startsWith("/api/events/vendor")
+                && "GET".equals(method);
+            if (isPublicEndpoint || isPublicEventAccess) {
+                publicCount++;
+            }
+        }
+        return publicCount;
+    }
+
+    @Benchmark
+    public int compiledTrie() {
+        int publicCount = 0;
+        for (String[] request : REQUESTS) {
+            if (matcher.isPublic(request[0], request[1])) {
+                publicCount++;
+            }
+        }
+        return publicCount;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RouteMatcherBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
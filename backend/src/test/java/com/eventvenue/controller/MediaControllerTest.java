@@ -0,0 +1,66 @@
+package com.eventvenue.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// parseRange: {start, end} is served as 206, an empty array as 416 and null as the full body
+class MediaControllerTest {
+
+    private static final long LENGTH = 1000;
+
+    @Test
+    void boundedRangeIsClampedToTheFile() {
+        assertArrayEquals(new long[]{0, 99}, MediaController.parseRange("bytes=0-99", LENGTH));
+        assertArrayEquals(new long[]{500, 500}, MediaController.parseRange("bytes=500-500", LENGTH));
+        assertArrayEquals(new long[]{900, 999}, MediaController.parseRange("bytes=900-5000", LENGTH));
+        assertArrayEquals(new long[]{10, 20}, MediaController.parseRange("bytes= 10 - 20 ", LENGTH));
+    }
+
+    @Test
+    void openEndedRangeRunsToTheLastByte() {
+        assertArrayEquals(new long[]{0, 999}, MediaController.parseRange("bytes=0-", LENGTH));
+        assertArrayEquals(new long[]{100, 999}, MediaController.parseRange("bytes=100-", LENGTH));
+        assertArrayEquals(new long[]{999, 999}, MediaController.parseRange("bytes=999-", LENGTH));
+    }
+
+    @Test
+    void suffixRangeCountsFromTheEnd() {
+        assertArrayEquals(new long[]{900, 999}, MediaController.parseRange("bytes=-100", LENGTH));
+        assertArrayEquals(new long[]{999, 999}, MediaController.parseRange("bytes=-1", LENGTH));
+        // A suffix longer than the file is the whole file
+        assertArrayEquals(new long[]{0, 999}, MediaController.parseRange("bytes=-5000", LENGTH));
+    }
+
+    @Test
+    void rangeStartingAtOrPastTheEndIsUnsatisfiable() {
+        assertEquals(0, MediaController.parseRange("bytes=1000-", LENGTH).length);
+        assertEquals(0, MediaController.parseRange("bytes=1000-1999", LENGTH).length);
+        assertEquals(0, MediaController.parseRange("bytes=5000-6000", LENGTH).length);
+        assertEquals(0, MediaController.parseRange("bytes=-0", LENGTH).length);
+        assertEquals(0, MediaController.parseRange("bytes=0-", 0).length);
+        assertEquals(0, MediaController.parseRange("bytes=-10", 0).length);
+    }
+
+    @Test
+    void multipleRangesAreServedAsTheFullBody() {
+        assertNull(MediaController.parseRange("bytes=0-99,200-299", LENGTH));
+        assertNull(MediaController.parseRange("bytes=0-99, -100", LENGTH));
+    }
+
+    @Test
+    void malformedHeadersAreServedAsTheFullBody() {
+        assertNull(MediaController.parseRange("items=0-99", LENGTH));
+        assertNull(MediaController.parseRange("bytes 0-99", LENGTH));
+        assertNull(MediaController.parseRange("bytes=", LENGTH));
+        assertNull(MediaController.parseRange("bytes=100", LENGTH));
+        assertNull(MediaController.parseRange("bytes=-", LENGTH));
+        assertNull(MediaController.parseRange("bytes=a-b", LENGTH));
+        assertNull(MediaController.parseRange("bytes=-x", LENGTH));
+        assertNull(MediaController.parseRange("bytes=200-100", LENGTH));
+        assertNull(MediaController.parseRange("bytes=--5", LENGTH));
+        assertNull(MediaController.parseRange("bytes=99999999999999999999-", LENGTH));
+    }
+}
@@ -0,0 +1,135 @@
+package com.eventvenue.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImageVariantServiceTest {
+
+    private static final short IMAGE_WIDTH = 0x0100;
+    private static final short ORIENTATION = 0x0112;
+    private static final short TYPE_SHORT = 3;
+
+    private static final byte[] JFIF = segment(0xE0, "JFIF\0".getBytes(StandardCharsets.US_ASCII));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsOrientationFromBigEndianExif() throws IOException {
+        for (int orientation : new int[]{1, 3, 6, 8}) {
+            Path file = write(jpeg(exif(ByteOrder.BIG_ENDIAN, 0, orientation)));
+            assertEquals(orientation, ImageVariantService.exifOrientation(file), "MM orientation " + orientation);
+        }
+    }
+
+    @Test
+    void readsOrientationFromLittleEndianExif() throws IOException {
+        for (int orientation : new int[]{1, 3, 6, 8}) {
+            Path file = write(jpeg(exif(ByteOrder.LITTLE_ENDIAN, 0, orientation)));
+            assertEquals(orientation, ImageVariantService.exifOrientation(file), "II orientation " + orientation);
+        }
+    }
+
+    @Test
+    void findsExifAfterJfifAndOtherTags() throws IOException {
+        assertEquals(6, ImageVariantService.exifOrientation(write(jpeg(JFIF, exif(ByteOrder.BIG_ENDIAN, 3, 6)))));
+        assertEquals(8, ImageVariantService.exifOrientation(write(jpeg(JFIF, exif(ByteOrder.LITTLE_ENDIAN, 3, 8)))));
+    }
+
+    @Test
+    void missingExifIsUpright() throws IOException {
+        assertEquals(1, ImageVariantService.exifOrientation(write(jpeg())));
+        assertEquals(1, ImageVariantService.exifOrientation(write(jpeg(JFIF))));
+        // An APP1 segment holding XMP instead of EXIF
+        assertEquals(1, ImageVariantService.exifOrientation(
+                write(jpeg(segment(0xE1, "http://ns.adobe.com/xap/1.0/\0".getBytes(StandardCharsets.US_ASCII))))));
+        assertEquals(1, ImageVariantService.exifOrientation(dir.resolve("missing.jpg")));
+    }
+
+    @Test
+    void truncatedExifIsUpright() throws IOException {
+        byte[] full = jpeg(exif(ByteOrder.BIG_ENDIAN, 2, 6));
+        // Cut inside the TIFF header, the IFD entry count and the orientation entry
+        for (int length : new int[]{12, 16, 20, 25, 40}) {
+            Path file = write(Arrays.copyOf(full, length));
+            assertEquals(1, ImageVariantService.exifOrientation(file), "cut at " + length);
+        }
+    }
+
+    @Test
+    void ifdOutsideTheSegmentIsUpright() throws IOException {
+        byte[] beyond = exif(ByteOrder.BIG_ENDIAN, 0, 6);
+        ByteBuffer.wrap(beyond, 14, 4).putInt(0x1000);
+        assertEquals(1, ImageVariantService.exifOrientation(write(jpeg(beyond))));
+
+        // Offsets past 2^31 must not wrap to a negative index
+        byte[] huge = exif(ByteOrder.LITTLE_ENDIAN, 0, 6);
+        ByteBuffer.wrap(huge, 14, 4).order(ByteOrder.LITTLE_ENDIAN).putInt(0xFFFFFFF0);
+        assertEquals(1, ImageVariantService.exifOrientation(write(jpeg(huge))));
+    }
+
+    @Test
+    void invalidValuesAndNonJpegsAreUpright() throws IOException {
+        assertEquals(1, ImageVariantService.exifOrientation(write(jpeg(exif(ByteOrder.BIG_ENDIAN, 0, 0)))));
+        assertEquals(1, ImageVariantService.exifOrientation(write(jpeg(exif(ByteOrder.BIG_ENDIAN, 0, 9)))));
+        assertEquals(1, ImageVariantService.exifOrientation(write(new byte[0])));
+        assertEquals(1, ImageVariantService.exifOrientation(
+                write(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})));
+    }
+
+    private Path write(byte[] content) throws IOException {
+        return Files.write(Files.createTempFile(dir, "image", ".jpg"), content);
+    }
+
+    // SOI, the given segments, then a start of scan and end of image standing in for the image data
+    private static byte[] jpeg(byte[]... segments) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD8});
+        for (byte[] segment : segments) {
+            out.writeBytes(segment);
+        }
+        out.writeBytes(segment(0xDA, new byte[]{1, 1, 0, 0, 0x3F, 0}));
+        out.writeBytes(new byte[]{0, 0, (byte) 0xFF, (byte) 0xD9});
+        return out.toByteArray();
+    }
+
+    private static byte[] segment(int marker, byte[] payload) {
+        return ByteBuffer.allocate(4 + payload.length)
+                .put((byte) 0xFF).put((byte) marker).putShort((short) (payload.length + 2))
+                .put(payload).array();
+    }
+
+    /**
+     * APP1 segment with "Exif\0\0", a TIFF header and one IFD holding otherTags image width entries
+     * before the orientation entry. The IFD offset sits at bytes 14-17 of the returned segment.
+     */
+    private static byte[] exif(ByteOrder order, int otherTags, int orientation) {
+        int entries = otherTags + 1;
+        ByteBuffer tiff = ByteBuffer.allocate(8 + 2 + entries * 12 + 4).order(order);
+        tiff.put(order == ByteOrder.LITTLE_ENDIAN ? (byte) 'I' : (byte) 'M');
+        tiff.put(order == ByteOrder.LITTLE_ENDIAN ? (byte) 'I' : (byte) 'M');
+        tiff.putShort((short) 42).putInt(8);
+        tiff.putShort((short) entries);
+        for (int i = 0; i < otherTags; i++) {
+            tiff.putShort(IMAGE_WIDTH).putShort(TYPE_SHORT).putInt(1).putShort((short) 640).putShort((short) 0);
+        }
+        tiff.putShort(ORIENTATION).putShort(TYPE_SHORT).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putInt(0);
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        payload.writeBytes("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        payload.writeBytes(tiff.array());
+        return segment(0xE1, payload.toByteArray());
+    }
+}
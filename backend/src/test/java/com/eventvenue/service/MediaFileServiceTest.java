@@ -0,0 +1,90 @@
+package com.eventvenue.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MediaFileServiceTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void servesPlainUploadPaths() {
+        assertTrue(MediaFileService.isServable("photo.jpg"));
+        assertTrue(MediaFileService.isServable("venues/12/photo_thumb.jpg"));
+        assertTrue(MediaFileService.isServable("a..b.jpg"));
+    }
+
+    @Test
+    void refusesTraversalAndHiddenSegments() {
+        assertFalse(MediaFileService.isServable(".."));
+        assertFalse(MediaFileService.isServable("../secret.txt"));
+        assertFalse(MediaFileService.isServable("venues/../../secret.txt"));
+        assertFalse(MediaFileService.isServable("./photo.jpg"));
+        assertFalse(MediaFileService.isServable(".incoming/upload.jpg"));
+        assertFalse(MediaFileService.isServable("venues/.incoming/upload.jpg"));
+        assertFalse(MediaFileService.isServable("venues/.variant-123.jpg"));
+    }
+
+    @Test
+    void refusesBackslashesNulsAndEmptySegments() {
+        assertFalse(MediaFileService.isServable(""));
+        assertFalse(MediaFileService.isServable("..\\secret.txt"));
+        assertFalse(MediaFileService.isServable("venues\\photo.jpg"));
+        assertFalse(MediaFileService.isServable("photo.jpg\0.png"));
+        assertFalse(MediaFileService.isServable("/etc/passwd"));
+        assertFalse(MediaFileService.isServable("venues//photo.jpg"));
+    }
+
+    @Test
+    void resolveRefusesPathsOutsideTheRoot() throws IOException {
+        Path uploads = Files.createDirectory(root.resolve("uploads"));
+        Files.writeString(root.resolve("secret.txt"), "secret");
+        Files.writeString(uploads.resolve("photo.jpg"), "image");
+        MediaFileService service = new MediaFileService(uploads.toString());
+
+        assertTrue(service.resolve("photo.jpg", null).isPresent());
+        assertTrue(service.resolve("../secret.txt", null).isEmpty());
+        assertTrue(service.resolve("..\\secret.txt", null).isEmpty());
+        assertTrue(service.resolve("missing.jpg", null).isEmpty());
+    }
+
+    @Test
+    void variantFallsBackToItsOriginal() throws IOException {
+        Path png = Files.writeString(root.resolve("photo.png"), "image");
+
+        assertEquals(png, MediaFileService.originalOf(root.resolve("photo_thumb.jpg")));
+        assertEquals(png, MediaFileService.originalOf(root.resolve("photo_card.jpg")));
+        assertEquals(png, MediaFileService.originalOf(root.resolve("photo_full.jpg")));
+    }
+
+    @Test
+    void originalIsLookedUpInExtensionOrder() throws IOException {
+        Path jpg = Files.writeString(root.resolve("photo.jpg"), "image");
+        Files.writeString(root.resolve("photo.webp"), "image");
+
+        assertEquals(jpg, MediaFileService.originalOf(root.resolve("photo_card.jpg")));
+    }
+
+    @Test
+    void nonVariantsAndMissingOriginalsHaveNoFallback() throws IOException {
+        Files.writeString(root.resolve("photo.png"), "image");
+        Files.createDirectory(root.resolve("folder.jpg"));
+
+        assertNull(MediaFileService.originalOf(root.resolve("photo.jpg")));
+        assertNull(MediaFileService.originalOf(root.resolve("photo_small.jpg")));
+        assertNull(MediaFileService.originalOf(root.resolve("photo_thumb.png")));
+        assertNull(MediaFileService.originalOf(root.resolve("other_thumb.jpg")));
+        // A directory named like an original is not served
+        assertNull(MediaFileService.originalOf(root.resolve("folder_thumb.jpg")));
+    }
+}
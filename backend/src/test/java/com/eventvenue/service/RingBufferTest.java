@@ -0,0 +1,128 @@
+package com.eventvenue.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(2, new RingBuffer<>(2).capacity());
+        assertEquals(4, new RingBuffer<>(3).capacity());
+        assertEquals(8, new RingBuffer<>(8).capacity());
+        assertEquals(16, new RingBuffer<>(9).capacity());
+        assertEquals(1024, new RingBuffer<>(1000).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(1));
+    }
+
+    @Test
+    void offerFailsWhenFullAndSucceedsAfterDrain() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(drained, 2));
+        assertEquals(List.of(0, 1), drained);
+
+        assertTrue(buffer.offer(4));
+        assertTrue(buffer.offer(5));
+        assertFalse(buffer.offer(6));
+
+        drained.clear();
+        assertEquals(4, buffer.drainTo(drained, 10));
+        assertEquals(List.of(2, 3, 4, 5), drained);
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.drainTo(drained, 10));
+    }
+
+    @Test
+    void keepsOrderAcrossSeveralLaps() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        int next = 0;
+        // Uneven offer/drain sizes so the head and tail wrap at different slots each lap
+        for (int round = 0; round < 50; round++) {
+            int offers = Math.min(1 + round % 4, buffer.capacity() - buffer.size());
+            for (int i = 0; i < offers; i++) {
+                assertTrue(buffer.offer(next++));
+            }
+            buffer.drainTo(drained, 1 + round % 3);
+        }
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+
+        assertTrue(next > 3 * buffer.capacity());
+        assertEquals(next, drained.size());
+        for (int i = 0; i < next; i++) {
+            assertEquals(i, drained.get(i));
+        }
+    }
+
+    @Test
+    void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        RingBuffer<Long> buffer = new RingBuffer<>(256);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> running = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            running.add(pool.submit(() -> {
+                start.await();
+                for (long i = base; i < base + perProducer; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        List<Long> drained = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (drained.size() < producers * perProducer && System.nanoTime() < deadline) {
+            if (buffer.drainTo(drained, 128) == 0) {
+                Thread.onSpinWait();
+            }
+        }
+        for (Future<?> producer : running) {
+            producer.get(5, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(producers * perProducer, drained.size());
+        Set<Long> unique = new HashSet<>(drained);
+        assertEquals(producers * perProducer, unique.size());
+        for (long i = 0; i < (long) producers * perProducer; i++) {
+            assertTrue(unique.contains(i));
+        }
+        // Each producer's items come out in the order it offered them
+        long[] lastSeen = new long[producers];
+        Arrays.fill(lastSeen, -1);
+        for (long item : drained) {
+            int producer = (int) (item / perProducer);
+            assertTrue(item > lastSeen[producer]);
+            lastSeen[producer] = item;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.eventvenue.service;
+
+import com.eventvenue.dto.VendorSummary;
+import com.eventvenue.dto.VendorTransaction;
+import com.eventvenue.dto.VendorTransactionPage;
+import com.eventvenue.entity.CreditTransaction;
+import com.eventvenue.entity.WithdrawalRequest;
+import com.eventvenue.repository.CreditTransactionRepository;
+import com.eventvenue.repository.WithdrawalRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VendorTransactionServiceTest {
+
+    private static final long VENDOR_ID = 7L;
+    private static final String VENDOR_EMAIL = "vendor@example.com";
+    private static final LocalDateTime REGISTERED = LocalDateTime.of(2024, 3, 1, 12, 0);
+    private static final LocalDateTime LATER = REGISTERED.plusDays(2);
+    private static final LocalDateTime EARLIER = REGISTERED.minusDays(1);
+
+    private final List<WithdrawalRequest> withdrawals = new ArrayList<>();
+    private final List<CreditTransaction> purchases = new ArrayList<>();
+    private VendorTransactionService service;
+
+    @BeforeEach
+    void setUp() {
+        WithdrawalRequestRepository withdrawalRepository = mock(WithdrawalRequestRepository.class);
+        CreditTransactionRepository creditRepository = mock(CreditTransactionRepository.class);
+        PrincipalCache principalCache = mock(PrincipalCache.class);
+
+        // The repositories answer like the keyset queries: strictly before (time, id), newest first
+        when(withdrawalRepository.findPageByUserId(eq(VENDOR_ID), any(), anyLong(), any())).thenAnswer(invocation ->
+                keysetPage(withdrawals, WithdrawalRequest::getCreatedAt, WithdrawalRequest::getId,
+                        invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        when(creditRepository.findVendorPageByType(eq(VENDOR_EMAIL), eq("VENDOR_PURCHASE"), any(), anyLong(), any()))
+                .thenAnswer(invocation -> keysetPage(purchases, CreditTransaction::getCreatedAt, CreditTransaction::getId,
+                        invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4)));
+        when(principalCache.findVendor(VENDOR_ID)).thenReturn(Optional.of(vendor(REGISTERED)));
+
+        service = new VendorTransactionService(withdrawalRepository, creditRepository, principalCache);
+    }
+
+    @Test
+    void rowsSharingATimestampAcrossSourcesAreEachReturnedOnce() {
+        withdrawal(3, LATER);
+        withdrawal(5, LATER);
+        purchase(4, LATER);
+        purchase(9, LATER);
+        withdrawal(2, REGISTERED);
+        purchase(1, REGISTERED);
+
+        List<String> expected = List.of("withdrawal-5", "withdrawal-3", "purchase-9", "purchase-4",
+                "withdrawal-2", "purchase-1", "welcome");
+        for (int limit = 1; limit <= expected.size() + 1; limit++) {
+            assertEquals(expected, pageThrough(limit), "page size " + limit);
+        }
+    }
+
+    @Test
+    void cursorOnTheWelcomeRowContinuesWithOlderRows() {
+        purchase(6, LATER);
+        withdrawal(8, REGISTERED);
+        purchase(2, REGISTERED);
+        withdrawal(1, EARLIER);
+        purchase(3, EARLIER);
+
+        VendorTransactionPage first = service.getTransactions(VENDOR_ID, null, 4);
+        assertEquals(List.of("purchase-6", "withdrawal-8", "purchase-2", "welcome"), ids(first));
+        assertNotNull(first.nextCursor());
+
+        VendorTransactionPage second = service.getTransactions(VENDOR_ID, first.nextCursor(), 4);
+        assertEquals(List.of("withdrawal-1", "purchase-3"), ids(second));
+        assertNull(second.nextCursor());
+
+        List<String> expected = List.of("purchase-6", "withdrawal-8", "purchase-2", "welcome",
+                "withdrawal-1", "purchase-3");
+        for (int limit = 1; limit <= expected.size() + 1; limit++) {
+            assertEquals(expected, pageThrough(limit), "page size " + limit);
+        }
+    }
+
+    @Test
+    void welcomeRowIsTheWholeHistoryOfANewVendor() {
+        VendorTransactionPage page = service.getTransactions(VENDOR_ID, null, 10);
+
+        assertEquals(List.of("welcome"), ids(page));
+        assertNull(page.nextCursor());
+    }
+
+    // Follows nextCursor to the last page, failing on a repeated row or a page that does not end
+    private List<String> pageThrough(int limit) {
+        List<String> all = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            VendorTransactionPage page = service.getTransactions(VENDOR_ID, cursor, limit);
+            assertTrue(page.transactions().size() <= limit);
+            for (String id : ids(page)) {
+                assertTrue(seen.add(id), "row " + id + " repeated at page size " + limit);
+                all.add(id);
+            }
+            cursor = page.nextCursor();
+            assertTrue(++pages <= 100, "paging does not terminate at page size " + limit);
+        } while (cursor != null);
+        return all;
+    }
+
+    private static List<String> ids(VendorTransactionPage page) {
+        return page.transactions().stream().map(VendorTransaction::id).toList();
+    }
+
+    private static <T> List<T> keysetPage(List<T> rows, Function<T, LocalDateTime> createdAt, Function<T, Long> id,
+                                          LocalDateTime beforeTime, long beforeId, Pageable pageable) {
+        return rows.stream()
+                .filter(row -> createdAt.apply(row).isBefore(beforeTime)
+                        || createdAt.apply(row).isEqual(beforeTime) && id.apply(row) < beforeId)
+                .sorted(Comparator.comparing(createdAt).reversed().thenComparing(id, Comparator.reverseOrder()))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private void withdrawal(long id, LocalDateTime createdAt) {
+        WithdrawalRequest withdrawal = new WithdrawalRequest();
+        withdrawal.setId(id);
+        withdrawal.setUserId(VENDOR_ID);
+        withdrawal.setPointsAmount(100);
+        withdrawal.setAmountUsd(BigDecimal.ONE);
+        withdrawal.setStatus("COMPLETED");
+        withdrawal.setCreatedAt(createdAt);
+        withdrawals.add(withdrawal);
+    }
+
+    private void purchase(long id, LocalDateTime createdAt) {
+        CreditTransaction purchase = new CreditTransaction();
+        purchase.setId(id);
+        purchase.setTransactionType("VENDOR_PURCHASE");
+        purchase.setPointsAmount(100);
+        purchase.setAmountUsd(BigDecimal.ONE);
+        purchase.setStatus("COMPLETED");
+        purchase.setCreatedAt(createdAt);
+        purchases.add(purchase);
+    }
+
+    private static VendorSummary vendor(LocalDateTime createdAt) {
+        return new VendorSummary(VENDOR_ID, "vendor", VENDOR_EMAIL, "Vendor", null, null, null, null, null, null,
+                "APPROVED", true, null, 0, 0L, true, createdAt, createdAt);
+    }
+}
@@ -2,13 +2,16 @@
 
 import { useState, useEffect } from "react"
 import { ChevronLeft, ChevronRight, X, ZoomIn } from "lucide-react"
+import { imageVariant } from "@/lib/utils"
+import type { ImageVariants } from "@/lib/types/booking"
 
 interface ImageGalleryProps {
     images: string[]
+    variants?: ImageVariants[]
     alt?: string
 }
 
-export function ImageGallery({ images, alt = "Image" }: ImageGalleryProps) {
+export function ImageGallery({ images, variants, alt = "Image" }: ImageGalleryProps) {
     const [currentIndex, setCurrentIndex] = useState(0)
     const [isFullscreen, setIsFullscreen] = useState(false)
     const [touchStart, setTouchStart] = useState<number | null>(null)
@@ -84,7 +87,7 @@ export function ImageGallery({ images, alt = "Image" }: ImageGalleryProps) {
                     onTouchEnd={handleTouchEnd}
                 >
                     <img
-                        src={validImages[currentIndex]}
+                        src={imageVariant(validImages[currentIndex], variants, "full")}
                         alt={`${alt} ${currentIndex + 1}`}
                         className="w-full h-full object-cover transition-opacity"
                     />
@@ -144,7 +147,7 @@ export function ImageGallery({ images, alt = "Image" }: ImageGalleryProps) {
                                 }`}
                         >
                             <img
-                                src={img}
+                                src={imageVariant(img, variants, "thumb")}
                                 alt={`${alt} thumbnail ${index + 1}`}
                                 className="w-full h-full object-cover"
                             />
@@ -170,7 +173,7 @@ export function ImageGallery({ images, alt = "Image" }: ImageGalleryProps) {
                     </button>
 
                     <img
-                        src={validImages[currentIndex]}
+                        src={imageVariant(validImages[currentIndex], variants, "full")}
                         alt={`${alt} ${currentIndex + 1}`}
                         className="max-w-full max-h-full object-contain"
                         onClick={(e) => e.stopPropagation()}
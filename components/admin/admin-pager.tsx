@@ -0,0 +1,56 @@
+"use client"
+
+import { Button } from "@/components/ui/button"
+import { ChevronLeft, ChevronRight } from "lucide-react"
+import type { AdminPage } from "@/lib/api/admin"
+
+interface AdminPagerProps {
+  page: AdminPage<unknown> | null
+  onPageChange: (page: number) => void
+  disabled?: boolean
+}
+
+// Previous / next controls for an admin listing; a capped search count shows as "1,000+"
+export function AdminPager({ page, onPageChange, disabled = false }: AdminPagerProps) {
+  if (!page || (page.page === 0 && !page.hasNext)) {
+    return null
+  }
+
+  const first = page.page * page.size + 1
+  const last = page.page * page.size + page.items.length
+  const total = `${page.total.toLocaleString()}${page.totalExact ? "" : "+"}`
+  const pages = page.totalExact ? Math.max(1, Math.ceil(page.total / page.size)) : null
+
+  return (
+    <div className="flex flex-col sm:flex-row items-center justify-between gap-3 pt-4">
+      <p className="text-sm text-muted-foreground">
+        Showing {first.toLocaleString()}-{last.toLocaleString()} of {total}
+      </p>
+      <div className="flex items-center gap-2">
+        <Button
+          variant="outline"
+          size="sm"
+          onClick={() => onPageChange(page.page - 1)}
+          disabled={disabled || page.page === 0}
+          className="gap-1"
+        >
+          <ChevronLeft className="h-4 w-4" />
+          Previous
+        </Button>
+        <span className="text-sm text-muted-foreground">
+          Page {page.page + 1}{pages ? ` of ${pages.toLocaleString()}` : ""}
+        </span>
+        <Button
+          variant="outline"
+          size="sm"
+          onClick={() => onPageChange(page.page + 1)}
+          disabled={disabled || !page.hasNext}
+          className="gap-1"
+        >
+          Next
+          <ChevronRight className="h-4 w-4" />
+        </Button>
+      </div>
+    </div>
+  )
+}
@@ -43,15 +43,20 @@ interface Event {
 }
 
 class AdminService {
+  // One page of an admin listing: { items, page, size, hasNext, total, totalExact }
+  private async fetchPage(listing: "users" | "vendors" | "bookings", page: number, size: number) {
+    const response = await fetch(`${API_BASE_URL}/admin/${listing}?page=${page}&size=${size}`, {
+      headers: getHeaders(),
+    })
+    if (!response.ok) throw new Error(`Failed to fetch ${listing}`)
+    const data = await response.json()
+    return data.data
+  }
+
   // User Management
-  async getAllUsers() {
+  async getUsers(page = 0, size = 50) {
     try {
-      const response = await fetch(`${API_BASE_URL}/admin/users`, {
-        headers: getHeaders(),
-      })
-      if (!response.ok) throw new Error("Failed to fetch users")
-      const data = await response.json()
-      return data.data || data
+      return await this.fetchPage("users", page, size)
     } catch (error) {
       console.error("[EventVenue] Error fetching users:", error)
       throw error
@@ -104,14 +109,9 @@ class AdminService {
   }
 
   // Vendor Management
-  async getAllVendors() {
+  async getVendors(page = 0, size = 50) {
     try {
-      const response = await fetch(`${API_BASE_URL}/admin/vendors`, {
-        headers: getHeaders(),
-      })
-      if (!response.ok) throw new Error("Failed to fetch vendors")
-      const data = await response.json()
-      return data.data || data
+      return await this.fetchPage("vendors", page, size)
     } catch (error) {
       console.error("[EventVenue] Error fetching vendors:", error)
       throw error
@@ -245,14 +245,9 @@ class AdminService {
   }
 
   // Booking Management
-  async getAllBookings() {
+  async getBookings(page = 0, size = 50) {
     try {
-      const response = await fetch(`${API_BASE_URL}/admin/bookings`, {
-        headers: getHeaders(),
-      })
-      if (!response.ok) throw new Error("Failed to fetch bookings")
-      const data = await response.json()
-      return data.data || data
+      return await this.fetchPage("bookings", page, size)
     } catch (error) {
       console.error("[EventVenue] Error fetching bookings:", error)
       throw error
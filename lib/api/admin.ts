@@ -40,19 +40,72 @@ export interface AdminStats {
   pendingVendors: number
 }
 
+// A vendor's figures over the trailing dashboard window (30 days by default)
+export interface VendorDashboardSummary {
+  from: string
+  to: string
+  bookings: number
+  cancellations: number
+  netRevenue: number
+  averageRating: number | null
+  reviewCount: number
+}
+
+// One page of an admin listing (users, vendors, bookings)
+export interface AdminPage<T> {
+  items: T[]
+  page: number
+  size: number
+  hasNext: boolean
+  total: number
+  totalExact: boolean
+}
+
+// A user listing row; vendor accounts carry the id of their vendor record
+export type AdminUser = User & { vendorId?: number | null }
+
+export interface AdminListParams {
+  q?: string
+  role?: string
+  status?: string
+  vendorId?: number // bookings only: those of the vendor's venues and events
+  page?: number
+  size?: number
+  sort?: string
+  direction?: "asc" | "desc"
+}
+
+const listQuery = (params: object = {}) => {
+  const query = new URLSearchParams()
+  Object.entries(params).forEach(([key, value]) => {
+    if (value !== undefined && value !== "") query.set(key, String(value))
+  })
+  const text = query.toString()
+  return text ? `?${text}` : ""
+}
+
+const listUsers = (params?: AdminListParams) =>
+  apiClient.get<AdminPage<AdminUser>>(`/api/admin/users${listQuery(params)}`)
+const listVendors = (params?: AdminListParams) =>
+  apiClient.get<AdminPage<Vendor>>(`/api/admin/vendors${listQuery(params)}`)
+const listBookings = (params?: AdminListParams) =>
+  apiClient.get<AdminPage<Booking>>(`/api/admin/bookings${listQuery(params)}`)
+
 export const adminApi = {
   // Dashboard stats
   getStats: () => apiClient.get<SystemStats>("/api/admin/stats"),
 
   // User management
-  getAllUsers: () => apiClient.get<User[]>("/api/admin/users"),
+  listUsers,
   updateUser: (id: number, data: Partial<User>) => apiClient.put<User>(`/api/admin/users/${id}`, data),
   deleteUser: (id: number) => apiClient.delete(`/api/admin/users/${id}`),
   adjustUserPoints: (userId: number, pointsChange: number, reason: string) =>
     apiClient.put(`/api/admin/users/${userId}/points`, { pointsChange, reason }),
 
   // Vendor management
-  getAllVendors: () => apiClient.get<Vendor[]>("/api/admin/vendors"),
+  listVendors,
+  getVendorDashboard: (vendorId: number) =>
+    apiClient.get<VendorDashboardSummary>(`/api/admin/vendors/${vendorId}/dashboard`),
   getPendingVendors: () =>
     apiClient.get<{ success: boolean; message: string; data: VendorData[] }>("/api/admin/vendors/pending"),
   approveVendor: (vendorId: number) =>
@@ -64,7 +117,7 @@ export const adminApi = {
   deleteVendor: (id: number) => apiClient.delete(`/api/admin/vendors/${id}`),
 
   // Booking management
-  getAllBookings: () => apiClient.get<{ success: boolean; message: string; data: Booking[] }>("/api/admin/bookings"),
+  listBookings,
   getBookingById: (id: number) =>
     apiClient.get<{ success: boolean; message: string; data: Booking }>(`/api/admin/bookings/${id}`),
 
@@ -83,12 +136,26 @@ export const adminApi = {
   updatePlatformFees: (fees: PlatformFees) =>
     apiClient.put<PlatformFees>("/api/admin/settings/platform-fees", fees),
 
-  // Audit logs
-  getAuditLogs: () => apiClient.get<{ success: boolean; data: AuditLog[] }>("/api/admin/audit-logs"),
-  getAuditLogsByEntityType: (entityType: string) =>
-    apiClient.get<{ success: boolean; data: AuditLog[] }>(`/api/admin/audit-logs/entity/${entityType}`),
-  getAuditLogsByAction: (action: string) =>
-    apiClient.get<{ success: boolean; data: AuditLog[] }>(`/api/admin/audit-logs/action/${action}`),
+  // Audit logs, newest first; pass the returned nextCursor to get the next page
+  getAuditLogs: (filters: AuditLogFilters = {}, cursor?: string, limit = 50) =>
+    apiClient.getEnvelope<AuditLogPage>(`/api/admin/audit-logs${listQuery({ ...filters, cursor, limit })}`),
+  // Every matching entry as one CSV or NDJSON file
+  exportAuditLogs: (filters: AuditLogFilters = {}, format: "csv" | "ndjson" = "csv") =>
+    apiClient.getBlob(`/api/admin/audit-logs/export${listQuery({ ...filters, format })}`),
+}
+
+export interface AuditLogFilters {
+  entityType?: string
+  action?: string
+  performedBy?: string
+  startDate?: string // yyyy-MM-dd
+  endDate?: string // yyyy-MM-dd, inclusive
+}
+
+export interface AuditLogPage {
+  success: boolean
+  data: AuditLog[]
+  nextCursor: string | null
 }
 
 export interface AuditLog {
@@ -154,6 +154,17 @@ export const apiClient = {
     return extractResponseData<T>(json)
   },
 
+  // The whole response body, for endpoints that return more than data (e.g. a nextCursor beside it)
+  async getEnvelope<T>(endpoint: string): Promise<T> {
+    const response = await fetchWithAuth(endpoint)
+    return (await response.json()) as T
+  },
+
+  async getBlob(endpoint: string): Promise<Blob> {
+    const response = await fetchWithAuth(endpoint)
+    return response.blob()
+  },
+
   async post<T>(endpoint: string, data?: unknown): Promise<T> {
     const response = await fetchWithAuth(endpoint, {
       method: "POST",
@@ -1,5 +1,5 @@
 import { apiClient } from "./client"
-import type { Venue } from "@/lib/types/booking"
+import type { ImageVariants, Venue } from "@/lib/types/booking"
 
 export interface VenueData {
   id: number
@@ -13,6 +13,7 @@ export interface VenueData {
   pricePerHour: number
   amenities?: string
   images?: string
+  imageVariants?: ImageVariants[]
   isAvailable: boolean
   rating: number
   totalBookings: number
@@ -39,6 +40,7 @@ const convertToVenue = (data: VenueData): Venue => ({
   pricePerHour: data.pricePerHour,
   amenities: data.amenities ? data.amenities.split(",").map((a) => a.trim()) : [],
   images: data.images ? data.images.split(",").map((i) => i.trim()) : [],
+  imageVariants: data.imageVariants,
   availability: data.isAvailable,
   isAvailable: data.isAvailable,
   featured: data.rating >= 4.5,
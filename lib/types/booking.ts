@@ -1,3 +1,11 @@
+// Resized copies of one uploaded image; external images repeat the original URL
+export interface ImageVariants {
+  original: string
+  thumb: string // 320px wide
+  card: string // 800px wide
+  full: string // 1600px wide
+}
+
 export interface VenueData {
   id: number
   vendorId: number
@@ -10,6 +18,7 @@ export interface VenueData {
   pricePerHour: number
   amenities?: string
   images?: string
+  imageVariants?: ImageVariants[]
   isAvailable: boolean
   rating: number
   totalBookings: number
@@ -56,6 +65,7 @@ export interface Venue {
   pricePerHour: number
   amenities: string[]
   images: string[]
+  imageVariants?: ImageVariants[] // Same order as images
   availability: boolean // Maps to isAvailable
   isAvailable: boolean
   featured: boolean
@@ -94,6 +104,7 @@ export interface Event {
   rating?: number // Average rating from reviews
   reviewCount?: number // Number of reviews
   images: string[] // Frontend converts from backend string
+  imageVariants?: ImageVariants[] // Same order as images
   ticketTypes: TicketType[] // Frontend only - for display purposes
   vendorPhone: string
   editCount?: number
@@ -148,6 +159,9 @@ export interface Review {
   comment: string
   status: "PENDING" | "APPROVED" | "REJECTED"
   createdAt: string
+  // Filled in by the detailed review listing
+  vendorId?: number
+  vendorName?: string
 }
 
 // Seat-based booking types
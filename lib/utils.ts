@@ -1,6 +1,12 @@
 import { clsx, type ClassValue } from 'clsx'
 import { twMerge } from 'tailwind-merge'
+import type { ImageVariants } from '@/lib/types/booking'
 
 export function cn(...inputs: ClassValue[]) {
   return twMerge(clsx(inputs))
 }
+
+// The resized copy of an image when the backend listed one, otherwise the image itself
+export function imageVariant(image: string, variants: ImageVariants[] | undefined, size: 'thumb' | 'card' | 'full') {
+  return variants?.find((variant) => variant.original === image)?.[size] || image
+}